@@ -0,0 +1,83 @@
+package com.example.maven.cache;
+
+import com.example.maven.enums.Role;
+import com.example.maven.security.UserPrincipal;
+import com.example.maven.security.UserPrincipalAuthToken;
+import com.example.maven.utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.expression.Expression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Key creation and local-tier hits for a single-task lookup. The SpEL variants evaluate the
+ * key expression TaskService used before typed keys, parsed once as Spring caches it, in a
+ * fresh evaluation context per call as the cache interceptor does.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheKeyBenchmark {
+	private static final long TASK_ID = 5L;
+
+	private final SecurityUtils securityUtils = new SecurityUtils();
+	private final TenantKeyGenerator keyGenerator = new TenantKeyGenerator(securityUtils);
+	private final Expression spelKey = new SpelExpressionParser().parseExpression("#id + '_' + @securityUtils.getCurrentTenantId()");
+	private Method method;
+	private Cache cache;
+
+	@Setup
+	public void setUp() throws NoSuchMethodException {
+		UserPrincipal principal = UserPrincipal.builder().id(42L).username("john").tenantId(7L).roles(Set.of(Role.ROLE_MEMBER)).build();
+		SecurityContextHolder.getContext().setAuthentication(new UserPrincipalAuthToken(principal));
+		method = CacheKeyBenchmark.class.getMethod("typedKey");
+
+		ConcurrentMapCacheManager remote = new ConcurrentMapCacheManager();
+		remote.getCache("tasks").put(spelKey(), "task-5");
+		remote.getCache("tasks").put(typedKey(), "task-5");
+		// Redis is never reached: both keys are loaded into the local tier here
+		cache = new TwoTierCacheManager(remote, null, null, null, null, new TwoTierCacheProperties(), new SimpleMeterRegistry())
+				.getCache("tasks");
+		cache.get(spelKey());
+		cache.get(typedKey());
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public Object spelKey() {
+		StandardEvaluationContext context = new StandardEvaluationContext();
+		context.setBeanResolver((evaluationContext, beanName) -> securityUtils);
+		context.setVariable("id", TASK_ID);
+		return spelKey.getValue(context);
+	}
+
+	@Benchmark
+	public Object typedKey() {
+		return keyGenerator.generate(this, method, TASK_ID);
+	}
+
+	@Benchmark
+	public Object spelKeyHit() {
+		return cache.get(spelKey()).get();
+	}
+
+	@Benchmark
+	public Object typedKeyHit() {
+		return cache.get(typedKey()).get();
+	}
+}
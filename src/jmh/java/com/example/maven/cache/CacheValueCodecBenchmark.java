@@ -0,0 +1,68 @@
+package com.example.maven.cache;
+
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.enums.TaskStatus;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of cached task lists with CacheValueCodec against JDK serialization,
+ * the Redis cache default before it. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheValueCodecBenchmark {
+	@Param({"1000", "10000"})
+	public int tasks;
+
+	private final CacheValueCodec codec = new CacheValueCodec();
+	private final JdkSerializationRedisSerializer jdk = new JdkSerializationRedisSerializer();
+	private List<TaskResponseDto> list;
+	private byte[] codecBytes;
+	private byte[] jdkBytes;
+
+	@Setup
+	public void setUp() {
+		LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 9, 0);
+		TaskStatus[] statuses = TaskStatus.values();
+		list = new ArrayList<>(tasks);
+		for (int i = 0; i < tasks; i++) {
+			list.add(new TaskResponseDto(100_000L + i, "Task " + i + " of sprint 12",
+					"Follow up on the customer report and update the ticket with the findings (" + i + ")",
+					i % 7 == 0 ? 0L : 500L + i % 40, statuses[i % statuses.length],
+					createdAt.plusMinutes(i), createdAt.plusDays(14).plusMinutes(i)));
+		}
+		codecBytes = codec.serialize(list);
+		jdkBytes = jdk.serialize(list);
+		System.out.printf("%n%d tasks: codec %d bytes, JDK %d bytes%n", tasks, codecBytes.length, jdkBytes.length);
+	}
+
+	@Benchmark
+	public byte[] codecEncode() {
+		return codec.serialize(list);
+	}
+
+	@Benchmark
+	public Object codecDecode() {
+		return codec.deserialize(codecBytes);
+	}
+
+	@Benchmark
+	public byte[] jdkEncode() {
+		return jdk.serialize(list);
+	}
+
+	@Benchmark
+	public Object jdkDecode() {
+		return jdk.deserialize(jdkBytes);
+	}
+}
@@ -0,0 +1,85 @@
+package com.example.maven.cache;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-tenant read/write mix on the task list cache. allEntries clears the region on every
+ * write, as TaskService did before ListCacheInvalidator; targeted evicts the written project's
+ * list and the tenant-wide list. A miss burns CPU in place of the database query. The hits and
+ * misses counters give the hit ratio as hits / (hits + misses).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class ListEvictionBenchmark {
+	private static final int TENANTS = 50;
+	private static final int PROJECTS_PER_TENANT = 10;
+	private static final int LOAD_COST_TOKENS = 2_000;
+
+	@Param({"allEntries", "targeted"})
+	public String eviction;
+
+	@Param({"0.05"})
+	public double writeRatio;
+
+	private Cache cache;
+	private ListCacheInvalidator invalidator;
+
+	@Setup
+	public void setUp() {
+		ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
+		cache = cacheManager.getCache(ListCacheInvalidator.PROJECT_TASKS);
+		invalidator = new ListCacheInvalidator(cacheManager);
+	}
+
+	@Benchmark
+	public Object readOrWrite(Counters counters) {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		long tenantId = random.nextInt(TENANTS);
+		long projectId = random.nextInt(PROJECTS_PER_TENANT);
+
+		if (random.nextDouble() < writeRatio) {
+			if (eviction.equals("targeted")) {
+				invalidator.evictProjectTasks(tenantId, projectId);
+			} else {
+				cache.clear();
+			}
+			return null;
+		}
+
+		// One read in ten is the tenant-wide list
+		TenantScopedKey key = TenantScopedKey.of(tenantId, random.nextInt(10) == 0 ? null : projectId);
+		Cache.ValueWrapper cached = cache.get(key);
+		if (cached != null) {
+			counters.hits++;
+			return cached.get();
+		}
+		counters.misses++;
+		Blackhole.consumeCPU(LOAD_COST_TOKENS);
+		cache.put(key, key.toString());
+		return key;
+	}
+
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class Counters {
+		public long hits;
+		public long misses;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			hits = 0;
+			misses = 0;
+		}
+	}
+}
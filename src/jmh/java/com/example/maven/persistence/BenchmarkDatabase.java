@@ -0,0 +1,88 @@
+package com.example.maven.persistence;
+
+import com.example.maven.config.HibernateConfig;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.orm.jpa.hibernate.SpringImplicitNamingStrategy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Throwaway Postgres schema for database benchmarks, migrated from db/migration and dropped on close.
+ * Needs BENCHMARK_DATABASE_URL (and BENCHMARK_DATABASE_USERNAME/PASSWORD), like RepositoryIndexExplainTest.
+ */
+public final class BenchmarkDatabase implements AutoCloseable {
+	private final String schema = "bench_" + Long.toHexString(System.nanoTime());
+	private final HikariDataSource dataSource;
+
+	public BenchmarkDatabase() {
+		String url = System.getenv("BENCHMARK_DATABASE_URL");
+		if (url == null || url.isBlank()) {
+			throw new IllegalStateException("Set BENCHMARK_DATABASE_URL to a Postgres database the benchmark may create a schema in");
+		}
+		String username = System.getenv().getOrDefault("BENCHMARK_DATABASE_USERNAME", "postgres");
+		String password = System.getenv().getOrDefault("BENCHMARK_DATABASE_PASSWORD", "");
+
+		Flyway.configure()
+				.dataSource(url, username, password)
+				.schemas(schema)
+				.load()
+				.migrate();
+
+		HikariConfig config = new HikariConfig();
+		config.setJdbcUrl(url);
+		config.setUsername(username);
+		config.setPassword(password);
+		config.setSchema(schema);
+		// As recommended in the README for the application's datasource
+		config.addDataSourceProperty("reWriteBatchedInserts", "true");
+		dataSource = new HikariDataSource(config);
+	}
+
+	public DataSource dataSource() {
+		return dataSource;
+	}
+
+	public void execute(String sql) throws SQLException {
+		try (Connection connection = dataSource.getConnection();
+			 Statement statement = connection.createStatement()) {
+			statement.execute(sql);
+		}
+	}
+
+	// Hibernate as Spring Boot sets it up for the application: its naming strategies and HibernateConfig's batching
+	public EntityManagerFactory entityManagerFactory() {
+		Map<String, Object> properties = new HashMap<>();
+		properties.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+		properties.put(AvailableSettings.IMPLICIT_NAMING_STRATEGY, SpringImplicitNamingStrategy.class.getName());
+		new HibernateConfig().jdbcBatching().customize(properties);
+
+		var factory = new LocalContainerEntityManagerFactoryBean();
+		factory.setDataSource(dataSource);
+		factory.setPackagesToScan("com.example.maven.persistence");
+		factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+		factory.setJpaPropertyMap(properties);
+		factory.afterPropertiesSet();
+		return factory.getObject();
+	}
+
+	@Override
+	public void close() throws SQLException {
+		try {
+			execute("drop schema " + schema + " cascade");
+		} finally {
+			dataSource.close();
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.example.maven.persistence;
+
+import com.example.maven.enums.TaskStatus;
+import com.example.maven.persistence.entity.Company;
+import com.example.maven.persistence.entity.Project;
+import com.example.maven.persistence.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Inserting a batch of tasks in one transaction. rowByRowGeneratedKeys is what IDENTITY ids forced on
+ * Hibernate: every row is its own statement and round trip, reading back the database-assigned key.
+ * pooledBatchedPersist persists entities through Hibernate with the pooled sequences and HibernateConfig's
+ * JDBC batching. Needs a Postgres database, see {@link BenchmarkDatabase}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TaskInsertBenchmark {
+	@Param({"10000"})
+	public int tasks;
+
+	private BenchmarkDatabase database;
+	private EntityManagerFactory entityManagerFactory;
+
+	@Setup
+	public void setUp() throws SQLException {
+		database = new BenchmarkDatabase();
+		database.execute("insert into companies (id, name, created_at) values (1, 'Acme', now())");
+		database.execute("insert into projects (id, company_id, name, description, created_at) values (1, 1, 'Backlog', 'All work', now())");
+		entityManagerFactory = database.entityManagerFactory();
+	}
+
+	@Setup(Level.Iteration)
+	public void emptyTable() throws SQLException {
+		database.execute("truncate tasks cascade");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		entityManagerFactory.close();
+		database.close();
+	}
+
+	@Benchmark
+	public long rowByRowGeneratedKeys() throws SQLException {
+		long lastId = 0;
+		try (Connection connection = database.dataSource().getConnection();
+			 PreparedStatement insert = connection.prepareStatement("""
+					 insert into tasks (id, company_id, project_id, name, description, status, created_at, due_to)
+					 values (nextval('tasks_seq'), 1, 1, ?, ?, ?, ?, ?)""", Statement.RETURN_GENERATED_KEYS)) {
+			connection.setAutoCommit(false);
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			for (int i = 0; i < tasks; i++) {
+				insert.setString(1, "Task " + i);
+				insert.setString(2, "Imported from the integration sync");
+				insert.setString(3, TaskStatus.TODO.name());
+				insert.setTimestamp(4, now);
+				insert.setTimestamp(5, now);
+				insert.executeUpdate();
+				try (ResultSet keys = insert.getGeneratedKeys()) {
+					keys.next();
+					lastId = keys.getLong(1);
+				}
+			}
+			connection.commit();
+		}
+		return lastId;
+	}
+
+	@Benchmark
+	public long pooledBatchedPersist() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			entityManager.getTransaction().begin();
+			Company company = entityManager.getReference(Company.class, 1L);
+			Project project = entityManager.getReference(Project.class, 1L);
+			LocalDateTime now = LocalDateTime.now();
+			Task task = null;
+			for (int i = 0; i < tasks; i++) {
+				task = new Task();
+				task.setName("Task " + i);
+				task.setDescription("Imported from the integration sync");
+				task.setDueTo(now);
+				task.setCompany(company);
+				task.setProject(project);
+				entityManager.persist(task);
+			}
+			entityManager.getTransaction().commit();
+			return task != null ? task.getId() : 0;
+		} finally {
+			entityManager.close();
+		}
+	}
+}
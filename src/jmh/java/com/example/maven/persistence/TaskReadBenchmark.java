@@ -0,0 +1,103 @@
+package com.example.maven.persistence;
+
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.api.mapper.TaskMapper;
+import com.example.maven.persistence.entity.Task;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading a tenant's tasks as response records: hydrated entities copied through TaskMapper, as
+ * TaskService did before, against a constructor projection in a read-only session, the shape of
+ * TaskRepositoryCustom#findResponses. Run with -prof gc for the allocation per list.
+ * Needs a Postgres database, see {@link BenchmarkDatabase}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskReadBenchmark {
+	private static final long COMPANY_ID = 1L;
+
+	@Param({"10000"})
+	public int tasks;
+
+	private final TaskMapper taskMapper = new TaskMapper();
+	private BenchmarkDatabase database;
+	private EntityManagerFactory entityManagerFactory;
+
+	@Setup
+	public void setUp() throws SQLException {
+		database = new BenchmarkDatabase();
+		database.execute("insert into companies (id, name, created_at) values (1, 'Acme', now())");
+		database.execute("insert into projects (id, company_id, name, description, created_at) values (1, 1, 'Backlog', 'All work', now())");
+		database.execute("""
+				insert into users (id, company_id, username, displayed_name, email, password, role_mask)
+				select g, 1, 'user' || g, 'User ' || g, 'user' || g || '@acme.test', 'x', 2 from generate_series(1, 40) g""");
+		database.execute("""
+				insert into tasks (id, company_id, project_id, name, description, assignee_id, status, created_at, due_to)
+				select g, 1, 1, 'Task ' || g || ' of sprint 12',
+					   'Follow up on the customer report and update the ticket with the findings (' || g || ')',
+					   case when g %% 7 = 0 then null else 1 + g %% 40 end, 'TODO',
+					   now() - g * interval '1 minute', now() + interval '14 days'
+				from generate_series(1, %d) g""".formatted(tasks));
+		database.execute("analyze");
+		entityManagerFactory = database.entityManagerFactory();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		entityManagerFactory.close();
+		database.close();
+	}
+
+	@Benchmark
+	public List<TaskResponseDto> hydratedEntities() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			entityManager.getTransaction().begin();
+			List<TaskResponseDto> responses = entityManager
+					.createQuery("select t from Task t where t.company.id = :companyId", Task.class)
+					.setParameter("companyId", COMPANY_ID)
+					.getResultList().stream()
+					.map(taskMapper::toResponseDto)
+					.toList();
+			entityManager.getTransaction().commit();
+			return responses;
+		} finally {
+			entityManager.close();
+		}
+	}
+
+	@Benchmark
+	public List<TaskResponseDto> readOnlyProjection() {
+		EntityManager entityManager = entityManagerFactory.createEntityManager();
+		try {
+			// What @Transactional(readOnly = true) applies to the session
+			Session session = entityManager.unwrap(Session.class);
+			session.setDefaultReadOnly(true);
+			session.setHibernateFlushMode(FlushMode.MANUAL);
+			entityManager.getTransaction().begin();
+			List<TaskResponseDto> responses = entityManager.createQuery("""
+							select new com.example.maven.api.dto.response.TaskResponseDto(
+								t.id, t.name, t.description, coalesce(a.id, 0L), t.status, t.createdAt, t.dueTo)
+							from Task t left join t.assignee a
+							where t.company.id = :companyId""", TaskResponseDto.class)
+					.setParameter("companyId", COMPANY_ID)
+					.getResultList();
+			entityManager.getTransaction().commit();
+			return responses;
+		} finally {
+			entityManager.close();
+		}
+	}
+}
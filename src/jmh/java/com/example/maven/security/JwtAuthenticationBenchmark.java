@@ -0,0 +1,57 @@
+package com.example.maven.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.maven.enums.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a bearer token into an authentication, per request.
+ * perRequestVerifier is the path before the shared verifier: a new HMAC algorithm and verifier for every token.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthenticationBenchmark {
+	private JwtProperties properties;
+	private JwtDecoder decoder;
+	private JwtToPrincipalConverter converter;
+	private JwtAuthenticationCache cache;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		properties = new JwtProperties();
+		properties.setSecretKey("benchmark-secret-benchmark-secret");
+		decoder = new JwtDecoder(properties);
+		converter = new JwtToPrincipalConverter();
+		cache = new JwtAuthenticationCache(properties);
+		token = new JwtIssuer(properties).issue(42L, "john", Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN), 7L, 0);
+
+		DecodedJWT jwt = decoder.decode(token);
+		cache.put(token, converter.convert(jwt), jwt.getExpiresAtAsInstant());
+	}
+
+	@Benchmark
+	public UserPrincipalAuthToken perRequestVerifier() {
+		DecodedJWT jwt = JWT.require(Algorithm.HMAC256(properties.getSecretKey())).build().verify(token);
+		return new UserPrincipalAuthToken(converter.convert(jwt));
+	}
+
+	@Benchmark
+	public UserPrincipalAuthToken sharedVerifier() {
+		return new UserPrincipalAuthToken(converter.convert(decoder.decode(token)));
+	}
+
+	@Benchmark
+	public UserPrincipalAuthToken cachedAuthentication() {
+		return new UserPrincipalAuthToken(cache.get(token).orElseThrow());
+	}
+}
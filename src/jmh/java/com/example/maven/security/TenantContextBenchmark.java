@@ -0,0 +1,80 @@
+package com.example.maven.security;
+
+import com.example.maven.enums.Role;
+import com.example.maven.utils.SecurityUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request cost of the tenant and user lookups a cached service call makes
+ * (key generation, an evict and the method body): LOOKUPS_PER_REQUEST reads of the tenant plus one of the user.
+ * securityContextLookups is the path before TenantContext; tenantContextLookups includes the filter's set and clear,
+ * tenantContextLookupsOnly leaves them out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TenantContextBenchmark {
+	private static final int LOOKUPS_PER_REQUEST = 3;
+
+	private final SecurityUtils securityUtils = new SecurityUtils();
+	private UserPrincipal principal;
+
+	@Setup
+	public void setUp() {
+		principal = UserPrincipal.builder().id(42L).username("john").tenantId(7L).roles(Set.of(Role.ROLE_MEMBER)).build();
+		SecurityContextHolder.getContext().setAuthentication(new UserPrincipalAuthToken(principal));
+	}
+
+	@TearDown
+	public void tearDown() {
+		SecurityContextHolder.clearContext();
+	}
+
+	@Benchmark
+	public void securityContextLookups(Blackhole blackhole) {
+		lookUp(blackhole);
+	}
+
+	@Benchmark
+	public void tenantContextLookups(Blackhole blackhole) {
+		TenantContext.set(principal);
+		try {
+			lookUp(blackhole);
+		} finally {
+			TenantContext.clear();
+		}
+	}
+
+	@Benchmark
+	public void tenantContextLookupsOnly(ResolvedContext context, Blackhole blackhole) {
+		lookUp(blackhole);
+	}
+
+	private void lookUp(Blackhole blackhole) {
+		for (int i = 0; i < LOOKUPS_PER_REQUEST; i++) {
+			blackhole.consume(securityUtils.getCurrentTenantId());
+		}
+		blackhole.consume(securityUtils.getCurrentUserId());
+	}
+
+	@State(Scope.Thread)
+	public static class ResolvedContext {
+		@Setup
+		public void setUp(TenantContextBenchmark benchmark) {
+			TenantContext.set(benchmark.principal);
+		}
+
+		@TearDown
+		public void tearDown() {
+			TenantContext.clear();
+		}
+	}
+}
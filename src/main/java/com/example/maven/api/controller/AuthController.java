@@ -1,12 +1,15 @@
 package com.example.maven.api.controller;
 
 import com.example.maven.api.dto.request.auth.LoginRequest;
+import com.example.maven.api.dto.request.auth.RefreshTokenRequest;
 import com.example.maven.api.dto.request.company.CompanyCreateDto;
 import com.example.maven.api.dto.response.CompanyResponseDto;
 import com.example.maven.api.dto.response.LoginResponse;
+import com.example.maven.security.ClientIpResolver;
 import com.example.maven.service.AuthService;
 import com.example.maven.service.CompanyService;
 import jakarta.annotation.security.PermitAll;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -25,11 +28,18 @@ import java.net.URI;
 public class AuthController {
 	private final AuthService authService;
 	private final CompanyService companyService;
+	private final ClientIpResolver clientIpResolver;
 
 	@PermitAll
 	@PostMapping("/login")
-	public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request){
-		return ResponseEntity.ok(authService.attemptLogin(request.username(), request.password()));
+	public ResponseEntity<LoginResponse> login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest){
+		return ResponseEntity.ok(authService.attemptLogin(request.username(), request.password(), clientIpResolver.resolve(httpRequest)));
+	}
+
+	@PermitAll
+	@PostMapping("/refresh")
+	public ResponseEntity<LoginResponse> refresh(@RequestBody @Valid RefreshTokenRequest request, HttpServletRequest httpRequest){
+		return ResponseEntity.ok(authService.refresh(request.refreshToken(), clientIpResolver.resolve(httpRequest)));
 	}
 
 	@PermitAll
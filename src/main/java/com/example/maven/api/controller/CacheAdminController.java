@@ -0,0 +1,26 @@
+package com.example.maven.api.controller;
+
+import com.example.maven.cache.CacheRegionStats;
+import com.example.maven.cache.TwoTierCacheManager;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/cache")
+@AllArgsConstructor
+public class CacheAdminController {
+	private final TwoTierCacheManager cacheManager;
+
+	// Per-region statistics of this node; no cached data is exposed
+	@GetMapping("/stats")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<List<CacheRegionStats>> getStats(){
+		return ResponseEntity.ok(cacheManager.stats());
+	}
+}
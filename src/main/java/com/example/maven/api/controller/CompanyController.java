@@ -0,0 +1,30 @@
+package com.example.maven.api.controller;
+
+import com.example.maven.api.dto.response.TenantPurgeResponseDto;
+import com.example.maven.security.UserPrincipal;
+import com.example.maven.service.CompanyService;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/company")
+@AllArgsConstructor
+public class CompanyController {
+	private final CompanyService companyService;
+
+	// Deletes the caller's company and all of its data in the background
+	@DeleteMapping
+	@PreAuthorize("hasRole('OWNER')")
+	public ResponseEntity<TenantPurgeResponseDto> deleteCompany(@AuthenticationPrincipal UserPrincipal principal){
+		return ResponseEntity.accepted().body(companyService.deleteCompany(principal.getTenantId()));
+	}
+
+	// Public: the owner is locked out by the deletion itself, so the id returned by DELETE is the only credential
+	@GetMapping("/deletions/{deletionId}")
+	public ResponseEntity<TenantPurgeResponseDto> getCompanyDeletion(@PathVariable String deletionId){
+		return ResponseEntity.ok(companyService.findCompanyDeletion(deletionId));
+	}
+}
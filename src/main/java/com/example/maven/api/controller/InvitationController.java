@@ -3,7 +3,10 @@ package com.example.maven.api.controller;
 import com.example.maven.api.dto.request.invitation.InvitationAcceptDto;
 import com.example.maven.api.dto.request.invitation.InvitationCreateDto;
 import com.example.maven.api.dto.response.UserResponseDto;
+import com.example.maven.security.ClientIpResolver;
+import com.example.maven.security.LoginThrottle;
 import com.example.maven.service.InvitationService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +18,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class InvitationController {
     private final InvitationService invitationService;
+    private final LoginThrottle loginThrottle;
+    private final ClientIpResolver clientIpResolver;
 
     @PostMapping
     @PreAuthorize("hasRole('ADMIN')")
@@ -26,7 +31,10 @@ public class InvitationController {
     @PostMapping("/accept")
     public ResponseEntity<UserResponseDto> acceptInvitation(
             @RequestParam String token,
-            @Valid @RequestBody InvitationAcceptDto dto) {
+            @Valid @RequestBody InvitationAcceptDto dto,
+            HttpServletRequest httpRequest) {
+        // Checked here so a rejected guess never opens the service's transaction
+        loginThrottle.check(clientIpResolver.resolve(httpRequest));
         return ResponseEntity.ok(invitationService.acceptInvitation(token, dto));
     }
 }
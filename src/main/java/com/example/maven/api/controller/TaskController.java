@@ -1,14 +1,25 @@
 package com.example.maven.api.controller;
 
+import com.example.maven.api.dto.request.task.TaskBatchCreateDto;
+import com.example.maven.api.dto.request.task.TaskBatchUpdateDto;
+import com.example.maven.api.dto.request.task.TaskBulkUpdateDto;
 import com.example.maven.api.dto.request.task.TaskCreateDto;
+import com.example.maven.api.dto.request.task.TaskPageRequest;
 import com.example.maven.api.dto.request.task.TaskUpdateDto;
+import com.example.maven.api.dto.response.TaskBulkUpdateResponseDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
 import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.enums.TaskSort;
+import com.example.maven.enums.TaskStatus;
 import com.example.maven.service.TaskService;
+import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -23,12 +34,42 @@ public class TaskController {
 		return ResponseEntity.ok(taskService.createTask(dto));
 	}
 
+	// All tasks are created in one transaction, or none when any project or assignee is missing
+	@PostMapping("/batch")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<List<TaskResponseDto>> createTasks(@Valid @RequestBody TaskBatchCreateDto dto){
+		return ResponseEntity.ok(taskService.createTasks(dto.getTasks()));
+	}
+
+	@PatchMapping("/batch")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<List<TaskResponseDto>> updateTasks(@Valid @RequestBody TaskBatchUpdateDto dto){
+		return ResponseEntity.ok(taskService.updateTasks(dto.getTasks()));
+	}
+
+	// Sets status, assignee or project of every task the filter selects, in one statement
+	@PatchMapping("/bulk")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<TaskBulkUpdateResponseDto> bulkUpdateTasks(@Valid @RequestBody TaskBulkUpdateDto dto){
+		return ResponseEntity.ok(taskService.bulkUpdateTasks(dto));
+	}
+
 	@GetMapping
 	@PreAuthorize("hasRole('MEMBER')")
-	public ResponseEntity<List<TaskResponseDto>> getTasksByProject(
-			@RequestParam(required = false) Long projectId
+	public ResponseEntity<TaskPageResponseDto> getTasks(
+			@RequestParam(required = false) Long projectId,
+			@RequestParam(required = false) TaskStatus status,
+			@RequestParam(required = false) Long assigneeId,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueFrom,
+			@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime dueTo,
+			@RequestParam(defaultValue = "NEWEST") TaskSort sort,
+			@RequestParam(defaultValue = "" + TaskPageRequest.DEFAULT_SIZE) int size,
+			@RequestParam(required = false) String cursor
 	){
-		return ResponseEntity.ok(taskService.findAllTasksByProjectId(projectId));
+		var request = new TaskPageRequest(projectId, status, assigneeId, dueFrom, dueTo, sort, size, cursor);
+		return ResponseEntity.ok(request.isCachedFirstPage()
+				? taskService.findFirstTaskPage(projectId)
+				: taskService.findTaskPage(request));
 	}
 
 	@GetMapping("/{id}")
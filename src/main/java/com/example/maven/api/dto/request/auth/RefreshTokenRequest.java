@@ -0,0 +1,8 @@
+package com.example.maven.api.dto.request.auth;
+
+import jakarta.validation.constraints.NotBlank;
+
+public record RefreshTokenRequest(
+		@NotBlank(message = "Refresh token is required")
+		String refreshToken
+) {}
@@ -0,0 +1,20 @@
+package com.example.maven.api.dto.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TaskBatchCreateDto {
+	public static final int MAX_ITEMS = 2000;
+
+	@NotEmpty(message = "tasks must not be empty")
+	@Size(max = MAX_ITEMS, message = "At most " + MAX_ITEMS + " tasks per batch")
+	private List<@NotNull(message = "task must not be null") @Valid TaskCreateDto> tasks;
+}
@@ -0,0 +1,18 @@
+package com.example.maven.api.dto.request.task;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class TaskBatchUpdateDto {
+	@NotEmpty(message = "tasks must not be empty")
+	@Size(max = TaskBatchCreateDto.MAX_ITEMS, message = "At most " + TaskBatchCreateDto.MAX_ITEMS + " tasks per batch")
+	private List<@NotNull(message = "task must not be null") @Valid TaskBatchUpdateItemDto> tasks;
+}
@@ -0,0 +1,11 @@
+package com.example.maven.api.dto.request.task;
+
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+
+// One entry of a batch update: the task id plus the same optional fields as a single update
+@Getter
+public class TaskBatchUpdateItemDto extends TaskUpdateDto {
+	@Positive(message = "Task id must be a positive number")
+	private long id;
+}
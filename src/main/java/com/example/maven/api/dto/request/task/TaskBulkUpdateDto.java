@@ -0,0 +1,42 @@
+package com.example.maven.api.dto.request.task;
+
+import com.example.maven.enums.TaskStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+// Applies the same changes to every task the filter selects, in one statement
+public record TaskBulkUpdateDto(
+		@NotNull(message = "filter is required")
+		@Valid
+		Filter filter,
+
+		@NotNull(message = "set is required")
+		Changes set
+) {
+	// Tasks matching all given criteria; at least one is required, so a request never touches the whole tenant by accident
+	public record Filter(
+			@Size(max = TaskBatchCreateDto.MAX_ITEMS, message = "At most " + TaskBatchCreateDto.MAX_ITEMS + " ids per request")
+			List<@NotNull(message = "id must not be null") Long> ids,
+			Long projectId,
+			TaskStatus status,
+			Long assigneeId
+	) {
+		public boolean hasCriteria() {
+			return (ids != null && !ids.isEmpty()) || projectId != null || status != null || assigneeId != null;
+		}
+	}
+
+	// Omitted fields stay as they are; assigneeId 0 unassigns, projectId moves the tasks
+	public record Changes(
+			TaskStatus status,
+			Long assigneeId,
+			Long projectId
+	) {
+		public boolean hasChanges() {
+			return status != null || assigneeId != null || projectId != null;
+		}
+	}
+}
@@ -0,0 +1,38 @@
+package com.example.maven.api.dto.request.task;
+
+import com.example.maven.enums.TaskSort;
+import com.example.maven.enums.TaskStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * One page of GET /api/tasks. All filters are optional; {@code cursor} is the {@code nextCursor}
+ * of the previous page and must be used with the same sort. Sizes are clamped to 1..{@value #MAX_SIZE}.
+ */
+public record TaskPageRequest(
+		Long projectId,
+		TaskStatus status,
+		Long assigneeId,
+		LocalDateTime dueFrom,
+		LocalDateTime dueTo,
+		TaskSort sort,
+		int size,
+		String cursor
+) {
+	public static final int DEFAULT_SIZE = 50;
+	public static final int MAX_SIZE = 200;
+
+	public TaskPageRequest {
+		if (sort == null) sort = TaskSort.NEWEST;
+		size = Math.clamp(size, 1, MAX_SIZE);
+	}
+
+	public static TaskPageRequest firstPage(Long projectId) {
+		return new TaskPageRequest(projectId, null, null, null, null, TaskSort.NEWEST, DEFAULT_SIZE, null);
+	}
+
+	// The page kept in the projectTasks cache: first page of a project (or all tasks) in default order and size
+	public boolean isCachedFirstPage() {
+		return equals(firstPage(projectId));
+	}
+}
@@ -1,8 +1,10 @@
 package com.example.maven.api.dto.response;
 
+import java.io.Serializable;
+
 public record CommentResponseDto(
 		long id,
 		long taskId,
 		long authorId,
 		String contents
-) {}
+) implements Serializable {}
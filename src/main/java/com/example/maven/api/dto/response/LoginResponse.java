@@ -1,6 +1,7 @@
 package com.example.maven.api.dto.response;
 
 public record LoginResponse(
-		String accessToken
+		String accessToken,
+		String refreshToken
 )
-{}
\ No newline at end of file
+{}
@@ -1,5 +1,6 @@
 package com.example.maven.api.dto.response;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record ProjectResponseDto(
@@ -7,4 +8,4 @@ public record ProjectResponseDto(
 		String name,
 		String description,
 		LocalDateTime createdAt
-) {}
+) implements Serializable {}
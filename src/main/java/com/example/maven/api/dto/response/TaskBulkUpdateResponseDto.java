@@ -0,0 +1,5 @@
+package com.example.maven.api.dto.response;
+
+public record TaskBulkUpdateResponseDto(
+		int updated
+) {}
@@ -0,0 +1,10 @@
+package com.example.maven.api.dto.response;
+
+import java.io.Serializable;
+import java.util.List;
+
+// nextCursor is null on the last page
+public record TaskPageResponseDto(
+		List<TaskResponseDto> items,
+		String nextCursor
+) implements Serializable {}
@@ -2,6 +2,7 @@ package com.example.maven.api.dto.response;
 
 import com.example.maven.enums.TaskStatus;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 public record TaskResponseDto(
@@ -12,4 +13,4 @@ public record TaskResponseDto(
 		TaskStatus status,
 		LocalDateTime createdAt,
 		LocalDateTime dueTo
-) {}
+) implements Serializable {}
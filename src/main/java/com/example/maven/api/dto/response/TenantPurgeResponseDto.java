@@ -0,0 +1,18 @@
+package com.example.maven.api.dto.response;
+
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
+
+import java.time.LocalDateTime;
+
+// Served without a login, so the failure itself stays in the server log
+public record TenantPurgeResponseDto(
+		String id,
+		long companyId,
+		TenantPurgeStatus status,
+		TenantPurgeStep step,
+		long deletedRows,
+		LocalDateTime requestedAt,
+		LocalDateTime updatedAt,
+		LocalDateTime finishedAt
+) {}
@@ -2,6 +2,7 @@ package com.example.maven.api.dto.response;
 
 import com.example.maven.enums.Role;
 
+import java.io.Serializable;
 import java.util.Set;
 
 public record UserResponseDto(
@@ -10,4 +11,4 @@ public record UserResponseDto(
 	String displayedName,
 	String email,
 	Set<Role> roles
-) {}
+) implements Serializable {}
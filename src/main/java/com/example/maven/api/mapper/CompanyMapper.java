@@ -2,7 +2,9 @@ package com.example.maven.api.mapper;
 
 import com.example.maven.api.dto.request.company.CompanyCreateDto;
 import com.example.maven.api.dto.response.CompanyResponseDto;
+import com.example.maven.api.dto.response.TenantPurgeResponseDto;
 import com.example.maven.persistence.entity.Company;
+import com.example.maven.persistence.entity.TenantPurge;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -20,4 +22,17 @@ public class CompanyMapper {
 		company.setName(dto.name());
 		return company;
 	}
+
+	public TenantPurgeResponseDto toPurgeResponseDto(TenantPurge purge){
+		return new TenantPurgeResponseDto(
+				purge.getPublicId(),
+				purge.getCompanyId(),
+				purge.getStatus(),
+				purge.getStep(),
+				purge.getDeletedRows(),
+				purge.getRequestedAt(),
+				purge.getUpdatedAt(),
+				purge.getFinishedAt()
+		);
+	}
 }
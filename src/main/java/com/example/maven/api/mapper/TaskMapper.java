@@ -17,7 +17,7 @@ public class TaskMapper {
 				task.getId(),
 				task.getName(),
 				task.getDescription(),
-				task.getAssignee().getId(),
+				task.getAssignee() != null ? task.getAssignee().getId() : 0,
 				task.getStatus(),
 				task.getCreatedAt(),
 				task.getDueTo()
@@ -0,0 +1,59 @@
+package com.example.maven.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Runs cache writes once the surrounding transaction has committed, and drops them on rollback.
+ * Spring does not run synchronizations registered while the current ones complete, so a write
+ * issued from within another action (a list patch writing through the cache, say) runs at once.
+ * After-commit code that writes through the cache must therefore be scheduled here as well.
+ */
+final class AfterCommit {
+	private static final ThreadLocal<Boolean> COMPLETING = ThreadLocal.withInitial(() -> false);
+
+	private AfterCommit() {
+	}
+
+	// True when run(action) would wait for a commit instead of running the action at once
+	static boolean defers() {
+		return TransactionSynchronizationManager.isSynchronizationActive() && !COMPLETING.get();
+	}
+
+	static void run(Runnable action) {
+		if (!defers()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				COMPLETING.set(true);
+				try {
+					action.run();
+				} finally {
+					COMPLETING.remove();
+				}
+			}
+		});
+	}
+
+	// As run(action), then whenDone once the transaction has completed, committed or rolled back
+	static void run(Runnable action, Runnable whenDone) {
+		if (!defers()) {
+			try {
+				action.run();
+			} finally {
+				whenDone.run();
+			}
+			return;
+		}
+		run(action);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				whenDone.run();
+			}
+		});
+	}
+}
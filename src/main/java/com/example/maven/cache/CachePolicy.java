@@ -0,0 +1,12 @@
+package com.example.maven.cache;
+
+import java.time.Duration;
+
+// Effective settings of one cache region, see TwoTierCacheProperties
+public record CachePolicy(
+		long localMaximumWeight,
+		Duration localTtl,
+		Duration redisTtl,
+		boolean cacheNulls,
+		double refreshAheadBeta
+) {}
@@ -0,0 +1,77 @@
+package com.example.maven.cache;
+
+import com.example.maven.security.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs refresh-ahead loads off the request thread. The loader re-enters the cached service
+ * method, so it runs with the caller's TenantContext and security context inside a
+ * read-only transaction. Refreshes are optional: when the queue is full they are skipped.
+ */
+@Slf4j
+@Component
+public class CacheRefresher implements DisposableBean {
+	private static final int THREADS = 2;
+	private static final int QUEUE_CAPACITY = 256;
+
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor executor;
+	private final Counter skipped;
+
+	public CacheRefresher(PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+
+		var threadCounter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				THREADS, THREADS,
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+				runnable -> {
+					Thread thread = new Thread(runnable, "cache-refresh-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+		this.skipped = Counter.builder("cache.refresh.skipped").register(meterRegistry);
+	}
+
+	// whenDone always runs exactly once, also when the refresh fails or is skipped
+	public void submit(Runnable refresh, Runnable whenDone) {
+		Runnable task = () -> {
+			try {
+				transactionTemplate.executeWithoutResult(status -> refresh.run());
+			} catch (Exception e) {
+				log.debug("Cache refresh-ahead failed: {}", e.getMessage());
+			} finally {
+				whenDone.run();
+			}
+		};
+		try {
+			executor.execute(new DelegatingSecurityContextRunnable(TenantContext.propagate(task), SecurityContextHolder.getContext()));
+		} catch (RejectedExecutionException e) {
+			skipped.increment();
+			whenDone.run();
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
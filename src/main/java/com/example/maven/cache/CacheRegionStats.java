@@ -0,0 +1,23 @@
+package com.example.maven.cache;
+
+import java.time.Duration;
+
+// Counters since node start for one region; hitRatio counts hits on either tier
+public record CacheRegionStats(
+		String name,
+		long localSize,
+		long localEvictions,
+		long localHits,
+		long localMisses,
+		long redisHits,
+		long redisMisses,
+		double hitRatio,
+		long loads,
+		double meanLoadMillis,
+		double maxLoadMillis,
+		long coalescedLoads,
+		long refreshesAhead,
+		Duration redisTtl,
+		Duration localTtl,
+		long localMaximumWeight
+) {}
@@ -0,0 +1,290 @@
+package com.example.maven.cache;
+
+import com.example.maven.api.dto.response.CommentResponseDto;
+import com.example.maven.api.dto.response.ProjectResponseDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.api.dto.response.UserResponseDto;
+import com.example.maven.enums.Role;
+import com.example.maven.enums.TaskStatus;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Binary Redis encoding of the cached response records and lists of them.
+ * Layout: schema version byte, then a tagged value. Ids are unsigned varints, enums are
+ * stored by ordinal (roles as their bit mask), timestamps as UTC epoch seconds plus nanos,
+ * strings as length-prefixed UTF-8 with length 0 meaning null.
+ *
+ * <p>Any change to a record layout or enum order must bump {@link #VERSION}. Entries written
+ * with another version read as a cache miss, so old and new nodes can run side by side.
+ * Values of other types fall back to JDK serialization.
+ */
+public class CacheValueCodec implements RedisSerializer<Object> {
+	static final byte VERSION = 2;
+
+	private static final byte NULL_VALUE = 0;
+	private static final byte JAVA = 1;
+	private static final byte TASK = 2;
+	private static final byte PROJECT = 3;
+	private static final byte USER = 4;
+	private static final byte COMMENT = 5;
+	private static final byte LIST = 6;
+	private static final byte TASK_PAGE = 7;
+
+	private static final TaskStatus[] TASK_STATUSES = TaskStatus.values();
+
+	private final JdkSerializationRedisSerializer fallback = new JdkSerializationRedisSerializer();
+
+	@Override
+	public byte[] serialize(Object value) {
+		if (value == null) return null;
+		var out = new Output(64);
+		out.writeByte(VERSION);
+		writeValue(out, value);
+		return out.toByteArray();
+	}
+
+	@Override
+	public Object deserialize(byte[] bytes) {
+		if (bytes == null || bytes.length == 0 || bytes[0] != VERSION) return null;
+		try {
+			var in = new Input(bytes, 1);
+			return readValue(in);
+		} catch (RuntimeException e) {
+			throw new SerializationException("Cannot decode cached value", e);
+		}
+	}
+
+	private void writeValue(Output out, Object value) {
+		switch (value) {
+			case NullValue ignored -> out.writeByte(NULL_VALUE);
+			case TaskResponseDto task -> {
+				out.writeByte(TASK);
+				out.writeVarLong(task.id());
+				out.writeString(task.name());
+				out.writeString(task.description());
+				out.writeVarLong(task.assigneeId());
+				out.writeVarInt(task.status() != null ? task.status().ordinal() + 1 : 0);
+				out.writeDateTime(task.createdAt());
+				out.writeDateTime(task.dueTo());
+			}
+			case ProjectResponseDto project -> {
+				out.writeByte(PROJECT);
+				out.writeVarLong(project.id());
+				out.writeString(project.name());
+				out.writeString(project.description());
+				out.writeDateTime(project.createdAt());
+			}
+			case UserResponseDto user -> {
+				out.writeByte(USER);
+				out.writeVarLong(user.id());
+				out.writeString(user.username());
+				out.writeString(user.displayedName());
+				out.writeString(user.email());
+				out.writeVarInt(Role.toMask(user.roles()));
+			}
+			case CommentResponseDto comment -> {
+				out.writeByte(COMMENT);
+				out.writeVarLong(comment.id());
+				out.writeVarLong(comment.taskId());
+				out.writeVarLong(comment.authorId());
+				out.writeString(comment.contents());
+			}
+			case TaskPageResponseDto page -> {
+				out.writeByte(TASK_PAGE);
+				out.writeString(page.nextCursor());
+				writeValue(out, page.items());
+			}
+			case List<?> list -> {
+				out.writeByte(LIST);
+				out.writeVarInt(list.size());
+				for (Object element : list) {
+					writeValue(out, element != null ? element : NullValue.INSTANCE);
+				}
+			}
+			default -> {
+				out.writeByte(JAVA);
+				byte[] serialized = fallback.serialize(value);
+				out.writeVarInt(serialized.length);
+				out.writeBytes(serialized);
+			}
+		}
+	}
+
+	private Object readValue(Input in) {
+		byte tag = in.readByte();
+		return switch (tag) {
+			case NULL_VALUE -> NullValue.INSTANCE;
+			case TASK -> new TaskResponseDto(
+					in.readVarLong(),
+					in.readString(),
+					in.readString(),
+					in.readVarLong(),
+					readTaskStatus(in.readVarInt()),
+					in.readDateTime(),
+					in.readDateTime()
+			);
+			case PROJECT -> new ProjectResponseDto(
+					in.readVarLong(),
+					in.readString(),
+					in.readString(),
+					in.readDateTime()
+			);
+			case USER -> new UserResponseDto(
+					in.readVarLong(),
+					in.readString(),
+					in.readString(),
+					in.readString(),
+					Role.fromMask(in.readVarInt())
+			);
+			case COMMENT -> new CommentResponseDto(
+					in.readVarLong(),
+					in.readVarLong(),
+					in.readVarLong(),
+					in.readString()
+			);
+			case TASK_PAGE -> {
+				String nextCursor = in.readString();
+				@SuppressWarnings("unchecked")
+				var items = (List<TaskResponseDto>) readValue(in);
+				yield new TaskPageResponseDto(items, nextCursor);
+			}
+			case LIST -> {
+				Object[] elements = new Object[in.readVarInt()];
+				for (int i = 0; i < elements.length; i++) {
+					Object element = readValue(in);
+					elements[i] = element == NullValue.INSTANCE ? null : element;
+				}
+				yield Arrays.asList(elements);
+			}
+			case JAVA -> fallback.deserialize(in.readBytes(in.readVarInt()));
+			default -> throw new IllegalStateException("Unknown type tag " + tag);
+		};
+	}
+
+	private static TaskStatus readTaskStatus(int encoded) {
+		return encoded == 0 ? null : TASK_STATUSES[encoded - 1];
+	}
+
+	private static final class Output {
+		private byte[] buffer;
+		private int size;
+
+		Output(int initialCapacity) {
+			buffer = new byte[initialCapacity];
+		}
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			buffer[size++] = (byte) value;
+		}
+
+		void writeBytes(byte[] bytes) {
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, size, bytes.length);
+			size += bytes.length;
+		}
+
+		void writeVarInt(int value) {
+			writeVarLong(value & 0xFFFFFFFFL);
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[size++] = (byte) value;
+		}
+
+		void writeString(String value) {
+			if (value == null) {
+				writeVarInt(0);
+				return;
+			}
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarInt(bytes.length + 1);
+			writeBytes(bytes);
+		}
+
+		void writeDateTime(LocalDateTime value) {
+			if (value == null) {
+				writeByte(0);
+				return;
+			}
+			writeByte(1);
+			long seconds = value.toEpochSecond(ZoneOffset.UTC);
+			writeVarLong((seconds << 1) ^ (seconds >> 63));
+			writeVarInt(value.getNano());
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, size);
+		}
+
+		private void ensureCapacity(int extra) {
+			if (size + extra > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + extra));
+			}
+		}
+	}
+
+	private static final class Input {
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+		}
+
+		byte readByte() {
+			return buffer[position++];
+		}
+
+		byte[] readBytes(int length) {
+			byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+			position += length;
+			return bytes;
+		}
+
+		int readVarInt() {
+			return (int) readVarLong();
+		}
+
+		long readVarLong() {
+			long result = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = buffer[position++];
+				result |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) return result;
+			}
+			throw new IllegalStateException("Malformed varint");
+		}
+
+		String readString() {
+			int length = readVarInt();
+			if (length == 0) return null;
+			String value = new String(buffer, position, length - 1, StandardCharsets.UTF_8);
+			position += length - 1;
+			return value;
+		}
+
+		LocalDateTime readDateTime() {
+			if (readByte() == 0) return null;
+			long zigzag = readVarLong();
+			long seconds = (zigzag >>> 1) ^ -(zigzag & 1);
+			return LocalDateTime.ofEpochSecond(seconds, readVarInt(), ZoneOffset.UTC);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.example.maven.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.warmup")
+@Getter
+@Setter
+public class CacheWarmupProperties {
+	private boolean enabled = true;
+
+	// A login within this long of the tenant's last login-triggered warm-up, on any node, does not warm it again
+	private Duration loginWarmupInterval = Duration.ofMinutes(5);
+
+	// Tenants warmed at the same time; warm-up threads also run at minimum priority
+	private int concurrency = 2;
+
+	// Tenants waiting for a warm-up thread; overflow is skipped and counted
+	private int queueCapacity = 256;
+
+	// Most recently active tenants replayed when a node becomes ready
+	private int startupTenants = 100;
+
+	// Tenants remembered across restarts
+	private int trackedTenants = 1_000;
+
+	// First task pages warmed per tenant, taken from the projects with the latest tasks
+	private int projectsPerTenant = 5;
+}
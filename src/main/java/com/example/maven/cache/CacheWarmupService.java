@@ -0,0 +1,184 @@
+package com.example.maven.cache;
+
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.security.TenantContext;
+import com.example.maven.security.UserPrincipal;
+import com.example.maven.security.UserPrincipalAuthToken;
+import com.example.maven.service.ProjectService;
+import com.example.maven.service.TaskService;
+import com.example.maven.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pre-populates a tenant's list caches off the request thread: after a login of one of its
+ * users, and for the most recently active tenants when a node becomes ready after a deploy.
+ * Active tenants are tracked in a Redis sorted set scored by last login, so the record survives
+ * restarts and is shared by all nodes. Warm-up goes through the cached service methods, so an
+ * entry another node already loaded is only copied into the local tier.
+ */
+@Slf4j
+@Component
+public class CacheWarmupService implements DisposableBean {
+	static final String ACTIVE_TENANTS_KEY = "cache:warmup:tenants";
+	static final String RECENTLY_WARMED_PREFIX = "cache:warmup:recent:";
+
+	private final ProjectService projectService;
+	private final UserService userService;
+	private final TaskService taskService;
+	private final TaskRepository taskRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final CacheWarmupProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final ThreadPoolExecutor executor;
+	private final Set<Long> queuedTenants = ConcurrentHashMap.newKeySet();
+
+	public CacheWarmupService(@Lazy ProjectService projectService, @Lazy UserService userService,
+							  @Lazy TaskService taskService, TaskRepository taskRepository,
+							  StringRedisTemplate redisTemplate, CacheWarmupProperties properties,
+							  MeterRegistry meterRegistry) {
+		this.projectService = projectService;
+		this.userService = userService;
+		this.taskService = taskService;
+		this.taskRepository = taskRepository;
+		this.redisTemplate = redisTemplate;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+
+		var threadCounter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				properties.getConcurrency(), properties.getConcurrency(),
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+				runnable -> {
+					Thread thread = new Thread(runnable, "cache-warmup-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					thread.setPriority(Thread.MIN_PRIORITY);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+	}
+
+	// Called after a successful login; never blocks or fails the login itself
+	public void onLogin(UserPrincipal principal) {
+		if (!properties.isEnabled()) return;
+		recordActive(principal.getTenantId());
+		if (warmedRecently(principal.getTenantId())) {
+			count("recent");
+			return;
+		}
+		submit(principal);
+	}
+
+	// A deleted tenant must not be warmed again after the next deploy
+	public void forgetTenant(long tenantId) {
+		redisTemplate.opsForZSet().remove(ACTIVE_TENANTS_KEY, String.valueOf(tenantId));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void replayActiveTenants() {
+		if (!properties.isEnabled() || properties.getStartupTenants() <= 0) return;
+		Set<String> tenantIds;
+		try {
+			tenantIds = redisTemplate.opsForZSet().reverseRange(ACTIVE_TENANTS_KEY, 0, properties.getStartupTenants() - 1);
+		} catch (Exception e) {
+			log.warn("Could not read active tenants for cache warm-up: {}", e.getMessage());
+			return;
+		}
+		if (tenantIds == null) return;
+
+		log.info("Warming caches of {} recently active tenants", tenantIds.size());
+		tenantIds.forEach(tenantId -> submit(warmupPrincipal(Long.parseLong(tenantId))));
+	}
+
+	// Runs on a warm-up thread under the tenant's TenantContext and security context, which the cached methods resolve it from
+	void warm(UserPrincipal principal) {
+		long tenantId = principal.getTenantId();
+		var context = SecurityContextHolder.createEmptyContext();
+		context.setAuthentication(new UserPrincipalAuthToken(principal));
+		SecurityContextHolder.setContext(context);
+		try {
+			new TenantContext(tenantId, principal.getId()).run(() -> {
+				projectService.findAllProjects();
+				userService.findCompanyUsers();
+				taskRepository.findMostRecentlyActiveProjectIds(tenantId, PageRequest.ofSize(properties.getProjectsPerTenant()))
+						.forEach(taskService::findFirstTaskPage);
+			});
+			count("warmed");
+		} catch (Exception e) {
+			count("failed");
+			log.debug("Cache warm-up of tenant {} failed: {}", tenantId, e.getMessage());
+		} finally {
+			SecurityContextHolder.clearContext();
+			queuedTenants.remove(tenantId);
+		}
+	}
+
+	private void submit(UserPrincipal principal) {
+		// A tenant whose warm-up is still queued gains nothing from a second one
+		if (!queuedTenants.add(principal.getTenantId())) return;
+		try {
+			executor.execute(() -> warm(principal));
+		} catch (RejectedExecutionException e) {
+			queuedTenants.remove(principal.getTenantId());
+			count("skipped");
+		}
+	}
+
+	// A burst of logins from one tenant warms it once: the first login sets a marker (SET NX PX) shared by all nodes
+	private boolean warmedRecently(long tenantId) {
+		try {
+			return !Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(
+					RECENTLY_WARMED_PREFIX + tenantId, "1", properties.getLoginWarmupInterval()));
+		} catch (Exception e) {
+			// Without Redis the cached methods have nothing to fill either
+			log.debug("Could not mark tenant {} as warmed: {}", tenantId, e.getMessage());
+			return true;
+		}
+	}
+
+	private void recordActive(long tenantId) {
+		try {
+			redisTemplate.opsForZSet().add(ACTIVE_TENANTS_KEY, String.valueOf(tenantId), System.currentTimeMillis());
+			redisTemplate.opsForZSet().removeRange(ACTIVE_TENANTS_KEY, 0, -properties.getTrackedTenants() - 1L);
+		} catch (Exception e) {
+			log.debug("Could not record active tenant {}: {}", tenantId, e.getMessage());
+		}
+	}
+
+	// Startup warm-up has no user to act for; the list loaders only need the tenant
+	private static UserPrincipal warmupPrincipal(long tenantId) {
+		return UserPrincipal.builder()
+				.id(TenantContext.SYSTEM_USER_ID)
+				.username("cache-warmup")
+				.tenantId(tenantId)
+				.roles(Set.of())
+				.build();
+	}
+
+	private void count(String result) {
+		meterRegistry.counter("cache.warmup.tenants", "result", result).increment();
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
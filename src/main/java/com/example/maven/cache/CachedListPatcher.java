@@ -0,0 +1,104 @@
+package com.example.maven.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToLongFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies a write to a cached tenant-wide list in place (append, replace by id, remove)
+ * instead of evicting it, so the next reader does not reload and remap the whole list.
+ *
+ * <p>The read-modify-write runs after commit under a per-key {@link RedisKeyLock}. A writer that
+ * cannot get the lock marks the key dirty and evicts it. A holder that finds the dirty marker
+ * after its put evicts as well, so a concurrent change is never overwritten by a stale list.
+ * The holder reads the list from Redis, never from this node's local copy, which may predate a
+ * patch another node just wrote. Lists that are not cached are left for the next reader to load,
+ * except that the key is evicted once more after the re-evict delay, like any other eviction.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CachedListPatcher {
+	private static final Duration LOCK_LEASE = Duration.ofSeconds(2);
+	private static final Duration LOCK_WAIT = Duration.ofMillis(50);
+	private static final Duration DIRTY_TTL = LOCK_LEASE.multipliedBy(2);
+
+	private final CacheManager cacheManager;
+	private final RedisKeyLock redisKeyLock;
+	private final StringRedisTemplate redisTemplate;
+
+	public <T> void upsert(String cacheName, long tenantId, T item, ToLongFunction<T> idOf) {
+		long id = idOf.applyAsLong(item);
+		patch(cacheName, TenantScopedKey.of(tenantId, TenantScopedKey.ALL), (List<T> list) -> {
+			var patched = new ArrayList<T>(list.size() + 1);
+			boolean replaced = false;
+			for (T existing : list) {
+				if (idOf.applyAsLong(existing) == id) {
+					patched.add(item);
+					replaced = true;
+				} else {
+					patched.add(existing);
+				}
+			}
+			if (!replaced) patched.add(item);
+			return patched;
+		});
+	}
+
+	public <T> void remove(String cacheName, long tenantId, long id, ToLongFunction<T> idOf) {
+		patch(cacheName, TenantScopedKey.of(tenantId, TenantScopedKey.ALL), (List<T> list) -> {
+			var patched = new ArrayList<>(list);
+			patched.removeIf(existing -> idOf.applyAsLong(existing) == id);
+			return patched;
+		});
+	}
+
+	private <T> void patch(String cacheName, Object key, UnaryOperator<List<T>> change) {
+		AfterCommit.run(() -> patchNow(cacheName, key, change));
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void patchNow(String cacheName, Object key, UnaryOperator<List<T>> change) {
+		Cache cache = cacheManager.getCache(cacheName);
+		if (cache == null) return;
+
+		String lockKey = "lock:" + cacheName + "::" + key;
+		String dirtyKey = "dirty:" + cacheName + "::" + key;
+		try {
+			var token = redisKeyLock.tryLock(lockKey, LOCK_LEASE, LOCK_WAIT);
+			if (token.isEmpty()) {
+				redisTemplate.opsForValue().set(dirtyKey, "1", DIRTY_TTL);
+				cache.evict(key);
+				return;
+			}
+			try {
+				var cached = cache instanceof TwoTierCache twoTier ? twoTier.getShared(key) : cache.get(key);
+				if (cached == null || !(cached.get() instanceof List<?> list)) {
+					// A reader that queried before the commit may still store the list without this change
+					if (cache instanceof TwoTierCache twoTier) {
+						twoTier.evictLater(key);
+					}
+					return;
+				}
+				cache.put(key, change.apply((List<T>) list));
+				if (Boolean.TRUE.equals(redisTemplate.hasKey(dirtyKey))) {
+					cache.evict(key);
+				}
+			} finally {
+				redisKeyLock.unlock(lockKey, token.get());
+			}
+		} catch (Exception e) {
+			log.warn("Could not patch cached list {}::{}, evicting it: {}", cacheName, key, e.getMessage());
+			cache.evict(key);
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.example.maven.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Entity types whose single-id lookups are guarded by the negative cache and existence filter
+@Getter
+@RequiredArgsConstructor
+public enum EntityKind {
+	TASK("Task not found"),
+	PROJECT("Project not found"),
+	USER("User not found"),
+	COMMENT("Comment not found");
+
+	private final String notFoundMessage;
+}
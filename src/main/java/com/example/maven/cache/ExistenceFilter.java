@@ -0,0 +1,226 @@
+package com.example.maven.cache;
+
+import com.example.maven.persistence.repository.CommentRepository;
+import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-tenant, per-entity-kind Bloom filter of existing ids, kept as a Redis bitmap so every
+ * node sees the same filter. A negative answer means the id was never created in the tenant;
+ * deleted ids stay in the filter until the next rebuild and are left to the negative cache.
+ *
+ * <p>Each filter has a meta hash with its size, hash count, capacity and a ready flag. Only a
+ * ready filter is trusted. A build first publishes the meta hash, then reads the ids from the
+ * database, so a create committed during the build is either read or added by its own writer.
+ * A filter that took more adds than its capacity is dropped and rebuilt on the next lookup.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExistenceFilter {
+	private static final Duration BUILD_LOCK_LEASE = Duration.ofSeconds(30);
+	// The bitmap outlives its meta hash, so a live meta hash never points at an expired bitmap
+	private static final Duration BITS_TTL_MARGIN = Duration.ofHours(1);
+
+	// Returns -1 when no ready filter exists, 0 when the id is definitely absent, 1 when it may exist
+	private static final RedisScript<Long> CHECK = new DefaultRedisScript<>("""
+			local meta = redis.call('HMGET', KEYS[2], 'bits', 'hashes', 'ready')
+			if meta[3] ~= '1' then return -1 end
+			local m, k = tonumber(meta[1]), tonumber(meta[2])
+			for i = 0, k - 1 do
+				if redis.call('GETBIT', KEYS[1], (tonumber(ARGV[1]) + i * tonumber(ARGV[2])) % m) == 0 then return 0 end
+			end
+			return 1""", Long.class);
+
+	// Sets the id's bits if a filter (ready or building) exists, and drops a filter past its capacity
+	private static final RedisScript<Long> ADD = new DefaultRedisScript<>("""
+			local meta = redis.call('HMGET', KEYS[2], 'bits', 'hashes', 'capacity')
+			if not meta[1] then return 0 end
+			local m, k = tonumber(meta[1]), tonumber(meta[2])
+			for i = 0, k - 1 do
+				redis.call('SETBIT', KEYS[1], (tonumber(ARGV[1]) + i * tonumber(ARGV[2])) % m, 1)
+			end
+			if redis.call('HINCRBY', KEYS[2], 'added', 1) > tonumber(meta[3]) then
+				redis.call('DEL', KEYS[2])
+			end
+			return 1""", Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisKeyLock redisKeyLock;
+	private final CacheRefresher refresher;
+	private final TaskRepository taskRepository;
+	private final ProjectRepository projectRepository;
+	private final UserRepository userRepository;
+	private final CommentRepository commentRepository;
+	private final ExistenceFilterProperties properties;
+	private final Set<String> building = ConcurrentHashMap.newKeySet();
+
+	// False only when the id is certainly absent; Redis errors and filters still being built answer true
+	public boolean mightExist(EntityKind kind, long tenantId, long id) {
+		if (!properties.isEnabled()) return true;
+		String bitsKey = bitsKey(kind, tenantId);
+		try {
+			long[] hashes = hashes(id);
+			Long result = redisTemplate.execute(CHECK, List.of(bitsKey, metaKey(bitsKey)),
+					String.valueOf(hashes[0]), String.valueOf(hashes[1]));
+			if (result == null || result < 0) {
+				scheduleBuild(kind, tenantId);
+				return true;
+			}
+			return result == 1;
+		} catch (Exception e) {
+			log.debug("Existence filter {} unavailable: {}", bitsKey, e.getMessage());
+			return true;
+		}
+	}
+
+	// Call after the row is committed; a missed add turns into a false "absent", so failures drop the filter
+	public void add(EntityKind kind, long tenantId, long id) {
+		if (!properties.isEnabled()) return;
+		String bitsKey = bitsKey(kind, tenantId);
+		try {
+			long[] hashes = hashes(id);
+			redisTemplate.execute(ADD, List.of(bitsKey, metaKey(bitsKey)),
+					String.valueOf(hashes[0]), String.valueOf(hashes[1]));
+		} catch (Exception e) {
+			log.warn("Could not add id {} to existence filter {}, dropping it: {}", id, bitsKey, e.getMessage());
+			drop(bitsKey);
+		}
+	}
+
+	// Removes every filter of a deleted tenant, so none of its ids answer "might exist" any more
+	public void dropTenant(long tenantId) {
+		List<String> keys = new ArrayList<>();
+		for (EntityKind kind : EntityKind.values()) {
+			String bitsKey = bitsKey(kind, tenantId);
+			keys.add(bitsKey);
+			keys.add(metaKey(bitsKey));
+		}
+		redisTemplate.delete(keys);
+	}
+
+	private void scheduleBuild(EntityKind kind, long tenantId) {
+		String bitsKey = bitsKey(kind, tenantId);
+		if (!building.add(bitsKey)) return;
+
+		var token = redisKeyLock.tryLock("lock:" + bitsKey, BUILD_LOCK_LEASE, Duration.ZERO);
+		if (token.isEmpty()) {
+			building.remove(bitsKey);
+			return;
+		}
+		refresher.submit(() -> build(kind, tenantId, bitsKey), () -> {
+			redisKeyLock.unlock("lock:" + bitsKey, token.get());
+			building.remove(bitsKey);
+		});
+	}
+
+	void build(EntityKind kind, long tenantId, String bitsKey) {
+		String metaKey = metaKey(bitsKey);
+		long capacity = Math.max(properties.getMinCapacity(), 2 * count(kind, tenantId));
+		long bits = optimalBits(capacity, properties.getFalsePositiveRate());
+		int hashCount = optimalHashes(capacity, bits);
+
+		redisTemplate.delete(List.of(bitsKey, metaKey));
+		redisTemplate.opsForHash().putAll(metaKey, Map.of(
+				"bits", String.valueOf(bits),
+				"hashes", String.valueOf(hashCount),
+				"capacity", String.valueOf(capacity),
+				"added", "0",
+				"ready", "0"
+		));
+		redisTemplate.expire(metaKey, BUILD_LOCK_LEASE);
+
+		List<Long> ids = ids(kind, tenantId);
+		byte[] rawBitsKey = bitsKey.getBytes(StandardCharsets.UTF_8);
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			// Allocates the bitmap even for a tenant without rows, so the expiry below applies
+			connection.stringCommands().setBit(rawBitsKey, bits - 1, false);
+			for (long id : ids) {
+				setBits(connection, rawBitsKey, hashes(id), bits, hashCount);
+			}
+			return null;
+		});
+		redisTemplate.expire(bitsKey, properties.getRebuildInterval().plus(BITS_TTL_MARGIN));
+		redisTemplate.opsForHash().put(metaKey, "ready", "1");
+		redisTemplate.expire(metaKey, properties.getRebuildInterval());
+		log.debug("Built existence filter {} with {} ids in {} bits", bitsKey, ids.size(), bits);
+	}
+
+	private void drop(String bitsKey) {
+		try {
+			redisTemplate.delete(metaKey(bitsKey));
+		} catch (Exception e) {
+			log.warn("Could not drop existence filter {}: {}", bitsKey, e.getMessage());
+		}
+	}
+
+	private long count(EntityKind kind, long tenantId) {
+		return switch (kind) {
+			case TASK -> taskRepository.countByCompany_Id(tenantId);
+			case PROJECT -> projectRepository.countByCompany_Id(tenantId);
+			case USER -> userRepository.countByCompany_Id(tenantId);
+			case COMMENT -> commentRepository.countByCompany_Id(tenantId);
+		};
+	}
+
+	private List<Long> ids(EntityKind kind, long tenantId) {
+		return switch (kind) {
+			case TASK -> taskRepository.findIdsByCompanyId(tenantId);
+			case PROJECT -> projectRepository.findIdsByCompanyId(tenantId);
+			case USER -> userRepository.findIdsByCompanyId(tenantId);
+			case COMMENT -> commentRepository.findIdsByCompanyId(tenantId);
+		};
+	}
+
+	// Same bit positions as the Lua scripts: (h1 + i * h2) mod bits
+	private static void setBits(RedisConnection connection, byte[] key, long[] hashes, long bits, int hashCount) {
+		for (int i = 0; i < hashCount; i++) {
+			connection.stringCommands().setBit(key, (hashes[0] + i * hashes[1]) % bits, true);
+		}
+	}
+
+	// Two 31-bit hashes from a 64-bit mix of the id; kept small so Lua's doubles compute positions exactly
+	static long[] hashes(long id) {
+		long h = id;
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return new long[] { h & 0x7FFFFFFFL, ((h >>> 32) & 0x7FFFFFFFL) | 1 };
+	}
+
+	static long optimalBits(long capacity, double falsePositiveRate) {
+		long bits = (long) Math.ceil(-capacity * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		return Math.min(bits, 1L << 32);
+	}
+
+	static int optimalHashes(long capacity, long bits) {
+		return Math.max(1, (int) Math.round((double) bits / capacity * Math.log(2)));
+	}
+
+	static String bitsKey(EntityKind kind, long tenantId) {
+		return "exists:" + kind.name().toLowerCase() + ":" + tenantId;
+	}
+
+	private static String metaKey(String bitsKey) {
+		return bitsKey + ":meta";
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.maven.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.existence-filter")
+@Getter
+@Setter
+public class ExistenceFilterProperties {
+	private boolean enabled = true;
+
+	// Share of missing ids the filter lets through to the database
+	private double falsePositiveRate = 0.01;
+
+	// Ids a filter is sized for at least; a filter is sized for twice the tenant's ids at build time
+	private long minCapacity = 1_024;
+
+	// Filters are rebuilt from the database after this long, dropping the ids of deleted rows
+	private Duration rebuildInterval = Duration.ofHours(24);
+}
@@ -0,0 +1,51 @@
+package com.example.maven.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Evicts only the list entries a write can change, instead of clearing the whole region.
+ * A task write touches its project's list and the tenant-wide list; a comment write touches
+ * its task's list. Lists of other projects and other tenants stay warm. A batch write drops the
+ * tenant-wide list once, plus the lists and entries it touched.
+ */
+@Component
+@RequiredArgsConstructor
+public class ListCacheInvalidator {
+	public static final String PROJECT_TASKS = "projectTasks";
+	public static final String TASK_COMMENTS = "taskComments";
+	public static final String TASKS = "tasks";
+
+	private final CacheManager cacheManager;
+
+	public void evictProjectTasks(long tenantId, long projectId) {
+		Cache cache = cacheManager.getCache(PROJECT_TASKS);
+		if (cache == null) return;
+		cache.evict(TenantScopedKey.of(tenantId, projectId));
+		cache.evict(TenantScopedKey.of(tenantId, TenantScopedKey.ALL));
+	}
+
+	public void evictProjectTasks(long tenantId, Collection<Long> projectIds) {
+		Cache cache = cacheManager.getCache(PROJECT_TASKS);
+		if (cache == null) return;
+		projectIds.forEach(projectId -> cache.evict(TenantScopedKey.of(tenantId, projectId)));
+		cache.evict(TenantScopedKey.of(tenantId, TenantScopedKey.ALL));
+	}
+
+	// Entries of single tasks, as cached by TaskService#findTaskById
+	public void evictTasks(long tenantId, Collection<Long> taskIds) {
+		Cache cache = cacheManager.getCache(TASKS);
+		if (cache == null) return;
+		taskIds.forEach(taskId -> cache.evict(TenantScopedKey.of(tenantId, taskId)));
+	}
+
+	public void evictTaskComments(long tenantId, long taskId) {
+		Cache cache = cacheManager.getCache(TASK_COMMENTS);
+		if (cache == null) return;
+		cache.evict(TenantScopedKey.of(tenantId, taskId));
+	}
+}
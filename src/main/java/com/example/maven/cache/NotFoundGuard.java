@@ -0,0 +1,87 @@
+package com.example.maven.cache;
+
+import com.example.maven.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Rejects lookups of ids known to be missing before they reach the database: first through a
+ * short-lived negative entry in the {@value #NOT_FOUND} region, then through the tenant's
+ * {@link ExistenceFilter}. Services report misses, creates and deletes so both stay consistent.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotFoundGuard {
+	public static final String NOT_FOUND = "notFound";
+
+	private final CacheManager cacheManager;
+	private final ExistenceFilter existenceFilter;
+	private final MeterRegistry meterRegistry;
+
+	// Throws ResourceNotFoundException when the id is known to be missing; otherwise the caller queries
+	public void check(EntityKind kind, long tenantId, long id) {
+		Cache cache = cacheManager.getCache(NOT_FOUND);
+		if (cache != null && cache.get(key(kind, tenantId, id)) != null) {
+			throw rejected(kind, "negative-cache");
+		}
+		if (!existenceFilter.mightExist(kind, tenantId, id)) {
+			throw rejected(kind, "filter");
+		}
+	}
+
+	// The database had no row; remember it until the region's TTL
+	public void recordMissing(EntityKind kind, long tenantId, long id) {
+		Cache cache = cacheManager.getCache(NOT_FOUND);
+		if (cache != null) {
+			cache.put(key(kind, tenantId, id), Boolean.TRUE);
+		}
+		count(kind, "database");
+	}
+
+	// A scanner may have probed the id before it existed, so the negative entry goes too
+	public void created(EntityKind kind, long tenantId, long id) {
+		AfterCommit.run(() -> {
+			existenceFilter.add(kind, tenantId, id);
+			Cache cache = cacheManager.getCache(NOT_FOUND);
+			if (cache != null) {
+				cache.evict(key(kind, tenantId, id));
+			}
+		});
+	}
+
+	// Same as created(kind, tenantId, id) for every id of a batch, after a single commit
+	public void created(EntityKind kind, long tenantId, Collection<Long> ids) {
+		AfterCommit.run(() -> {
+			Cache cache = cacheManager.getCache(NOT_FOUND);
+			for (long id : ids) {
+				existenceFilter.add(kind, tenantId, id);
+				if (cache != null) {
+					cache.evict(key(kind, tenantId, id));
+				}
+			}
+		});
+	}
+
+	// The filter cannot forget an id, so a deleted one is covered by a negative entry
+	public void deleted(EntityKind kind, long tenantId, long id) {
+		AfterCommit.run(() -> recordMissing(kind, tenantId, id));
+	}
+
+	private ResourceNotFoundException rejected(EntityKind kind, String source) {
+		count(kind, source);
+		return new ResourceNotFoundException(kind.getNotFoundMessage());
+	}
+
+	private void count(EntityKind kind, String source) {
+		meterRegistry.counter("cache.not_found", "entity", kind.name().toLowerCase(), "source", source).increment();
+	}
+
+	private static TenantScopedKey key(EntityKind kind, long tenantId, long id) {
+		return TenantScopedKey.of(tenantId, kind.name().toLowerCase() + ":" + id);
+	}
+}
@@ -0,0 +1,64 @@
+package com.example.maven.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Short-lived mutual exclusion on a Redis key (SET NX PX), shared by every node.
+ * The lease expires on its own, so a crashed holder blocks others for at most {@code lease}.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisKeyLock {
+	private static final Duration POLL_INTERVAL = Duration.ofMillis(5);
+
+	// Deletes the lock only if it is still held by the caller's token
+	private static final RedisScript<Long> RELEASE = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+			Long.class);
+
+	// Renews the lease only if the lock is still held by the caller's token
+	private static final RedisScript<Long> EXTEND = new DefaultRedisScript<>(
+			"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+			Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	// Returns the owner token once the lock is held, or empty if it stayed busy for longer than wait
+	public Optional<String> tryLock(String key, Duration lease, Duration wait) {
+		String token = UUID.randomUUID().toString();
+		long deadline = System.nanoTime() + wait.toNanos();
+		while (true) {
+			if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, token, lease))) {
+				return Optional.of(token);
+			}
+			if (System.nanoTime() >= deadline) {
+				return Optional.empty();
+			}
+			try {
+				Thread.sleep(POLL_INTERVAL);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return Optional.empty();
+			}
+		}
+	}
+
+	public void unlock(String key, String token) {
+		redisTemplate.execute(RELEASE, List.of(key), token);
+	}
+
+	// For holders of long-running work; false means the lease ran out and another holder may own the lock
+	public boolean extend(String key, String token, Duration lease) {
+		Long extended = redisTemplate.execute(EXTEND, List.of(key), token, String.valueOf(lease.toMillis()));
+		return extended != null && extended == 1;
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.maven.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Removes everything cached for a deleted tenant: its entries in every region on all nodes,
+ * its existence filters and its place among the tenants warmed after a deploy.
+ */
+@Component
+@RequiredArgsConstructor
+public class TenantCachePurger {
+	private final TwoTierCacheManager cacheManager;
+	private final ExistenceFilter existenceFilter;
+	private final CacheWarmupService cacheWarmupService;
+
+	public void purge(long tenantId) {
+		cacheWarmupService.forgetTenant(tenantId);
+		existenceFilter.dropTenant(tenantId);
+		cacheManager.evictTenant(tenantId);
+	}
+}
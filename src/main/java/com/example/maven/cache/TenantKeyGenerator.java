@@ -0,0 +1,27 @@
+package com.example.maven.cache;
+
+import com.example.maven.security.TenantContext;
+import com.example.maven.utils.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+// Keys an entry by the current tenant and the first method argument (the entity or parent id)
+@Component("tenantKeyGenerator")
+@RequiredArgsConstructor
+public class TenantKeyGenerator implements KeyGenerator {
+	private final SecurityUtils securityUtils;
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		return TenantScopedKey.of(currentTenantId(), params.length > 0 ? params[0] : null);
+	}
+
+	// Read straight from the request's TenantContext; SecurityUtils covers callers outside a request
+	private long currentTenantId() {
+		TenantContext context = TenantContext.current();
+		return context != null ? context.tenantId() : securityUtils.getCurrentTenantId();
+	}
+}
@@ -0,0 +1,26 @@
+package com.example.maven.cache;
+
+import com.example.maven.security.TenantContext;
+import com.example.maven.utils.SecurityUtils;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+
+// Keys a tenant-wide list; method arguments (e.g. the DTO of a create call) are ignored
+@Component("tenantListKeyGenerator")
+@RequiredArgsConstructor
+public class TenantListKeyGenerator implements KeyGenerator {
+	private final SecurityUtils securityUtils;
+
+	@Override
+	public Object generate(Object target, Method method, Object... params) {
+		return TenantScopedKey.of(currentTenantId(), TenantScopedKey.ALL);
+	}
+
+	private long currentTenantId() {
+		TenantContext context = TenantContext.current();
+		return context != null ? context.tenantId() : securityUtils.getCurrentTenantId();
+	}
+}
@@ -0,0 +1,19 @@
+package com.example.maven.cache;
+
+/**
+ * Cache key of an entry owned by one tenant. {@code id} is the entity id, a parent id for
+ * per-parent lists, or {@link #ALL} for tenant-wide lists. {@link #toString()} doubles as the
+ * Redis key suffix, so it stays short: {@code <tenantId>:<id>}.
+ */
+public record TenantScopedKey(long tenantId, Object id) {
+	public static final String ALL = "all";
+
+	public static TenantScopedKey of(long tenantId, Object id) {
+		return new TenantScopedKey(tenantId, id != null ? id : ALL);
+	}
+
+	@Override
+	public String toString() {
+		return tenantId + ":" + id;
+	}
+}
@@ -0,0 +1,459 @@
+package com.example.maven.cache;
+
+import com.example.maven.api.dto.response.TaskPageResponseDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caffeine near cache in front of a shared Redis region.
+ * Reads try the local tier first and fill it from Redis on a miss. Writes and evictions
+ * go to Redis and are broadcast by {@link TwoTierCacheManager} so peers drop their local copy.
+ * Local entries are keyed by the same string form Redis uses, which is what peers receive.
+ *
+ * <p>Synchronized reads ({@code @Cacheable(sync = true)}) also coalesce loads: one caller per key
+ * and node loads, and across nodes a Redis lock lets one node query the database while the others
+ * wait for its result. Hot entries are refreshed in the background shortly before their Redis
+ * expiry (probabilistic early expiration, "XFetch"), so readers do not fall through to the database.
+ *
+ * <p>Puts (conditional ones included), evictions and stores of loaded values inside a transaction take effect after it commits
+ * and are dropped on rollback. An eviction is repeated shortly after the first one, which removes
+ * a value a concurrent reader loaded from the pre-commit state and stored after the first eviction.
+ */
+public class TwoTierCache implements Cache {
+	private static final Duration LOAD_POLL_INTERVAL = Duration.ofMillis(10);
+
+	private final String name;
+	private final com.github.benmanes.caffeine.cache.Cache<String, LocalEntry> local;
+	private final Cache remote;
+	private final TwoTierCacheManager manager;
+	private final CachePolicy policy;
+	private final Duration loadLockLease;
+
+	private final Map<String, CompletableFuture<LocalEntry>> loading = new ConcurrentHashMap<>();
+	private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+	// Moving average of database load time; stands in for entries this node did not load itself
+	private volatile long averageLoadNanos;
+
+	private final Counter localHits;
+	private final Counter localMisses;
+	private final Counter remoteHits;
+	private final Counter remoteMisses;
+	private final Counter coalesced;
+	private final Counter refreshedAhead;
+	private final Timer loads;
+
+	TwoTierCache(String name, Cache remote, TwoTierCacheManager manager, CachePolicy policy, Duration loadLockLease,
+				 MeterRegistry meterRegistry) {
+		this.name = name;
+		this.remote = remote;
+		this.manager = manager;
+		this.policy = policy;
+		this.loadLockLease = loadLockLease;
+		this.local = Caffeine.newBuilder()
+				.maximumWeight(policy.localMaximumWeight())
+				.weigher((String key, LocalEntry entry) -> weigh(entry.value()))
+				.expireAfterWrite(policy.localTtl())
+				.recordStats()
+				.build();
+
+		this.localHits = counter(meterRegistry, "local", "hit");
+		this.localMisses = counter(meterRegistry, "local", "miss");
+		this.remoteHits = counter(meterRegistry, "redis", "hit");
+		this.remoteMisses = counter(meterRegistry, "redis", "miss");
+		this.coalesced = Counter.builder("cache.load.coalesced")
+				.tag("cache", name)
+				.register(meterRegistry);
+		this.refreshedAhead = Counter.builder("cache.refresh.ahead")
+				.tag("cache", name)
+				.register(meterRegistry);
+		this.loads = Timer.builder("cache.load")
+				.tag("cache", name)
+				.register(meterRegistry);
+		Gauge.builder("cache.local.size", local, c -> c.estimatedSize())
+				.tag("cache", name)
+				.register(meterRegistry);
+		Gauge.builder("cache.local.evictions", local, c -> c.stats().evictionCount())
+				.tag("cache", name)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	@Override
+	public Object getNativeCache() {
+		return local;
+	}
+
+	@Override
+	public ValueWrapper get(Object key) {
+		String localKey = localKey(key);
+		LocalEntry entry = local.getIfPresent(localKey);
+		if (entry != null) {
+			localHits.increment();
+			return entry;
+		}
+		localMisses.increment();
+
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper == null) {
+			remoteMisses.increment();
+			return null;
+		}
+		remoteHits.increment();
+		entry = LocalEntry.of(wrapper.get());
+		local.put(localKey, entry);
+		return entry;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Class<T> type) {
+		ValueWrapper wrapper = get(key);
+		Object value = wrapper != null ? wrapper.get() : null;
+		if (value != null && type != null && !type.isInstance(value)) {
+			throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+		}
+		return (T) value;
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T get(Object key, Callable<T> valueLoader) {
+		String localKey = localKey(key);
+		LocalEntry entry = local.getIfPresent(localKey);
+		if (entry != null) {
+			localHits.increment();
+			if (entry.shouldRefreshEarly(System.nanoTime(), policy.refreshAheadBeta())) {
+				refreshAhead(key, localKey, valueLoader);
+			}
+			return (T) entry.value();
+		}
+		localMisses.increment();
+		return (T) loadCoalesced(key, localKey, valueLoader).value();
+	}
+
+	@Override
+	public void put(Object key, Object value) {
+		if (value == null && !policy.cacheNulls()) {
+			evict(key);
+			return;
+		}
+		AfterCommit.run(() -> putNow(key, value));
+	}
+
+	private void putNow(Object key, Object value) {
+		remote.put(key, value);
+		String localKey = localKey(key);
+		local.put(localKey, LocalEntry.of(value));
+		manager.publishEvict(name, localKey);
+	}
+
+	@Override
+	public ValueWrapper putIfAbsent(Object key, Object value) {
+		if (value == null && !policy.cacheNulls()) {
+			return get(key);
+		}
+		if (AfterCommit.defers()) {
+			// The caller needs its answer now: report what is shared at the moment and store only on commit
+			ValueWrapper existing = remote.get(key);
+			if (existing == null) {
+				AfterCommit.run(() -> putIfAbsentNow(key, value));
+			}
+			return existing;
+		}
+		return putIfAbsentNow(key, value);
+	}
+
+	private ValueWrapper putIfAbsentNow(Object key, Object value) {
+		ValueWrapper existing = remote.putIfAbsent(key, value);
+		String localKey = localKey(key);
+		local.put(localKey, LocalEntry.of(existing != null ? existing.get() : value));
+		if (existing == null) {
+			manager.publishEvict(name, localKey);
+		}
+		return existing;
+	}
+
+	@Override
+	public void evict(Object key) {
+		AfterCommit.run(() -> {
+			evictNow(key);
+			manager.repeatLater(() -> evictNow(key));
+		});
+	}
+
+	@Override
+	public void clear() {
+		AfterCommit.run(() -> {
+			clearNow();
+			manager.repeatLater(this::clearNow);
+		});
+	}
+
+	private void evictNow(Object key) {
+		remote.evict(key);
+		String localKey = localKey(key);
+		local.invalidate(localKey);
+		manager.publishEvict(name, localKey);
+	}
+
+	private void clearNow() {
+		remote.clear();
+		local.invalidateAll();
+		manager.publishClear(name);
+	}
+
+	// Reads the Redis tier only; a read-modify-write under a lock must not start from a stale local copy
+	ValueWrapper getShared(Object key) {
+		return remote.get(key);
+	}
+
+	// Only the repeated half of evict(key), for a writer that found nothing to evict right now
+	void evictLater(Object key) {
+		manager.repeatLater(() -> evictNow(key));
+	}
+
+	// Applies an invalidation received from another node
+	void evictLocal(String localKey) {
+		local.invalidate(localKey);
+	}
+
+	void clearLocal() {
+		local.invalidateAll();
+	}
+
+	// Drops local entries whose key starts with the prefix, such as all entries of one tenant
+	void evictLocalPrefix(String keyPrefix) {
+		local.asMap().keySet().removeIf(key -> key.startsWith(keyPrefix));
+	}
+
+	CacheRegionStats stats() {
+		long localHitCount = (long) localHits.count();
+		long localMissCount = (long) localMisses.count();
+		long remoteHitCount = (long) remoteHits.count();
+		long gets = localHitCount + localMissCount;
+		return new CacheRegionStats(
+				name,
+				local.estimatedSize(),
+				local.stats().evictionCount(),
+				localHitCount,
+				localMissCount,
+				remoteHitCount,
+				(long) remoteMisses.count(),
+				gets == 0 ? 0 : (double) (localHitCount + remoteHitCount) / gets,
+				loads.count(),
+				loads.mean(TimeUnit.MILLISECONDS),
+				loads.max(TimeUnit.MILLISECONDS),
+				(long) coalesced.count(),
+				(long) refreshedAhead.count(),
+				policy.redisTtl(),
+				policy.localTtl(),
+				policy.localMaximumWeight()
+		);
+	}
+
+	// Only the first caller per key loads; the others wait for its result
+	private LocalEntry loadCoalesced(Object key, String localKey, Callable<?> valueLoader) {
+		var own = new CompletableFuture<LocalEntry>();
+		var inFlight = loading.putIfAbsent(localKey, own);
+		if (inFlight != null) {
+			coalesced.increment();
+			try {
+				return inFlight.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException cause ? cause : e;
+			}
+		}
+
+		try {
+			LocalEntry entry = loadFromRemoteOrSource(key, localKey, valueLoader);
+			AfterCommit.run(() -> storeLocally(localKey, entry));
+			own.complete(entry);
+			return entry;
+		} catch (RuntimeException e) {
+			own.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(localKey, own);
+		}
+	}
+
+	private LocalEntry loadFromRemoteOrSource(Object key, String localKey, Callable<?> valueLoader) {
+		Optional<LocalEntry> cached = fromRemote(key, localKey);
+		if (cached.isPresent()) {
+			return cached.get();
+		}
+
+		String lockKey = "lock:load:" + name + "::" + localKey;
+		long deadline = System.nanoTime() + loadLockLease.toNanos();
+		while (true) {
+			Optional<String> token = manager.tryLock(lockKey, loadLockLease);
+			if (token.isPresent()) {
+				Runnable unlock = () -> manager.unlock(lockKey, token.get());
+				boolean unlockDeferred = false;
+				try {
+					cached = fromRemote(key, localKey);
+					if (cached.isPresent()) {
+						return cached.get();
+					}
+					// Held until the value is in Redis (after commit), so a waiting peer finds it there instead of loading again
+					LocalEntry entry = load(key, valueLoader);
+					storeRemotely(key, localKey, entry.value(), unlock);
+					unlockDeferred = true;
+					return entry;
+				} finally {
+					if (!unlockDeferred) {
+						unlock.run();
+					}
+				}
+			}
+
+			sleep(LOAD_POLL_INTERVAL);
+			cached = fromRemote(key, localKey);
+			if (cached.isPresent()) {
+				return cached.get();
+			}
+			// The holder is slow or gone; its lease runs out at about the same time
+			if (System.nanoTime() >= deadline) {
+				return loadAndStore(key, localKey, valueLoader);
+			}
+		}
+	}
+
+	private Optional<LocalEntry> fromRemote(Object key, String localKey) {
+		ValueWrapper wrapper = remote.get(key);
+		if (wrapper == null) {
+			remoteMisses.increment();
+			return Optional.empty();
+		}
+		remoteHits.increment();
+
+		// The expiry only matters to refresh-ahead; without it the extra round trip is skipped
+		if (policy.refreshAheadBeta() <= 0) {
+			return Optional.of(LocalEntry.of(wrapper.get()));
+		}
+		long now = System.nanoTime();
+		long expiresAt = manager.remainingTtl(name, localKey)
+				.map(ttl -> now + ttl.toNanos())
+				.orElse(Long.MAX_VALUE);
+		return Optional.of(new LocalEntry(wrapper.get(), expiresAt, averageLoadNanos));
+	}
+
+	private LocalEntry loadAndStore(Object key, String localKey, Callable<?> valueLoader) {
+		LocalEntry entry = load(key, valueLoader);
+		storeRemotely(key, localKey, entry.value(), () -> { });
+		return entry;
+	}
+
+	private LocalEntry load(Object key, Callable<?> valueLoader) {
+		long startedAt = System.nanoTime();
+		Object value;
+		try {
+			value = valueLoader.call();
+		} catch (Exception e) {
+			throw new ValueRetrievalException(key, valueLoader, e);
+		}
+		long loadNanos = System.nanoTime() - startedAt;
+		averageLoadNanos = averageLoadNanos == 0 ? loadNanos : (averageLoadNanos * 7 + loadNanos) / 8;
+		loads.record(loadNanos, TimeUnit.NANOSECONDS);
+
+		return new LocalEntry(value, startedAt + policy.redisTtl().toNanos(), loadNanos);
+	}
+
+	// Stores a loaded value in Redis after commit; whenDone runs after that, also on rollback or when there is nothing to store
+	private void storeRemotely(Object key, String localKey, Object value, Runnable whenDone) {
+		AfterCommit.run(() -> {
+			if (value != null || policy.cacheNulls()) {
+				remote.put(key, value);
+				manager.publishEvict(name, localKey);
+			}
+		}, whenDone);
+	}
+
+	private void refreshAhead(Object key, String localKey, Callable<?> valueLoader) {
+		if (!refreshing.add(localKey)) return;
+		refreshedAhead.increment();
+		manager.refresher().submit(
+				() -> {
+					LocalEntry entry = loadAndStore(key, localKey, valueLoader);
+					AfterCommit.run(() -> storeLocally(localKey, entry));
+				},
+				() -> refreshing.remove(localKey)
+		);
+	}
+
+	private void storeLocally(String localKey, LocalEntry entry) {
+		if (entry.value() != null || policy.cacheNulls()) {
+			local.put(localKey, entry);
+		}
+	}
+
+	private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+		return Counter.builder("cache.tier.gets")
+				.tag("cache", name)
+				.tag("tier", tier)
+				.tag("result", result)
+				.register(meterRegistry);
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for cache load", e);
+		}
+	}
+
+	private static String localKey(Object key) {
+		return key.toString();
+	}
+
+	private static int weigh(Object value) {
+		if (value instanceof TaskPageResponseDto page) return Math.max(1, page.items().size());
+		if (value instanceof Collection<?> collection) return Math.max(1, collection.size());
+		if (value instanceof Map<?, ?> map) return Math.max(1, map.size());
+		return 1;
+	}
+
+	/**
+	 * Locally cached value with what refresh-ahead needs to know: when the shared copy expires
+	 * (in {@link System#nanoTime()} terms) and how long loading it took.
+	 */
+	record LocalEntry(Object value, long expiresAtNanos, long loadNanos) implements ValueWrapper {
+		static LocalEntry of(Object value) {
+			return new LocalEntry(value, Long.MAX_VALUE, 0);
+		}
+
+		@Override
+		public Object get() {
+			return value;
+		}
+
+		// XFetch: refresh with a probability that rises as expiry nears, scaled by load cost
+		boolean shouldRefreshEarly(long now, double beta) {
+			if (beta <= 0 || loadNanos <= 0 || expiresAtNanos == Long.MAX_VALUE) return false;
+			double gap = -loadNanos * beta * Math.log(1.0 - ThreadLocalRandom.current().nextDouble());
+			return now + gap >= expiresAtNanos;
+		}
+	}
+}
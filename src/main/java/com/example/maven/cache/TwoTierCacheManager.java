@@ -0,0 +1,225 @@
+package com.example.maven.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps every region of the Redis cache manager in a {@link TwoTierCache} and keeps the
+ * local tiers of all nodes coherent. Invalidations are published as
+ * {@code <nodeId> <cache> <key>} and ignored by the sender. Key {@code *} clears the region,
+ * a key ending in {@code *} drops every key with that prefix, and cache {@code *} stands for
+ * all regions.
+ * Pub/sub delivery is best effort, so the local TTL bounds staleness after a lost message.
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager, MessageListener, InitializingBean, DisposableBean {
+	static final ChannelTopic CHANNEL = new ChannelTopic("cache:invalidations");
+	private static final String CLEAR = "*";
+	private static final String ALL_CACHES = "*";
+	private static final int SCAN_BATCH = 500;
+
+	private final CacheManager remoteCacheManager;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final RedisKeyLock redisKeyLock;
+	private final CacheRefresher refresher;
+	private final TwoTierCacheProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+	private final ScheduledExecutorService repeater = Executors.newSingleThreadScheduledExecutor(runnable -> {
+		Thread thread = new Thread(runnable, "cache-re-evict");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	public TwoTierCacheManager(CacheManager remoteCacheManager, StringRedisTemplate redisTemplate,
+							   RedisMessageListenerContainer listenerContainer, RedisKeyLock redisKeyLock,
+							   CacheRefresher refresher, TwoTierCacheProperties properties, MeterRegistry meterRegistry) {
+		this.remoteCacheManager = remoteCacheManager;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.redisKeyLock = redisKeyLock;
+		this.refresher = refresher;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	// Subscribes once fully constructed so no message reaches a half-initialised manager
+	@Override
+	public void afterPropertiesSet() {
+		listenerContainer.addMessageListener(this, CHANNEL);
+	}
+
+	@Override
+	public Cache getCache(String name) {
+		return caches.computeIfAbsent(name, cacheName -> {
+			Cache remote = remoteCacheManager.getCache(cacheName);
+			return remote != null
+					? new TwoTierCache(cacheName, remote, this, properties.policyFor(cacheName), properties.getLoadLockLease(), meterRegistry)
+					: null;
+		});
+	}
+
+	@Override
+	public Collection<String> getCacheNames() {
+		return Collections.unmodifiableSet(caches.keySet());
+	}
+
+	// Covers every region configured up front as well as those created on first use
+	public List<CacheRegionStats> stats() {
+		remoteCacheManager.getCacheNames().forEach(this::getCache);
+		return caches.values().stream()
+				.map(TwoTierCache::stats)
+				.sorted(Comparator.comparing(CacheRegionStats::name))
+				.toList();
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(" ", 3);
+		if (parts.length < 3 || parts[0].equals(nodeId)) return;
+
+		String key = parts[2];
+		if (parts[1].equals(ALL_CACHES)) {
+			caches.values().forEach(cache -> applyLocally(cache, key));
+			return;
+		}
+		TwoTierCache cache = caches.get(parts[1]);
+		if (cache != null) {
+			applyLocally(cache, key);
+		}
+	}
+
+	private static void applyLocally(TwoTierCache cache, String key) {
+		if (key.equals(CLEAR)) {
+			cache.clearLocal();
+		} else if (key.endsWith(CLEAR)) {
+			cache.evictLocalPrefix(key.substring(0, key.length() - CLEAR.length()));
+		} else {
+			cache.evictLocal(key);
+		}
+	}
+
+	/**
+	 * Drops every entry of the tenant from all regions: the Redis keys {@code <cache>::<tenantId>:*}
+	 * and the local tiers of every node, including regions this node has not used yet. Repeated
+	 * after the re-evict delay like any other eviction.
+	 */
+	public void evictTenant(long tenantId) {
+		String keyPrefix = tenantId + ":";
+		evictPrefixNow(keyPrefix);
+		repeatLater(() -> evictPrefixNow(keyPrefix));
+	}
+
+	private void evictPrefixNow(String keyPrefix) {
+		deleteRemoteKeys("*::" + keyPrefix + "*");
+		caches.values().forEach(cache -> cache.evictLocalPrefix(keyPrefix));
+		publish(ALL_CACHES + " " + keyPrefix + CLEAR);
+	}
+
+	// SCAN rather than KEYS, so Redis is never blocked on a full keyspace walk
+	private void deleteRemoteKeys(String pattern) {
+		List<String> batch = new ArrayList<>(SCAN_BATCH);
+		ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_BATCH).build();
+		try (Cursor<String> keys = redisTemplate.scan(options)) {
+			while (keys.hasNext()) {
+				batch.add(keys.next());
+				if (batch.size() == SCAN_BATCH) {
+					redisTemplate.delete(batch);
+					batch.clear();
+				}
+			}
+		}
+		if (!batch.isEmpty()) {
+			redisTemplate.delete(batch);
+		}
+	}
+
+	Optional<String> tryLock(String lockKey, Duration lease) {
+		return redisKeyLock.tryLock(lockKey, lease, Duration.ZERO);
+	}
+
+	void unlock(String lockKey, String token) {
+		redisKeyLock.unlock(lockKey, token);
+	}
+
+	// Remaining Redis TTL of an entry; keys follow the default "<cache>::<key>" layout
+	Optional<Duration> remainingTtl(String cacheName, String localKey) {
+		try {
+			Long millis = redisTemplate.getExpire(cacheName + "::" + localKey, TimeUnit.MILLISECONDS);
+			return millis != null && millis > 0 ? Optional.of(Duration.ofMillis(millis)) : Optional.empty();
+		} catch (Exception e) {
+			return Optional.empty();
+		}
+	}
+
+	CacheRefresher refresher() {
+		return refresher;
+	}
+
+	// Runs an eviction again after the re-evict delay
+	void repeatLater(Runnable eviction) {
+		long delayMillis = properties.getReEvictDelay().toMillis();
+		if (delayMillis <= 0) return;
+		try {
+			repeater.schedule(() -> {
+				try {
+					eviction.run();
+				} catch (Exception e) {
+					log.warn("Repeated cache eviction failed: {}", e.getMessage());
+				}
+			}, delayMillis, TimeUnit.MILLISECONDS);
+		} catch (RejectedExecutionException e) {
+			log.debug("Cache manager is shut down, skipping repeated eviction");
+		}
+	}
+
+	void publishEvict(String cacheName, String localKey) {
+		publish(cacheName + " " + localKey);
+	}
+
+	void publishClear(String cacheName) {
+		publish(cacheName + " " + CLEAR);
+	}
+
+	@Override
+	public void destroy() {
+		repeater.shutdownNow();
+	}
+
+	private void publish(String body) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL.getTopic(), nodeId + " " + body);
+		} catch (Exception e) {
+			log.warn("Could not broadcast cache invalidation '{}': {}", body, e.getMessage());
+		}
+	}
+}
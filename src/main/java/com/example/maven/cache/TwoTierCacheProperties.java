@@ -0,0 +1,72 @@
+package com.example.maven.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache policy defaults plus per-region overrides under {@code app.cache.regions.<region>.*}.
+ * A region setting left unset inherits the default of the same name.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+@Getter
+@Setter
+public class TwoTierCacheProperties {
+	// Budget of the in-process tier per region, in cached items (a list or task page weighs as many items as it holds)
+	private long localMaximumWeight = 10_000;
+
+	// Upper bound on how long a node can serve a value whose invalidation message it missed
+	private Duration localTtl = Duration.ofSeconds(60);
+
+	// Long by default, as writes evict after commit and again after re-evict-delay
+	private Duration redisTtl = Duration.ofHours(1);
+
+	// Delay of the second eviction that removes values loaded by readers racing a commit; 0 disables it
+	private Duration reEvictDelay = Duration.ofMillis(500);
+
+	// Whether a null result is cached; when off, null results are returned but never stored
+	private boolean cacheNulls = true;
+
+	// XFetch beta for refresh-ahead of synchronized regions; higher refreshes earlier, 0 disables it
+	private double refreshAheadBeta = 1.0;
+
+	// How long a node that missed waits for another node's load of the same key before loading itself
+	private Duration loadLockLease = Duration.ofSeconds(5);
+
+	// Negative lookups are kept briefly by default, so a row created elsewhere shows up soon
+	private Map<String, Region> regions = new HashMap<>(Map.of(NotFoundGuard.NOT_FOUND, Region.withTtl(Duration.ofSeconds(30))));
+
+	public CachePolicy policyFor(String region) {
+		Region overrides = regions.getOrDefault(region, new Region());
+		return new CachePolicy(
+				overrides.localMaximumWeight != null ? overrides.localMaximumWeight : localMaximumWeight,
+				overrides.localTtl != null ? overrides.localTtl : localTtl,
+				overrides.redisTtl != null ? overrides.redisTtl : redisTtl,
+				overrides.cacheNulls != null ? overrides.cacheNulls : cacheNulls,
+				overrides.refreshAheadBeta != null ? overrides.refreshAheadBeta : refreshAheadBeta
+		);
+	}
+
+	@Getter
+	@Setter
+	public static class Region {
+		private Long localMaximumWeight;
+		private Duration localTtl;
+		private Duration redisTtl;
+		private Boolean cacheNulls;
+		private Double refreshAheadBeta;
+
+		static Region withTtl(Duration ttl) {
+			var region = new Region();
+			region.setLocalTtl(ttl);
+			region.setRedisTtl(ttl);
+			return region;
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package com.example.maven.config;
+
+import com.example.maven.cache.CachePolicy;
+import com.example.maven.cache.CacheRefresher;
+import com.example.maven.cache.CacheValueCodec;
+import com.example.maven.cache.RedisKeyLock;
+import com.example.maven.cache.TwoTierCacheManager;
+import com.example.maven.cache.TwoTierCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Configuration
+public class CacheConfig {
+
+	// Redis stays the shared source of cached data; each node keeps a small local copy in front of it
+	@Bean
+	public TwoTierCacheManager cacheManager(RedisConnectionFactory connectionFactory,
+											StringRedisTemplate redisTemplate,
+											RedisMessageListenerContainer listenerContainer,
+											RedisKeyLock redisKeyLock,
+											CacheRefresher cacheRefresher,
+											TwoTierCacheProperties properties,
+											MeterRegistry meterRegistry) {
+		Map<String, RedisCacheConfiguration> regions = new HashMap<>();
+		properties.getRegions().keySet()
+				.forEach(region -> regions.put(region, redisCacheConfiguration(properties.policyFor(region))));
+
+		var redisCacheManager = RedisCacheManager.builder(connectionFactory)
+				.cacheDefaults(redisCacheConfiguration(properties.policyFor(null)))
+				.withInitialCacheConfigurations(regions)
+				.build();
+		redisCacheManager.initializeCaches();
+
+		return new TwoTierCacheManager(redisCacheManager, redisTemplate, listenerContainer,
+				redisKeyLock, cacheRefresher, properties, meterRegistry);
+	}
+
+	private static RedisCacheConfiguration redisCacheConfiguration(CachePolicy policy) {
+		var configuration = RedisCacheConfiguration.defaultCacheConfig()
+				.entryTtl(policy.redisTtl())
+				.serializeValuesWith(SerializationPair.fromSerializer(new CacheValueCodec()));
+		return policy.cacheNulls() ? configuration : configuration.disableCachingNullValues();
+	}
+}
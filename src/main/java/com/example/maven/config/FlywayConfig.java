@@ -0,0 +1,16 @@
+package com.example.maven.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+	// Databases created by Hibernate before migrations were versioned already hold the V1 schema
+	@Bean
+	public FlywayConfigurationCustomizer baselineExistingSchema() {
+		return configuration -> configuration
+				.baselineOnMigrate(true)
+				.baselineVersion("1");
+	}
+}
@@ -0,0 +1,23 @@
+package com.example.maven.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class HibernateConfig {
+	// Matches the sequences' allocation size, so one block of ids is written in one batch
+	static final int JDBC_BATCH_SIZE = 50;
+
+	// Sequence ids let Hibernate defer inserts to flush; ordering groups them per table into JDBC batches
+	@Bean
+	public HibernatePropertiesCustomizer jdbcBatching() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+			properties.put(AvailableSettings.ORDER_INSERTS, true);
+			properties.put(AvailableSettings.ORDER_UPDATES, true);
+			properties.put(AvailableSettings.BATCH_VERSIONED_DATA, true);
+		};
+	}
+}
@@ -1,7 +1,67 @@
 package com.example.maven.enums;
 
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
 public enum Role {
+	// Bit positions in role masks follow declaration order: only append new roles, never reorder
 	ROLE_ADMIN,
 	ROLE_MEMBER,
-	ROLE_OWNER
+	ROLE_OWNER;
+
+	private static final Role[] VALUES = values();
+	private static final int MASK_COUNT = 1 << VALUES.length;
+	private static final List<Set<Role>> ROLES_BY_MASK;
+	private static final List<List<GrantedAuthority>> AUTHORITIES_BY_MASK;
+
+	static {
+		List<Set<Role>> roles = new ArrayList<>(MASK_COUNT);
+		List<List<GrantedAuthority>> authorities = new ArrayList<>(MASK_COUNT);
+		for (int mask = 0; mask < MASK_COUNT; mask++) {
+			EnumSet<Role> set = EnumSet.noneOf(Role.class);
+			for (Role role : VALUES) {
+				if ((mask & role.mask()) != 0) set.add(role);
+			}
+			roles.add(Collections.unmodifiableSet(set));
+			authorities.add(set.stream().map(Role::authority).toList());
+		}
+		ROLES_BY_MASK = List.copyOf(roles);
+		AUTHORITIES_BY_MASK = List.copyOf(authorities);
+	}
+
+	private final GrantedAuthority authority = new SimpleGrantedAuthority(name());
+
+	public int mask() {
+		return 1 << ordinal();
+	}
+
+	public GrantedAuthority authority() {
+		return authority;
+	}
+
+	public static int toMask(Collection<Role> roles) {
+		int mask = 0;
+		if (roles == null) return mask;
+		for (Role role : roles) {
+			mask |= role.mask();
+		}
+		return mask;
+	}
+
+	// Shared immutable set for the mask; unknown bits from newer tokens are ignored
+	public static Set<Role> fromMask(int mask) {
+		return ROLES_BY_MASK.get(mask & (MASK_COUNT - 1));
+	}
+
+	// Shared immutable authority list for the mask
+	public static List<GrantedAuthority> authorities(int mask) {
+		return AUTHORITIES_BY_MASK.get(mask & (MASK_COUNT - 1));
+	}
 }
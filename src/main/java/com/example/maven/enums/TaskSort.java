@@ -0,0 +1,8 @@
+package com.example.maven.enums;
+
+// Task list orders; each ends with the id so the keyset cursor of a page is unique
+public enum TaskSort {
+	NEWEST,
+	OLDEST,
+	NAME
+}
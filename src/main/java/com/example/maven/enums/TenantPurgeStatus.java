@@ -0,0 +1,8 @@
+package com.example.maven.enums;
+
+public enum TenantPurgeStatus {
+	QUEUED,
+	RUNNING,
+	COMPLETED,
+	FAILED
+}
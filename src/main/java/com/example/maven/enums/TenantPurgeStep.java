@@ -0,0 +1,18 @@
+package com.example.maven.enums;
+
+// Steps of a tenant purge in the order they run; each table goes before the tables it references
+public enum TenantPurgeStep {
+	COMMENTS,
+	TASKS,
+	PROJECTS,
+	INVITATIONS,
+	REFRESH_TOKENS,
+	USERS,
+	COMPANY,
+	CACHES;
+
+	public TenantPurgeStep next() {
+		TenantPurgeStep[] steps = values();
+		return ordinal() + 1 < steps.length ? steps[ordinal() + 1] : null;
+	}
+}
@@ -1,5 +1,6 @@
 package com.example.maven.exception;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -29,6 +30,18 @@ public class GlobalExceptionHandler {
 				));
 	}
 
+	@ExceptionHandler(InvalidRequestException.class)
+	public ResponseEntity<Map<String, Object>> handleInvalidRequest(InvalidRequestException ex) {
+		return ResponseEntity
+				.status(HttpStatus.BAD_REQUEST)
+				.body(Map.of(
+						"timestamp", LocalDateTime.now().toString(),
+						"status", HttpStatus.BAD_REQUEST.value(),
+						"error", HttpStatus.BAD_REQUEST.getReasonPhrase(),
+						"message", ex.getMessage()
+				));
+	}
+
 	@ExceptionHandler(AccessDeniedException.class)
 	public ResponseEntity<Map<String, Object>> handleAccessDenied(AccessDeniedException ex) {
 		return ResponseEntity
@@ -53,6 +66,19 @@ public class GlobalExceptionHandler {
 				));
 	}
 
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<Map<String, Object>> handleTooManyRequests(TooManyRequestsException ex) {
+		return ResponseEntity
+				.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+				.body(Map.of(
+						"timestamp", LocalDateTime.now().toString(),
+						"status", HttpStatus.TOO_MANY_REQUESTS.value(),
+						"error", HttpStatus.TOO_MANY_REQUESTS.getReasonPhrase(),
+						"message", ex.getMessage()
+				));
+	}
+
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<Map<String, String>> handleValidationExceptions(MethodArgumentNotValidException ex) {
 		Map<String, String> errors = new HashMap<>();
@@ -0,0 +1,9 @@
+package com.example.maven.exception;
+
+public class InvalidRequestException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+}
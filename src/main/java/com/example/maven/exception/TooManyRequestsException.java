@@ -0,0 +1,17 @@
+package com.example.maven.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	private final Duration retryAfter;
+
+	public TooManyRequestsException(String message, Duration retryAfter) {
+		super(message);
+		this.retryAfter = retryAfter;
+	}
+}
@@ -0,0 +1,171 @@
+package com.example.maven.logging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Access log stage: request threads hand events to a lock-free ring buffer and
+ * return immediately, a single background thread writes them as JSON lines to
+ * a size-rolled file. When the buffer is full the event is dropped and counted.
+ */
+@Slf4j
+@Component
+public class AccessLog implements DisposableBean {
+	private static final int LINE_SEPARATOR_BYTES = System.lineSeparator().length();
+
+	private final AccessLogProperties properties;
+	private final MpscRingBuffer<AccessLogEvent> buffer;
+	private final Counter droppedCounter;
+	private final Thread writerThread;
+	private volatile boolean running = true;
+
+	private BufferedWriter writer;
+	private long writtenBytes;
+
+	public AccessLog(AccessLogProperties properties, MeterRegistry meterRegistry) {
+		this.properties = properties;
+		this.buffer = new MpscRingBuffer<>(properties.getBufferSize());
+		this.droppedCounter = Counter.builder("access.log.dropped").register(meterRegistry);
+		Gauge.builder("access.log.buffer.size", buffer, MpscRingBuffer::size).register(meterRegistry);
+
+		this.writerThread = new Thread(this::drainLoop, "access-log-writer");
+		this.writerThread.setDaemon(true);
+		if (properties.isEnabled()) {
+			writerThread.start();
+		}
+	}
+
+	// Never blocks: sampling and enqueueing only
+	public void record(AccessLogEvent event) {
+		if (!properties.isEnabled() || !running) return;
+		if (!event.isFailure() && ThreadLocalRandom.current().nextDouble() >= properties.getSampleRate()) return;
+
+		if (!buffer.offer(event)) {
+			droppedCounter.increment();
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		running = false;
+		LockSupport.unpark(writerThread);
+		writerThread.join(properties.getFlushInterval().toMillis() * 5);
+	}
+
+	private void drainLoop() {
+		long parkNanos = properties.getFlushInterval().toNanos();
+		while (running || buffer.size() > 0) {
+			try {
+				if (drain() == 0) {
+					flush();
+					LockSupport.parkNanos(parkNanos);
+				}
+			} catch (IOException e) {
+				log.warn("Access log write failed: {}", e.getMessage());
+				closeQuietly();
+				LockSupport.parkNanos(parkNanos);
+			}
+		}
+		try {
+			flush();
+		} catch (IOException e) {
+			log.warn("Access log flush failed: {}", e.getMessage());
+		}
+		closeQuietly();
+	}
+
+	private int drain() throws IOException {
+		int written = 0;
+		AccessLogEvent event;
+		while ((event = buffer.poll()) != null) {
+			write(event.toJson());
+			written++;
+		}
+		return written;
+	}
+
+	private void write(String line) throws IOException {
+		if (writer == null) open();
+
+		writer.write(line);
+		writer.newLine();
+		writtenBytes += utf8Length(line) + LINE_SEPARATOR_BYTES;
+		if (writtenBytes >= properties.getMaxFileSize().toBytes()) {
+			roll();
+		}
+	}
+
+	// Encoded size without encoding: request paths may hold non-ASCII characters
+	static long utf8Length(CharSequence text) {
+		long bytes = 0;
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c < 0x80) {
+				bytes++;
+			} else if (c < 0x800) {
+				bytes += 2;
+			} else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+				bytes += 4;
+				i++;
+			} else {
+				bytes += 3;
+			}
+		}
+		return bytes;
+	}
+
+	private void open() throws IOException {
+		Path file = Path.of(properties.getFile());
+		if (file.getParent() != null) Files.createDirectories(file.getParent());
+		writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+		writtenBytes = Files.size(file);
+	}
+
+	// access.log -> access.log.1 -> ... -> access.log.<maxHistory>, oldest is discarded
+	private void roll() throws IOException {
+		closeQuietly();
+		Path file = Path.of(properties.getFile());
+		int maxHistory = properties.getMaxHistory();
+		Files.deleteIfExists(Path.of(file + "." + maxHistory));
+		for (int i = maxHistory - 1; i >= 1; i--) {
+			Path source = Path.of(file + "." + i);
+			if (Files.exists(source)) {
+				Files.move(source, Path.of(file + "." + (i + 1)), StandardCopyOption.REPLACE_EXISTING);
+			}
+		}
+		if (maxHistory > 0) {
+			Files.move(file, Path.of(file + ".1"), StandardCopyOption.REPLACE_EXISTING);
+		} else {
+			Files.deleteIfExists(file);
+		}
+	}
+
+	private void flush() throws IOException {
+		if (writer != null) writer.flush();
+	}
+
+	private void closeQuietly() {
+		if (writer == null) return;
+		try {
+			writer.close();
+		} catch (IOException ignored) {
+			// nothing left to do with a broken file handle
+		}
+		writer = null;
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.maven.logging;
+
+import java.time.Instant;
+
+public record AccessLogEvent(
+		Instant timestamp,
+		String method,
+		String path,
+		Long tenantId,
+		Long userId,
+		int status,
+		long latencyMicros,
+		String authFailure
+) {
+	boolean isFailure() {
+		return status >= 400 || authFailure != null;
+	}
+
+	String toJson() {
+		var json = new StringBuilder(160)
+				.append("{\"ts\":\"").append(timestamp).append('"')
+				.append(",\"method\":\"").append(method).append('"')
+				.append(",\"path\":");
+		appendString(json, path);
+		json.append(",\"tenant\":").append(tenantId)
+				.append(",\"user\":").append(userId)
+				.append(",\"status\":").append(status)
+				.append(",\"latencyUs\":").append(latencyMicros)
+				.append(",\"authFailure\":");
+		appendString(json, authFailure);
+		return json.append('}').toString();
+	}
+
+	private static void appendString(StringBuilder json, String value) {
+		if (value == null) {
+			json.append("null");
+			return;
+		}
+		json.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				default -> {
+					if (c < 0x20) json.append(String.format("\\u%04x", (int) c));
+					else json.append(c);
+				}
+			}
+		}
+		json.append('"');
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.maven.logging;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "access-log")
+@Getter
+@Setter
+public class AccessLogProperties {
+	private boolean enabled = true;
+	private String file = "logs/access.log";
+
+	// Share of successful requests that are logged; failures and auth errors are always kept
+	private double sampleRate = 1.0;
+
+	// Events buffered between request threads and the writer; overflow is dropped and counted
+	private int bufferSize = 8192;
+
+	private DataSize maxFileSize = DataSize.ofMegabytes(10);
+	private int maxHistory = 5;
+	private Duration flushInterval = Duration.ofMillis(200);
+}
@@ -0,0 +1,54 @@
+package com.example.maven.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded, lock-free multi-producer / single-consumer ring buffer.
+ * Producers claim a slot with a CAS on the tail and never wait: when the ring
+ * is full {@link #offer} returns false and the caller decides what to drop.
+ */
+final class MpscRingBuffer<E> {
+	private final AtomicReferenceArray<E> slots;
+	private final int mask;
+	private final AtomicLong tail = new AtomicLong();
+	// Written only by the consumer thread
+	private volatile long head;
+
+	MpscRingBuffer(int requestedCapacity) {
+		int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+		this.slots = new AtomicReferenceArray<>(capacity);
+		this.mask = capacity - 1;
+	}
+
+	boolean offer(E element) {
+		long claimed;
+		do {
+			claimed = tail.get();
+			if (claimed - head > mask) return false;
+		} while (!tail.compareAndSet(claimed, claimed + 1));
+
+		slots.lazySet((int) (claimed & mask), element);
+		return true;
+	}
+
+	// Must only be called from the single consumer thread
+	E poll() {
+		long current = head;
+		int index = (int) (current & mask);
+		E element = slots.get(index);
+		if (element == null) return null;
+
+		slots.lazySet(index, null);
+		head = current + 1;
+		return element;
+	}
+
+	int size() {
+		return (int) Math.max(0, tail.get() - head);
+	}
+
+	int capacity() {
+		return mask + 1;
+	}
+}
@@ -0,0 +1,21 @@
+package com.example.maven.persistence.converter;
+
+import com.example.maven.enums.Role;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Set;
+
+// Stores a role set as the bit mask of Role#mask, so roles are read with the user row itself
+@Converter
+public class RoleMaskConverter implements AttributeConverter<Set<Role>, Integer> {
+	@Override
+	public Integer convertToDatabaseColumn(Set<Role> roles) {
+		return Role.toMask(roles);
+	}
+
+	@Override
+	public Set<Role> convertToEntityAttribute(Integer mask) {
+		return Role.fromMask(mask == null ? 0 : mask);
+	}
+}
@@ -14,7 +14,8 @@ import lombok.Setter;
 @Table(name = "comments")
 public class Comment extends TenantEntity{
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comments_seq")
+	@SequenceGenerator(name = "comments_seq", sequenceName = "comments_seq", allocationSize = 50)
 	Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "companies")
 public class Company {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "companies_seq")
+	@SequenceGenerator(name = "companies_seq", sequenceName = "companies_seq", allocationSize = 50)
 	private Long id;
 
 	@Column(nullable = false, unique = true)
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class Invitation extends TenantEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invitations_seq")
+    @SequenceGenerator(name = "invitations_seq", sequenceName = "invitations_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "projects")
 public class Project extends TenantEntity{
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+	@SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
 	Long id;
 
 	@Column(length = 20, nullable = false)
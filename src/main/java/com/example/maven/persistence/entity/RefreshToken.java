@@ -0,0 +1,45 @@
+package com.example.maven.persistence.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "refresh_tokens")
+public class RefreshToken extends TenantEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_tokens_seq")
+	@SequenceGenerator(name = "refresh_tokens_seq", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "user_id", nullable = false)
+	@OnDelete(action = OnDeleteAction.CASCADE)
+	private User user;
+
+	// SHA-256 of the token handed to the client; the raw value is never stored
+	@Column(nullable = false, unique = true, length = 64)
+	private String tokenHash;
+
+	// All tokens rotated from the same login share a family, revoked together on reuse
+	@Column(nullable = false, length = 36)
+	private String familyId;
+
+	@Column(nullable = false)
+	private LocalDateTime expiresAt;
+
+	@Column(nullable = false)
+	private boolean revoked = false;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime createdAt = LocalDateTime.now();
+}
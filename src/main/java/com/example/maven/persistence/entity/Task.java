@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(name = "tasks")
 public class Task extends TenantEntity{
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+	@SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
 	Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,55 @@
+package com.example.maven.persistence.entity;
+
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// Progress of a tenant deletion; outlives the company, so companyId is a plain column
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "tenant_purges")
+public class TenantPurge {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tenant_purges_seq")
+	@SequenceGenerator(name = "tenant_purges_seq", sequenceName = "tenant_purges_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false, unique = true, updatable = false)
+	private long companyId;
+
+	// Reads the progress without a login, as the tenant's users are locked out once the purge is requested
+	@Column(nullable = false, unique = true, updatable = false, length = 36)
+	private String publicId = UUID.randomUUID().toString();
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private TenantPurgeStatus status = TenantPurgeStatus.QUEUED;
+
+	// The step to run next; steps before it are done
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private TenantPurgeStep step = TenantPurgeStep.COMMENTS;
+
+	@Column(nullable = false)
+	private long deletedRows;
+
+	@Column(nullable = false, updatable = false)
+	private LocalDateTime requestedAt = LocalDateTime.now();
+
+	@Column(nullable = false)
+	private LocalDateTime updatedAt = LocalDateTime.now();
+
+	private LocalDateTime finishedAt;
+
+	@Column(length = 500)
+	private String lastError;
+}
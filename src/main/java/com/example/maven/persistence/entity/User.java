@@ -1,11 +1,13 @@
 package com.example.maven.persistence.entity;
 
 import com.example.maven.enums.Role;
+import com.example.maven.persistence.converter.RoleMaskConverter;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -18,7 +20,8 @@ import java.util.Set;
 @Table(name = "users")
 public class User extends TenantEntity{
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+	@SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
 	Long id;
 
 	@Column(nullable = false)
@@ -33,9 +36,14 @@ public class User extends TenantEntity{
 	@Column(nullable = false)
 	private String password;
 
-	@ElementCollection(fetch = FetchType.EAGER)
-	@CollectionTable(name = "user_roles", joinColumns = @JoinColumn(name = "user_id"))
-	@Enumerated(EnumType.STRING)
-	@Column(name = "role")
+	// Bit mask of Role#mask on the user row; the set read back is shared and immutable, so replace it to change roles
+	@Convert(converter = RoleMaskConverter.class)
+	@Column(name = "role_mask", nullable = false)
+	@ColumnDefault("0")
 	private Set<Role> roles = new HashSet<>();
+
+	// Bumped whenever previously issued tokens must stop working (role change, deletion)
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	private int securityVersion;
 }
@@ -1,7 +1,10 @@
 package com.example.maven.persistence.repository;
 
+import com.example.maven.api.dto.response.CommentResponseDto;
 import com.example.maven.persistence.entity.Comment;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,5 +13,25 @@ import java.util.Optional;
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 	Optional<Comment> findByIdAndCompany_Id(long id, long companyId);
-	List<Comment> findAllByTask_IdAndCompany_Id(long taskId, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.CommentResponseDto(c.id, c.task.id, c.author.id, c.contents)
+			from Comment c
+			where c.id = :id and c.company.id = :companyId""")
+	Optional<CommentResponseDto> findResponseByIdAndCompanyId(long id, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.CommentResponseDto(c.id, c.task.id, c.author.id, c.contents)
+			from Comment c
+			where c.task.id = :taskId and c.company.id = :companyId
+			order by c.id""")
+	List<CommentResponseDto> findResponsesByTaskIdAndCompanyId(long taskId, long companyId);
+
+	long countByCompany_Id(long companyId);
+
+	@Query("select c.id from Comment c where c.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId);
+
+	@Query("select c.id from Comment c where c.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
 }
@@ -1,10 +1,16 @@
 package com.example.maven.persistence.repository;
 
 import com.example.maven.persistence.entity.Invitation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface InvitationRepository extends JpaRepository<Invitation, Long> {
     Optional<Invitation> findByToken(String token);
-}
\ No newline at end of file
+
+    @Query("select i.id from Invitation i where i.company.id = :companyId")
+    List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
+}
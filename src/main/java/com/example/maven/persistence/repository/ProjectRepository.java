@@ -1,14 +1,39 @@
 package com.example.maven.persistence.repository;
 
+import com.example.maven.api.dto.response.ProjectResponseDto;
 import com.example.maven.persistence.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 	Optional<Project> findByIdAndCompany_Id(long id, long companyId);
-	List<Project> findAllByCompany_Id(long companyId);
+	List<Project> findAllByIdInAndCompany_Id(Collection<Long> ids, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.ProjectResponseDto(p.id, p.name, p.description, p.createdAt)
+			from Project p
+			where p.id = :id and p.company.id = :companyId""")
+	Optional<ProjectResponseDto> findResponseByIdAndCompanyId(long id, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.ProjectResponseDto(p.id, p.name, p.description, p.createdAt)
+			from Project p
+			where p.company.id = :companyId
+			order by p.id""")
+	List<ProjectResponseDto> findResponsesByCompanyId(long companyId);
+
+	long countByCompany_Id(long companyId);
+
+	@Query("select p.id from Project p where p.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId);
+
+	@Query("select p.id from Project p where p.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
 }
@@ -0,0 +1,33 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.persistence.entity.RefreshToken;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+	Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+	// Returns 0 when another request already rotated (or revoked) this token
+	@Modifying
+	@Query("update RefreshToken r set r.revoked = true where r.id = :id and r.revoked = false")
+	int revokeIfActive(@Param("id") long id);
+
+	@Modifying
+	@Query("update RefreshToken r set r.revoked = true where r.familyId = :familyId")
+	int revokeFamily(@Param("familyId") String familyId);
+
+	@Modifying
+	@Query("update RefreshToken r set r.revoked = true where r.company.id = :companyId and r.revoked = false")
+	int revokeAllByCompanyId(@Param("companyId") long companyId);
+
+	@Query("select r.id from RefreshToken r where r.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.enums.TaskStatus;
+import com.example.maven.persistence.entity.Project;
+import com.example.maven.persistence.entity.User;
+
+// Columns a bulk update sets: a null status or project is left alone, the assignee only when reassign is set
+public record TaskBulkChanges(TaskStatus status, boolean reassign, User assignee, Project project) {
+}
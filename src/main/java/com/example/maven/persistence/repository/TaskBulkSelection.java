@@ -0,0 +1,9 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.enums.TaskStatus;
+
+import java.util.Collection;
+
+// Rows of one tenant a bulk update selects: null criteria are ignored, assigneeId 0 selects unassigned tasks
+public record TaskBulkSelection(long companyId, Collection<Long> ids, Long projectId, TaskStatus status, Long assigneeId) {
+}
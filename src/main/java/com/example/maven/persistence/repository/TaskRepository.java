@@ -1,15 +1,36 @@
 package com.example.maven.persistence.repository;
 
+import com.example.maven.api.dto.response.TaskResponseDto;
 import com.example.maven.persistence.entity.Task;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskRepositoryCustom {
 	Optional<Task> findByIdAndCompany_Id(long companyId, Long id);
-	List<Task> findAllByCompany_IdAndProject_Id(Long companyId, Long projectId);
-	List<Task> findAllByCompany_Id(Long companyId);
+	List<Task> findAllByIdInAndCompany_Id(Collection<Long> ids, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.TaskResponseDto(
+				t.id, t.name, t.description, coalesce(a.id, 0L), t.status, t.createdAt, t.dueTo)
+			from Task t left join t.assignee a
+			where t.id = :id and t.company.id = :companyId""")
+	Optional<TaskResponseDto> findResponseByIdAndCompanyId(long id, long companyId);
+
+	@Query("select t.project.id from Task t where t.company.id = :companyId group by t.project.id order by max(t.createdAt) desc")
+	List<Long> findMostRecentlyActiveProjectIds(Long companyId, Pageable pageable);
+
+	long countByCompany_Id(Long companyId);
+
+	@Query("select t.id from Task t where t.company.id = :companyId")
+	List<Long> findIdsByCompanyId(Long companyId);
+
+	@Query("select t.id from Task t where t.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
 }
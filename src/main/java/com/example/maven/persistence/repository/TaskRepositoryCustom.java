@@ -0,0 +1,21 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.persistence.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+// Criteria queries that derived and @Query methods cannot express
+public interface TaskRepositoryCustom {
+	// Selects the matching rows straight into response DTOs, so no Task entity is hydrated or tracked
+	List<TaskResponseDto> findResponses(Specification<Task> specification, Sort sort, int limit);
+
+	// One UPDATE ... RETURNING statement; returns each updated row with the project it was in before the change.
+	// Bypasses the persistence context, so run it before loading tasks
+	List<TaskRef> updateAll(TaskBulkSelection selection, TaskBulkChanges changes);
+
+	record TaskRef(long id, long projectId) {
+	}
+}
@@ -0,0 +1,110 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.persistence.entity.Task;
+import com.example.maven.persistence.entity.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<TaskResponseDto> findResponses(Specification<Task> specification, Sort sort, int limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TaskResponseDto> query = cb.createQuery(TaskResponseDto.class);
+		Root<Task> task = query.from(Task.class);
+		// Left join, so unassigned tasks stay in the result with assignee id 0
+		Join<Task, User> assignee = task.join("assignee", JoinType.LEFT);
+
+		query.select(cb.construct(TaskResponseDto.class,
+				task.get("id"),
+				task.get("name"),
+				task.get("description"),
+				cb.coalesce(assignee.<Long>get("id"), 0L),
+				task.get("status"),
+				task.get("createdAt"),
+				task.get("dueTo")
+		));
+		Predicate predicate = specification.toPredicate(task, query, cb);
+		if (predicate != null) query.where(predicate);
+		query.orderBy(QueryUtils.toOrders(sort, task, cb));
+
+		return entityManager.createQuery(query)
+				.setMaxResults(limit)
+				.getResultList();
+	}
+
+	// Native SQL, as JPQL has no RETURNING. The selection is bound as plain parameters, so no id list is sent
+	// unless the caller gave ids, and those are capped by the request
+	@Override
+	@SuppressWarnings("unchecked")
+	public List<TaskRef> updateAll(TaskBulkSelection selection, TaskBulkChanges changes) {
+		List<String> assignments = new ArrayList<>();
+		Map<String, Object> parameters = new HashMap<>();
+		if (changes.status() != null) {
+			assignments.add("status = :newStatus");
+			parameters.put("newStatus", changes.status().name());
+		}
+		if (changes.reassign()) {
+			if (changes.assignee() != null) {
+				assignments.add("assignee_id = :newAssigneeId");
+				parameters.put("newAssigneeId", changes.assignee().getId());
+			} else {
+				assignments.add("assignee_id = null");
+			}
+		}
+		if (changes.project() != null) {
+			assignments.add("project_id = :newProjectId");
+			parameters.put("newProjectId", changes.project().getId());
+		}
+
+		// Joined to the row as it was, so a moved task is returned with the project it left
+		StringBuilder sql = new StringBuilder("update tasks t set ").append(String.join(", ", assignments))
+				.append(" from tasks prev where prev.id = t.id and t.company_id = :companyId");
+		parameters.put("companyId", selection.companyId());
+		if (selection.ids() != null) {
+			sql.append(" and t.id in (:ids)");
+			parameters.put("ids", selection.ids());
+		}
+		if (selection.projectId() != null) {
+			sql.append(" and t.project_id = :projectId");
+			parameters.put("projectId", selection.projectId());
+		}
+		if (selection.status() != null) {
+			sql.append(" and t.status = :status");
+			parameters.put("status", selection.status().name());
+		}
+		if (selection.assigneeId() != null) {
+			if (selection.assigneeId() == 0) {
+				sql.append(" and t.assignee_id is null");
+			} else {
+				sql.append(" and t.assignee_id = :assigneeId");
+				parameters.put("assigneeId", selection.assigneeId());
+			}
+		}
+		sql.append(" returning t.id, prev.project_id");
+
+		Query query = entityManager.createNativeQuery(sql.toString());
+		parameters.forEach(query::setParameter);
+		return ((List<Object[]>) query.getResultList()).stream()
+				.map(row -> new TaskRef(((Number) row[0]).longValue(), ((Number) row[1]).longValue()))
+				.toList();
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.enums.TaskStatus;
+import com.example.maven.persistence.entity.Task;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+// Filters and keyset conditions for task slices, combined by TaskService
+public final class TaskSpecifications {
+	private TaskSpecifications() {
+	}
+
+	public static Specification<Task> ofCompany(long companyId) {
+		return (root, query, cb) -> cb.equal(root.get("company").get("id"), companyId);
+	}
+
+	public static Specification<Task> inProject(long projectId) {
+		return (root, query, cb) -> cb.equal(root.get("project").get("id"), projectId);
+	}
+
+	public static Specification<Task> withStatus(TaskStatus status) {
+		return (root, query, cb) -> cb.equal(root.get("status"), status);
+	}
+
+	public static Specification<Task> assignedTo(long assigneeId) {
+		return (root, query, cb) -> cb.equal(root.get("assignee").get("id"), assigneeId);
+	}
+
+	public static Specification<Task> unassigned() {
+		return (root, query, cb) -> cb.isNull(root.get("assignee"));
+	}
+
+	public static Specification<Task> dueFrom(LocalDateTime from) {
+		return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueTo"), from);
+	}
+
+	public static Specification<Task> dueBefore(LocalDateTime before) {
+		return (root, query, cb) -> cb.lessThan(root.get("dueTo"), before);
+	}
+
+	// Rows after (createdAt, id) in the given direction
+	public static Specification<Task> createdAfter(LocalDateTime createdAt, long id, boolean ascending) {
+		return (root, query, cb) -> ascending
+				? cb.or(cb.greaterThan(root.get("createdAt"), createdAt),
+						cb.and(cb.equal(root.get("createdAt"), createdAt), cb.greaterThan(root.get("id"), id)))
+				: cb.or(cb.lessThan(root.get("createdAt"), createdAt),
+						cb.and(cb.equal(root.get("createdAt"), createdAt), cb.lessThan(root.get("id"), id)));
+	}
+
+	// Rows after (name, id) in ascending order
+	public static Specification<Task> namedAfter(String name, long id) {
+		return (root, query, cb) -> cb.or(cb.greaterThan(root.get("name"), name),
+				cb.and(cb.equal(root.get("name"), name), cb.greaterThan(root.get("id"), id)));
+	}
+}
@@ -0,0 +1,22 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.persistence.entity.TenantPurge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TenantPurgeRepository extends JpaRepository<TenantPurge, Long> {
+	Optional<TenantPurge> findByCompanyId(long companyId);
+
+	Optional<TenantPurge> findByPublicId(String publicId);
+
+	boolean existsByCompanyId(long companyId);
+
+	List<TenantPurge> findAllByStatusInAndRequestedAtBefore(Collection<TenantPurgeStatus> statuses, LocalDateTime requestedBefore);
+}
@@ -1,15 +1,40 @@
 package com.example.maven.persistence.repository;
 
+import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.persistence.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findByIdAndCompany_Id(long id, long companyId);
-	List<User> findAllByCompany_Id(long companyId);
+	List<User> findAllByIdInAndCompany_Id(Collection<Long> ids, long companyId);
 	Optional<User> findByUsername(String username);
+
+	long countByCompany_Id(long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.UserResponseDto(u.id, u.username, u.displayedName, u.email, u.roles)
+			from User u
+			where u.id = :id and u.company.id = :companyId""")
+	Optional<UserResponseDto> findResponseByIdAndCompanyId(long id, long companyId);
+
+	@Query("""
+			select new com.example.maven.api.dto.response.UserResponseDto(u.id, u.username, u.displayedName, u.email, u.roles)
+			from User u
+			where u.company.id = :companyId
+			order by u.id""")
+	List<UserResponseDto> findResponsesByCompanyId(long companyId);
+
+	@Query("select u.id from User u where u.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId);
+
+	@Query("select u.id from User u where u.company.id = :companyId")
+	List<Long> findIdsByCompanyId(long companyId, Pageable pageable);
 }
@@ -0,0 +1,113 @@
+package com.example.maven.security;
+
+import com.example.maven.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the delegate encoder on a dedicated, bounded pool so CPU-heavy hashing
+ * cannot occupy every request thread. When the wait queue is full the call is
+ * shed immediately with {@link TooManyRequestsException}.
+ * Callers only park on a {@link Future}, which is cheap for virtual threads.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, DisposableBean {
+	private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final Timer encodeTimer;
+	private final Timer matchesTimer;
+	private final Timer queueWaitTimer;
+	private final Counter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+
+		var threadCounter = new AtomicInteger();
+		this.executor = new ThreadPoolExecutor(
+				properties.getThreads(), properties.getThreads(),
+				0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+				runnable -> {
+					Thread thread = new Thread(runnable, "password-hashing-" + threadCounter.incrementAndGet());
+					thread.setDaemon(true);
+					return thread;
+				},
+				new ThreadPoolExecutor.AbortPolicy()
+		);
+
+		this.encodeTimer = Timer.builder("security.password.hash")
+				.tag("operation", "encode")
+				.register(meterRegistry);
+		this.matchesTimer = Timer.builder("security.password.hash")
+				.tag("operation", "matches")
+				.register(meterRegistry);
+		this.queueWaitTimer = Timer.builder("security.password.hash.queue.wait")
+				.register(meterRegistry);
+		this.rejectedCounter = Counter.builder("security.password.hash.rejected")
+				.register(meterRegistry);
+		Gauge.builder("security.password.hash.queue.depth", executor, e -> e.getQueue().size())
+				.register(meterRegistry);
+		Gauge.builder("security.password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+				.register(meterRegistry);
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run(encodeTimer, () -> delegate.encode(rawPassword));
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run(matchesTimer, () -> delegate.matches(rawPassword, encodedPassword));
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdown();
+	}
+
+	private <T> T run(Timer timer, Callable<T> task) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+				return timer.recordCallable(task);
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.increment();
+			throw new TooManyRequestsException("Server is busy, try again later", RETRY_AFTER);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException runtimeException) throw runtimeException;
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package com.example.maven.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Address of the client behind our own proxies, for per-IP throttling.
+ * X-Forwarded-For is read right to left and the first hop that is not a trusted proxy wins,
+ * so entries a client adds itself are never used. Without a trusted peer the socket address is used.
+ */
+@Component
+public class ClientIpResolver {
+	private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+	private final List<IpAddressMatcher> trustedProxies;
+
+	public ClientIpResolver(LoginThrottleProperties properties) {
+		this.trustedProxies = properties.getTrustedProxies().stream()
+				.map(IpAddressMatcher::new)
+				.toList();
+	}
+
+	public String resolve(HttpServletRequest request) {
+		String remoteAddr = request.getRemoteAddr();
+		if (!isTrusted(remoteAddr)) return remoteAddr;
+
+		List<String> hops = new ArrayList<>();
+		for (String header : Collections.list(request.getHeaders(FORWARDED_FOR))) {
+			for (String hop : header.split(",")) {
+				if (!hop.isBlank()) hops.add(hop.strip());
+			}
+		}
+
+		String client = remoteAddr;
+		for (int i = hops.size() - 1; i >= 0; i--) {
+			client = hops.get(i);
+			if (!isTrusted(client)) break;
+		}
+		return client;
+	}
+
+	private boolean isTrusted(String address) {
+		try {
+			for (IpAddressMatcher proxy : trustedProxies) {
+				if (proxy.matches(address)) return true;
+			}
+			return false;
+		} catch (IllegalArgumentException ex) {
+			// Not an IP literal, so not one of our proxies
+			return false;
+		}
+	}
+}
@@ -24,7 +24,8 @@ public class CustomUserDetailsService implements UserDetailsService {
 				user.getUsername(),
 				user.getPassword(),
 				tenantId,
-				user.getRoles()
+				user.getRoles(),
+				user.getSecurityVersion()
 		);
 	}
 }
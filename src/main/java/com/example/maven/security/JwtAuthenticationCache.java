@@ -0,0 +1,53 @@
+package com.example.maven.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Bounded cache of already verified bearer tokens.
+ * Entries are keyed by a SHA-256 digest of the token (the raw token is never stored)
+ * and are dropped as soon as the token itself expires. Only the immutable principal is
+ * cached; callers build a fresh authentication token for each request.
+ */
+@Component
+public class JwtAuthenticationCache {
+	private final Cache<String, Entry> entries;
+	private Clock clock = Clock.systemUTC();
+
+	public JwtAuthenticationCache(JwtProperties properties) {
+		this.entries = Caffeine.newBuilder()
+				.maximumSize(properties.getAuthenticationCacheSize())
+				.expireAfter(Expiry.creating((String key, Entry entry) -> Duration.between(clock.instant(), entry.expiresAt())))
+				.ticker(() -> clock.millis() * 1_000_000L)
+				.build();
+	}
+
+	public Optional<UserPrincipal> get(String token){
+		Entry entry = entries.getIfPresent(TokenDigests.sha256(token));
+		return entry != null ? Optional.of(entry.principal()) : Optional.empty();
+	}
+
+	public void put(String token, UserPrincipal principal, Instant expiresAt){
+		if (expiresAt == null || !expiresAt.isAfter(clock.instant())) return;
+
+		entries.put(TokenDigests.sha256(token), new Entry(principal, expiresAt));
+	}
+
+	public long size(){
+		entries.cleanUp();
+		return entries.estimatedSize();
+	}
+
+	void setClock(Clock clock){
+		this.clock = clock;
+	}
+
+	private record Entry(UserPrincipal principal, Instant expiresAt) {}
+}
@@ -1,48 +1,87 @@
 package com.example.maven.security;
 
+import com.example.maven.logging.AccessLog;
+import com.example.maven.logging.AccessLogEvent;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.Optional;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private final JwtDecoder jwtDecoder;
 	private final JwtToPrincipalConverter jwtToPrincipalConverter;
+	private final JwtAuthenticationCache authenticationCache;
+	private final AccessLog accessLog;
+	private final TokenRevocationService tokenRevocationService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		long startedAt = System.nanoTime();
 		String path = request.getRequestURI();
-		System.out.println("Processing request for path: " + path);
-
-		if (path.startsWith("/api/auth/") || path.equals("/api/invitations/accept")) {
-			System.out.println("Skipping JWT for public path: " + path);
-			filterChain.doFilter(request, response);
-			return;
-		}
+		UserPrincipal principal = null;
+		String authFailure = null;
 
 		try {
-			extractTokenFromRequest(request)
-					.map(jwtDecoder::decode)
-					.map(jwtToPrincipalConverter::convert)
-					.map(UserPrincipalAuthToken::new)
-					.ifPresent(authentication -> SecurityContextHolder.getContext().setAuthentication(authentication));
-		} catch (Exception ex) {
-			System.out.println("EXCEPTION IN SECURITY");
-		}
+			if (path.startsWith("/api/auth/") || path.equals("/api/invitations/accept")) {
+				filterChain.doFilter(request, response);
+				return;
+			}
 
-		filterChain.doFilter(request, response);
+			try {
+				var authentication = extractTokenFromRequest(request).map(this::authenticate);
+				if (authentication.isPresent()) {
+					if (tokenRevocationService.isRevoked(authentication.get().getPrincipal())) {
+						authFailure = "TokenRevoked";
+					} else {
+						SecurityContextHolder.getContext().setAuthentication(authentication.get());
+						principal = authentication.get().getPrincipal();
+						TenantContext.set(principal);
+					}
+				}
+			} catch (Exception ex) {
+				authFailure = ex.getClass().getSimpleName();
+				log.debug("JWT authentication failed for {}: {}", path, ex.getMessage());
+			}
+
+			filterChain.doFilter(request, response);
+		} finally {
+			TenantContext.clear();
+			accessLog.record(new AccessLogEvent(
+					Instant.now(),
+					request.getMethod(),
+					path,
+					principal != null ? principal.getTenantId() : null,
+					principal != null ? principal.getId() : null,
+					response.getStatus(),
+					(System.nanoTime() - startedAt) / 1_000,
+					authFailure
+			));
+		}
 	}
 
+	// The token is mutable and lives in this request's SecurityContext, so only the principal is shared
+	private UserPrincipalAuthToken authenticate(String token){
+		UserPrincipal principal = authenticationCache.get(token).orElseGet(() -> {
+			var jwt = jwtDecoder.decode(token);
+			var converted = jwtToPrincipalConverter.convert(jwt);
+			authenticationCache.put(token, converted, jwt.getExpiresAtAsInstant());
+			return converted;
+		});
+		return new UserPrincipalAuthToken(principal);
+	}
 
 	private Optional<String> extractTokenFromRequest(HttpServletRequest request){
 		var token = request.getHeader("Authorization");
@@ -0,0 +1,14 @@
+package com.example.maven.security;
+
+final class JwtClaims {
+	static final String USERNAME = "username";
+	static final String COMPANY_ID = "companyId";
+	// Compact role bitmask, see Role#mask()
+	static final String ROLE_MASK = "rm";
+	// Role name list read by older releases; still written alongside the mask and accepted on decode
+	static final String LEGACY_ROLES = "roles";
+	// User security version at issue time, see TokenRevocationService
+	static final String SECURITY_VERSION = "sv";
+
+	private JwtClaims() {}
+}
@@ -1,6 +1,7 @@
 package com.example.maven.security;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import lombok.RequiredArgsConstructor;
@@ -11,9 +12,19 @@ import org.springframework.stereotype.Component;
 public class JwtDecoder {
 	private final JwtProperties properties;
 
+	// JWTVerifier is immutable and thread-safe, so one instance serves every request
+	private volatile JWTVerifier verifier;
+
 	public DecodedJWT decode(String token){
-		return JWT.require(Algorithm.HMAC256(properties.getSecretKey()))
-				.build()
-				.verify(token);
+		return verifier().verify(token);
+	}
+
+	private JWTVerifier verifier(){
+		var current = verifier;
+		if (current == null) {
+			current = JWT.require(Algorithm.HMAC256(properties.getSecretKey())).build();
+			verifier = current;
+		}
+		return current;
 	}
 }
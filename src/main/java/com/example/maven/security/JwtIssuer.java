@@ -2,12 +2,11 @@ package com.example.maven.security;
 
 import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.example.maven.enums.Role;
 import org.springframework.stereotype.Component;
 
-import java.time.Duration;
 import java.time.Instant;
-import java.time.temporal.ChronoUnit;
-import java.util.List;
+import java.util.Set;
 
 @Component
 public class JwtIssuer {
@@ -17,13 +16,16 @@ public class JwtIssuer {
 		this.properties = properties;
 	}
 
-	public String issue(long userId, String username, List<String> roles, long companyId){
+	public String issue(long userId, String username, Set<Role> roles, long companyId, int securityVersion){
 		return JWT.create()
 				.withSubject(String.valueOf(userId))
-				.withExpiresAt(Instant.now().plus(Duration.of(1, ChronoUnit.DAYS)))
-				.withClaim("username", username)
-				.withClaim("roles", roles)
-				.withClaim("companyId", companyId)
+				.withExpiresAt(Instant.now().plus(properties.getAccessTokenTtl()))
+				.withClaim(JwtClaims.USERNAME, username)
+				.withClaim(JwtClaims.ROLE_MASK, Role.toMask(roles))
+				// Kept for one release so nodes still on the previous version read the roles during a rolling deploy
+				.withClaim(JwtClaims.LEGACY_ROLES, roles.stream().map(Role::name).toList())
+				.withClaim(JwtClaims.COMPANY_ID, companyId)
+				.withClaim(JwtClaims.SECURITY_VERSION, securityVersion)
 				.sign(Algorithm.HMAC256(properties.getSecretKey()));
 	}
 }
@@ -5,10 +5,18 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 @ConfigurationProperties(prefix = "security.jwt")
 @Getter
 @Setter
 public class JwtProperties {
 	private String secretKey;
+
+	private Duration accessTokenTtl = Duration.ofMinutes(15);
+	private Duration refreshTokenTtl = Duration.ofDays(30);
+
+	// Upper bound for verified tokens kept by JwtAuthenticationCache
+	private int authenticationCacheSize = 10_000;
 }
@@ -6,8 +6,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -15,21 +13,34 @@ public class JwtToPrincipalConverter {
 	public UserPrincipal convert(DecodedJWT jwt){
 		return UserPrincipal.builder()
 				.id(Long.parseLong(jwt.getSubject()))
-				.username(jwt.getClaim("username").asString())
-				.tenantId(jwt.getClaim("companyId").asLong())
-				.roles(extractAuthoritiesFromClaim(jwt))
+				.username(jwt.getClaim(JwtClaims.USERNAME).asString())
+				.tenantId(jwt.getClaim(JwtClaims.COMPANY_ID).asLong())
+				.roles(Role.fromMask(extractRoleMask(jwt)))
+				.securityVersion(extractSecurityVersion(jwt))
 				.build();
 
 	}
 
-	private Set<Role> extractAuthoritiesFromClaim(DecodedJWT jwt) {
-		var claim = jwt.getClaim("roles");
-		if (claim.isNull() || claim.isMissing()) return Set.of();
+	private int extractSecurityVersion(DecodedJWT jwt) {
+		var claim = jwt.getClaim(JwtClaims.SECURITY_VERSION);
+		return claim.isNull() || claim.isMissing() ? 0 : claim.asInt();
+	}
+
+	private int extractRoleMask(DecodedJWT jwt) {
+		var maskClaim = jwt.getClaim(JwtClaims.ROLE_MASK);
+		if (!maskClaim.isNull() && !maskClaim.isMissing()) return maskClaim.asInt();
+
+		// Tokens issued before the bitmask claim carry role names
+		var claim = jwt.getClaim(JwtClaims.LEGACY_ROLES);
+		if (claim.isNull() || claim.isMissing()) return 0;
 		List<String> roles = claim.asList(String.class);
-		if (roles == null) return Set.of();
-		return roles.stream()
-				.map(Role::valueOf)
-				.collect(Collectors.toSet());
+		if (roles == null) return 0;
+
+		int mask = 0;
+		for (String role : roles) {
+			mask |= Role.valueOf(role).mask();
+		}
+		return mask;
 	}
 
 }
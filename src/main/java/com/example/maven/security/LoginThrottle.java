@@ -0,0 +1,91 @@
+package com.example.maven.security;
+
+import com.example.maven.exception.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fixed-window login limiter keyed by client IP and by username.
+ * Rejects before any BCrypt work is scheduled. Every attempt counts against the client IP; refresh and
+ * invitation accept draw on the same per-IP budget, as each one is a guess at a secret token. Only failed
+ * logins count against a username, and a successful login clears them, so a burst of correct logins is
+ * never throttled by name.
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginThrottle {
+	private static final int MAX_TRACKED_KEYS = 100_000;
+
+	private final LoginThrottleProperties properties;
+	private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+	public void check(String clientIp, String username) {
+		long now = System.currentTimeMillis();
+		if (windows.size() > MAX_TRACKED_KEYS) {
+			purgeExpired(now);
+		}
+
+		if (clientIp != null) {
+			acquire("ip:" + clientIp, properties.getMaxAttemptsPerIp(), now);
+		}
+		if (username != null) {
+			Window failures = windows.get(usernameKey(username));
+			if (failures != null && now - failures.start() < windowMillis()
+					&& failures.attempts() >= properties.getMaxFailuresPerUsername()) {
+				throw tooManyAttempts(failures, now);
+			}
+		}
+	}
+
+	public void recordFailure(String username) {
+		long now = System.currentTimeMillis();
+		windows.compute(usernameKey(username), (k, current) -> next(current, now));
+	}
+
+	public void recordSuccess(String username) {
+		windows.remove(usernameKey(username));
+	}
+
+	// For unauthenticated endpoints that take a token rather than a username
+	public void check(String clientIp) {
+		check(clientIp, null);
+	}
+
+	private void acquire(String key, int limit, long now) {
+		Window window = windows.compute(key, (k, current) -> next(current, now));
+		if (window.attempts() > limit) {
+			throw tooManyAttempts(window, now);
+		}
+	}
+
+	private Window next(Window current, long now) {
+		return current == null || now - current.start() >= windowMillis()
+				? new Window(now, 1)
+				: new Window(current.start(), current.attempts() + 1);
+	}
+
+	private TooManyRequestsException tooManyAttempts(Window window, long now) {
+		long retryAfterMillis = Math.max(1, window.start() + windowMillis() - now);
+		return new TooManyRequestsException("Too many authentication attempts, try again later",
+				Duration.ofMillis(retryAfterMillis));
+	}
+
+	private long windowMillis() {
+		return properties.getWindow().toMillis();
+	}
+
+	private static String usernameKey(String username) {
+		return "user:" + username.toLowerCase();
+	}
+
+	private void purgeExpired(long now) {
+		long windowMillis = windowMillis();
+		windows.values().removeIf(window -> now - window.start() >= windowMillis);
+	}
+
+	private record Window(long start, int attempts) {}
+}
@@ -0,0 +1,25 @@
+package com.example.maven.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.login-throttle")
+@Getter
+@Setter
+public class LoginThrottleProperties {
+	private Duration window = Duration.ofMinutes(1);
+	private int maxAttemptsPerIp = 30;
+
+	// Only failed logins count; a successful one clears the username's window
+	private int maxFailuresPerUsername = 10;
+
+	// Load balancers and reverse proxies whose X-Forwarded-For entries are believed, as addresses or CIDR ranges
+	private List<String> trustedProxies = List.of(
+			"127.0.0.0/8", "::1", "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "fc00::/7");
+}
@@ -0,0 +1,18 @@
+package com.example.maven.security;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "security.password-hashing")
+@Getter
+@Setter
+public class PasswordHashingProperties {
+	// Worker threads running BCrypt; defaults to one per core so hashing never exceeds the CPU budget
+	private int threads = Runtime.getRuntime().availableProcessors();
+
+	// Hash requests allowed to wait for a worker before new ones are shed with 429
+	private int queueCapacity = 64;
+}
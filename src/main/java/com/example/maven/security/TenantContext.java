@@ -0,0 +1,53 @@
+package com.example.maven.security;
+
+/**
+ * Tenant and user of the current request, resolved once by {@link JwtAuthenticationFilter}.
+ * Lookups are a single thread-local read instead of a walk through the security context.
+ * The filter always clears it, so pooled and virtual threads never see a previous request.
+ * Work handed to another thread takes the context along with {@link #propagate(Runnable)},
+ * and background jobs acting for a tenant {@link #run(Runnable) run} under their own.
+ */
+public record TenantContext(long tenantId, long userId) {
+	// User id of background work done for a tenant rather than for one of its users
+	public static final long SYSTEM_USER_ID = 0L;
+
+	private static final ThreadLocal<TenantContext> CURRENT = new ThreadLocal<>();
+
+	// Null outside a request or a tenant job
+	public static TenantContext current() {
+		return CURRENT.get();
+	}
+
+	public static TenantContext ofTenant(long tenantId) {
+		return new TenantContext(tenantId, SYSTEM_USER_ID);
+	}
+
+	// Captures the caller's context for a task that runs on another thread
+	public static Runnable propagate(Runnable task) {
+		TenantContext context = CURRENT.get();
+		return context != null ? () -> context.run(task) : task;
+	}
+
+	// Runs the task under this context and restores whatever the thread had before
+	public void run(Runnable task) {
+		TenantContext previous = CURRENT.get();
+		CURRENT.set(this);
+		try {
+			task.run();
+		} finally {
+			if (previous != null) {
+				CURRENT.set(previous);
+			} else {
+				CURRENT.remove();
+			}
+		}
+	}
+
+	static void set(UserPrincipal principal) {
+		CURRENT.set(new TenantContext(principal.getTenantId(), principal.getId()));
+	}
+
+	static void clear() {
+		CURRENT.remove();
+	}
+}
@@ -0,0 +1,126 @@
+package com.example.maven.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+
+/**
+ * Node-local view of the minimum token security version per user.
+ * Tokens whose "sv" claim is below it are rejected without touching the database.
+ * Changes are stored in a Redis hash and broadcast over pub/sub so every node
+ * applies them within moments; a periodic resync covers missed messages.
+ * Once every access token issued before a revocation has expired the entry can no longer
+ * match, so it is dropped after the access-token lifetime, locally and from the hash.
+ */
+@Slf4j
+@Component
+public class TokenRevocationService implements MessageListener, InitializingBean {
+	public static final int DELETED_USER_VERSION = Integer.MAX_VALUE;
+
+	private static final String VERSIONS_KEY = "security:token-versions";
+	private static final ChannelTopic CHANNEL = new ChannelTopic("security:token-revocations");
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final JwtProperties jwtProperties;
+	private final Cache<Long, Integer> minimumVersions;
+	private Clock clock = Clock.systemUTC();
+
+	public TokenRevocationService(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+								  JwtProperties jwtProperties) {
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.jwtProperties = jwtProperties;
+		this.minimumVersions = Caffeine.newBuilder()
+				.expireAfterWrite(jwtProperties.getAccessTokenTtl())
+				.ticker(() -> clock.millis() * 1_000_000L)
+				.build();
+	}
+
+	@Override
+	public void afterPropertiesSet() {
+		listenerContainer.addMessageListener(this, CHANNEL);
+	}
+
+	public boolean isRevoked(UserPrincipal principal) {
+		Integer minimum = minimumVersions.getIfPresent(principal.getId());
+		return minimum != null && principal.getSecurityVersion() < minimum;
+	}
+
+	// Invalidates every token of the user issued with a lower version; applied after commit
+	public void revokeUser(long userId, int minimumVersion) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					publish(userId, minimumVersion);
+				}
+			});
+		} else {
+			publish(userId, minimumVersion);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int separator = body.indexOf(':');
+		if (separator < 0) return;
+		apply(Long.parseLong(body.substring(0, separator)), Integer.parseInt(body.substring(separator + 1)));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${security.revocation.resync-interval:30s}", initialDelayString = "${security.revocation.resync-interval:30s}")
+	public void resync() {
+		long expiredBefore = clock.millis() - jwtProperties.getAccessTokenTtl().toMillis();
+		try {
+			redisTemplate.<String, String>opsForHash().entries(VERSIONS_KEY).forEach((userId, value) -> {
+				// Hash values are "<version>:<revokedAtMillis>"
+				int separator = value.indexOf(':');
+				if (Long.parseLong(value.substring(separator + 1)) < expiredBefore) {
+					redisTemplate.opsForHash().delete(VERSIONS_KEY, userId);
+				} else {
+					apply(Long.parseLong(userId), Integer.parseInt(value.substring(0, separator)));
+				}
+			});
+		} catch (Exception e) {
+			log.warn("Could not load token revocations from Redis: {}", e.getMessage());
+		}
+	}
+
+	private void publish(long userId, int minimumVersion) {
+		apply(userId, minimumVersion);
+		try {
+			redisTemplate.opsForHash().put(VERSIONS_KEY, String.valueOf(userId), minimumVersion + ":" + clock.millis());
+			redisTemplate.convertAndSend(CHANNEL.getTopic(), userId + ":" + minimumVersion);
+		} catch (Exception e) {
+			log.warn("Could not broadcast token revocation for user {}: {}", userId, e.getMessage());
+		}
+	}
+
+	void setClock(Clock clock) {
+		this.clock = clock;
+	}
+
+	// Only a higher minimum is written, so re-applying a known revocation does not extend its lifetime
+	private void apply(long userId, int minimumVersion) {
+		Integer current = minimumVersions.getIfPresent(userId);
+		if (current != null && current >= minimumVersion) return;
+		minimumVersions.asMap().merge(userId, minimumVersion, Math::max);
+	}
+}
@@ -5,29 +5,42 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Set;
 
 @Getter
-@Builder
 public class UserPrincipal implements UserDetails {
+	private static final long serialVersionUID = 1L;
+
 	private final Long id;
 	private final String username;
 	private final String password;
 	private final Long tenantId;
-	private final Set<Role> roles;
+	private final int roleMask;
+	private final int securityVersion;
+
+	@Builder
+	public UserPrincipal(Long id, String username, String password, Long tenantId, Set<Role> roles, int securityVersion) {
+		this.id = id;
+		this.username = username;
+		this.password = password;
+		this.tenantId = tenantId;
+		this.roleMask = Role.toMask(roles);
+		this.securityVersion = securityVersion;
+	}
+
+	// Roles and authorities are shared immutable values from Role, so only the mask is stored
+	public Set<Role> getRoles() {
+		return Role.fromMask(roleMask);
+	}
 
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
-		return roles.stream()
-				.map(r -> new SimpleGrantedAuthority(r.name()))
-				.toList();
+		return Role.authorities(roleMask);
 	}
 
-
 	@Override
 	public String getPassword() {
 		return password;
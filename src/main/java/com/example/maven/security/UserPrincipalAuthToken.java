@@ -2,13 +2,15 @@ package com.example.maven.security;
 
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 
-public class UserPrincipalAuthToken extends AbstractAuthenticationToken {
+public final class UserPrincipalAuthToken extends AbstractAuthenticationToken {
+	private static final long serialVersionUID = 1L;
+
 	private final UserPrincipal principal;
 
 	public UserPrincipalAuthToken(UserPrincipal principal) {
 		super(principal.getAuthorities());
 		this.principal = principal;
-		setAuthenticated(true);
+		super.setAuthenticated(true);
 	}
 
 	@Override
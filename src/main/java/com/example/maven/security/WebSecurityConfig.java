@@ -1,9 +1,10 @@
 package com.example.maven.security;
 
-
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -41,6 +42,7 @@ public class WebSecurityConfig {
 				.authorizeHttpRequests(auth -> auth
 						.requestMatchers("/api/auth/**").permitAll()
 						.requestMatchers("/api/invitations/accept").permitAll()
+						.requestMatchers(HttpMethod.GET, "/api/company/deletions/*").permitAll()
 						.anyRequest().authenticated()
 				);
 
@@ -48,8 +50,8 @@ public class WebSecurityConfig {
 	}
 
 	@Bean
-	public PasswordEncoder passwordEncoder(){
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordHashingProperties properties, MeterRegistry meterRegistry){
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), properties, meterRegistry);
 	}
 
 	@Bean
@@ -1,12 +1,16 @@
 package com.example.maven.service;
 
 import com.example.maven.api.dto.response.LoginResponse;
+import com.example.maven.cache.CacheWarmupService;
 import com.example.maven.security.JwtIssuer;
+import com.example.maven.security.LoginThrottle;
 import com.example.maven.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
@@ -15,19 +19,39 @@ import org.springframework.stereotype.Service;
 public class AuthService {
 	private final AuthenticationManager authenticationManager;
 	private final JwtIssuer jwtIssuer;
+	private final LoginThrottle loginThrottle;
+	private final RefreshTokenService refreshTokenService;
+	private final CacheWarmupService cacheWarmupService;
+	private final TenantPurgeService tenantPurgeService;
 
-	public LoginResponse attemptLogin(String username, String password) {
-		var authentication = authenticationManager.authenticate(
-				new UsernamePasswordAuthenticationToken(username, password)
-		);
-		SecurityContextHolder.getContext().setAuthentication(authentication);
+	public LoginResponse attemptLogin(String username, String password, String clientIp) {
+		loginThrottle.check(clientIp, username);
+
+		Authentication authentication;
+		try {
+			authentication = authenticationManager.authenticate(
+					new UsernamePasswordAuthenticationToken(username, password)
+			);
+		} catch (BadCredentialsException ex) {
+			loginThrottle.recordFailure(username);
+			throw ex;
+		}
+		loginThrottle.recordSuccess(username);
 		var principal = (UserPrincipal) authentication.getPrincipal();
+		if (tenantPurgeService.isPurging(principal.getTenantId())) {
+			throw new DisabledException("Company is being deleted");
+		}
+		SecurityContextHolder.getContext().setAuthentication(authentication);
 
-		var roles = principal.getAuthorities().stream()
-				.map(GrantedAuthority::getAuthority)
-				.toList();
+		var token = jwtIssuer.issue(principal.getId(), principal.getUsername(), principal.getRoles(),
+				principal.getTenantId(), principal.getSecurityVersion());
+		var response = new LoginResponse(token, refreshTokenService.issue(principal.getId()));
+		cacheWarmupService.onLogin(principal);
+		return response;
+	}
 
-		var token = jwtIssuer.issue(principal.getId(), principal.getUsername(), roles, principal.getTenantId());
-		return new LoginResponse(token);
+	public LoginResponse refresh(String refreshToken, String clientIp) {
+		loginThrottle.check(clientIp);
+		return refreshTokenService.refresh(refreshToken);
 	}
 }
\ No newline at end of file
@@ -4,6 +4,9 @@ import com.example.maven.api.dto.request.comment.CommentCreateDto;
 import com.example.maven.api.dto.request.comment.CommentUpdateDto;
 import com.example.maven.api.dto.response.CommentResponseDto;
 import com.example.maven.api.mapper.CommentMapper;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.ListCacheInvalidator;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Comment;
 import com.example.maven.persistence.entity.Company;
@@ -14,13 +17,12 @@ import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.TaskRepository;
 import com.example.maven.persistence.repository.UserRepository;
 import com.example.maven.utils.SecurityUtils;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -34,9 +36,9 @@ public class CommentService {
 	private final UserRepository userRepository;
 	private final CommentMapper commentMapper;
 	private final SecurityUtils securityUtils;
+	private final ListCacheInvalidator listCacheInvalidator;
+	private final NotFoundGuard notFoundGuard;
 
-	// Evict all task comments caches when creating (we don't know which taskId caches exist)
-	@CacheEvict(value = "taskComments", allEntries = true)
 	public CommentResponseDto createComment(CommentCreateDto dto){
 		long tenantId = securityUtils.getCurrentTenantId();
 
@@ -52,47 +54,55 @@ public class CommentService {
 		Comment comment = commentMapper.fromCreateDto(dto, task, company, author);
 
 		Comment savedComment = commentRepository.save(comment);
+		listCacheInvalidator.evictTaskComments(tenantId, task.getId());
+		notFoundGuard.created(EntityKind.COMMENT, tenantId, savedComment.getId());
 
 		return commentMapper.toResponseDto(savedComment);
 	}
 
-	// Cache individual comment by ID
-	@Cacheable(value = "comments", key = "#id + '_' + @securityUtils.getCurrentTenantId()")
+	// Cache individual comment by ID; ids known to be missing are rejected before the query
+	@Cacheable(value = "comments", keyGenerator = "tenantKeyGenerator")
+	@Transactional(readOnly = true)
 	public CommentResponseDto findCommentById(long id){
-		return commentMapper.toResponseDto(findById(id));
+		long tenantId = securityUtils.getCurrentTenantId();
+		notFoundGuard.check(EntityKind.COMMENT, tenantId, id);
+		var comment = commentRepository.findResponseByIdAndCompanyId(id, tenantId);
+		if (comment.isEmpty()) {
+			notFoundGuard.recordMissing(EntityKind.COMMENT, tenantId, id);
+			throw new ResourceNotFoundException("Comment not found");
+		}
+		return comment.get();
 	}
 
 	// Cache comments list per task
-	@Cacheable(value = "taskComments", key = "#taskId + '_' + @securityUtils.getCurrentTenantId()")
+	@Cacheable(value = "taskComments", keyGenerator = "tenantKeyGenerator", sync = true)
+	@Transactional(readOnly = true)
 	public List<CommentResponseDto> findAllCommentsByTaskId(long taskId){
-		long tenantId = securityUtils.getCurrentTenantId();
-
-		return commentRepository.findAllByTask_IdAndCompany_Id(taskId, tenantId).stream()
-				.map(commentMapper::toResponseDto)
-				.toList();
+		return commentRepository.findResponsesByTaskIdAndCompanyId(taskId, securityUtils.getCurrentTenantId());
 	}
 
-	// Evict both individual comment cache and all task comments lists
-	@Caching(evict = {
-			@CacheEvict(value = "comments", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "taskComments", allEntries = true)
-	})
+	// Evict the individual comment here and its task's comment list in the method body
+	@CacheEvict(value = "comments", keyGenerator = "tenantKeyGenerator")
 	public CommentResponseDto updateMyCommentById(long id, CommentUpdateDto dto){
 		var comment = checkAuthor(id);
 		commentMapper.updateFromDto(comment, dto);
 		var savedComment = commentRepository.save(comment);
+		evictTaskComments(comment);
 
 		return commentMapper.toResponseDto(savedComment);
 	}
 
-	// Evict both individual comment cache and all task comments lists
-	@Caching(evict = {
-			@CacheEvict(value = "comments", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "taskComments", allEntries = true)
-	})
+	// Evict the individual comment here and its task's comment list in the method body
+	@CacheEvict(value = "comments", keyGenerator = "tenantKeyGenerator")
 	public void deleteMyCommentById(long id){
 		var comment = checkAuthor(id);
 		commentRepository.delete(comment);
+		evictTaskComments(comment);
+		notFoundGuard.deleted(EntityKind.COMMENT, securityUtils.getCurrentTenantId(), id);
+	}
+
+	private void evictTaskComments(Comment comment){
+		listCacheInvalidator.evictTaskComments(securityUtils.getCurrentTenantId(), comment.getTask().getId());
 	}
 
 	private Comment findById(long id){
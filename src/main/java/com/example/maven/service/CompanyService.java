@@ -4,13 +4,14 @@ import com.example.maven.api.dto.request.company.CompanyCreateDto;
 import com.example.maven.api.dto.request.user.UserCreateDto;
 import com.example.maven.api.dto.request.user.UserUpdateRolesDto;
 import com.example.maven.api.dto.response.CompanyResponseDto;
+import com.example.maven.api.dto.response.TenantPurgeResponseDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.CompanyMapper;
 import com.example.maven.enums.Role;
 import com.example.maven.persistence.repository.CompanyRepository;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Set;
 
@@ -21,6 +22,7 @@ public class CompanyService {
 	private final CompanyRepository companyRepository;
 	private final CompanyMapper companyMapper;
 	private final UserService userService;
+	private final TenantPurgeService tenantPurgeService;
 
 	public CompanyResponseDto createCompany(CompanyCreateDto dto) {
 		var company = companyMapper.fromCreateDto(dto);
@@ -45,7 +47,12 @@ public class CompanyService {
 
 
 
-	public void deleteCompany(long id){
-		companyRepository.deleteById(id);
+	// Locks the company's users out at once and deletes it in the background; the returned id reads the progress without a login
+	public TenantPurgeResponseDto deleteCompany(long id){
+		return companyMapper.toPurgeResponseDto(tenantPurgeService.requestPurge(id));
+	}
+
+	public TenantPurgeResponseDto findCompanyDeletion(String deletionId){
+		return companyMapper.toPurgeResponseDto(tenantPurgeService.findPurge(deletionId));
 	}
 }
@@ -5,18 +5,21 @@ import com.example.maven.api.dto.request.invitation.InvitationCreateDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.InvitationMapper;
 import com.example.maven.api.mapper.UserMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Invitation;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.InvitationRepository;
 import com.example.maven.persistence.repository.UserRepository;
 import com.example.maven.utils.SecurityUtils;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.time.LocalDateTime;
@@ -34,6 +37,9 @@ public class InvitationService {
 	private final EmailService emailService;
 	private final PasswordEncoder passwordEncoder;
 	private final SecurityUtils securityUtils;
+	private final CachedListPatcher cachedListPatcher;
+	private final NotFoundGuard notFoundGuard;
+	private final TenantPurgeService tenantPurgeService;
 
 	@Value("${app.public-base-url:http://localhost:8080}")
 	private String publicBaseUrl;
@@ -48,7 +54,7 @@ public class InvitationService {
 		invitationRepository.save(invitation);
 
 		String inviteLink = UriComponentsBuilder
-				.fromHttpUrl(publicBaseUrl)
+				.fromUriString(publicBaseUrl)
 				.path("/api/invitations/accept")
 				.queryParam("token", invitation.getToken())
 				.toUriString();
@@ -72,6 +78,9 @@ public class InvitationService {
 		if (invitation.isAccepted() || invitation.getExpiresAt().isBefore(LocalDateTime.now())) {
 			throw new AccessDeniedException("Invitation expired or already used");
 		}
+		if (tenantPurgeService.isPurging(invitation.getCompany().getId())) {
+			throw new AccessDeniedException("Company is being deleted");
+		}
 
 		var user = invitationMapper.fromAcceptDto(dto, invitation);
 		user.setPassword(passwordEncoder.encode(dto.password()));
@@ -80,6 +89,11 @@ public class InvitationService {
 		invitation.setAccepted(true);
 		invitationRepository.save(invitation);
 
-		return userMapper.toResponseDto(savedUser);
+		// Same bookkeeping as UserService.createUser, keyed by the invitation's company as there is no tenant context
+		long tenantId = invitation.getCompany().getId();
+		notFoundGuard.created(EntityKind.USER, tenantId, savedUser.getId());
+		var response = userMapper.toResponseDto(savedUser);
+		cachedListPatcher.upsert("companyUsers", tenantId, response, UserResponseDto::id);
+		return response;
 	}
 }
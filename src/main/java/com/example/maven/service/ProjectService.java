@@ -4,18 +4,20 @@ import com.example.maven.api.dto.request.project.ProjectCreateDto;
 import com.example.maven.api.dto.request.project.ProjectUpdateDto;
 import com.example.maven.api.dto.response.ProjectResponseDto;
 import com.example.maven.api.mapper.ProjectMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Project;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.ProjectRepository;
 import com.example.maven.utils.SecurityUtils;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -27,51 +29,61 @@ public class ProjectService {
 	private final ProjectMapper projectMapper;
 	private final CompanyRepository companyRepository;
 	private final SecurityUtils securityUtils;
+	private final CachedListPatcher cachedListPatcher;
+	private final NotFoundGuard notFoundGuard;
 
-	// Evict projects list cache when creating
-	@CacheEvict(value = "companyProjects", key = "@securityUtils.getCurrentTenantId()")
+	// Append the new project to the cached projects list
 	public ProjectResponseDto createProject(ProjectCreateDto dto){
 		var project = projectMapper.fromCreateDto(dto);
 		project.setCompany(companyRepository.findById(securityUtils.getCurrentTenantId())
 				.orElseThrow(() -> new AccessDeniedException("No current company found")));
 
 		var savedProject = projectRepository.save(project);
-		return projectMapper.toResponseDto(savedProject);
+		notFoundGuard.created(EntityKind.PROJECT, securityUtils.getCurrentTenantId(), savedProject.getId());
+		return patchCompanyProjects(projectMapper.toResponseDto(savedProject));
 	}
 
-	// Cache individual project by ID
-	@Cacheable(value = "projects", key = "#id + '_' + @securityUtils.getCurrentTenantId()")
+	// Cache individual project by ID; ids known to be missing are rejected before the query
+	@Cacheable(value = "projects", keyGenerator = "tenantKeyGenerator")
+	@Transactional(readOnly = true)
 	public ProjectResponseDto findById(long id){
-		return projectMapper.toResponseDto(getProjectById(id));
+		long tenantId = securityUtils.getCurrentTenantId();
+		notFoundGuard.check(EntityKind.PROJECT, tenantId, id);
+		var project = projectRepository.findResponseByIdAndCompanyId(id, tenantId);
+		if (project.isEmpty()) {
+			notFoundGuard.recordMissing(EntityKind.PROJECT, tenantId, id);
+			throw new ResourceNotFoundException("Project not found");
+		}
+		return project.get();
 	}
 
 	// Cache projects list per tenant
-	@Cacheable(value = "companyProjects", key = "@securityUtils.getCurrentTenantId()")
+	@Cacheable(value = "companyProjects", keyGenerator = "tenantListKeyGenerator", sync = true)
+	@Transactional(readOnly = true)
 	public List<ProjectResponseDto> findAllProjects(){
-		return projectRepository.findAllByCompany_Id(securityUtils.getCurrentTenantId()).stream()
-				.map(projectMapper::toResponseDto)
-				.toList();
+		return projectRepository.findResponsesByCompanyId(securityUtils.getCurrentTenantId());
 	}
 
-	// Evict both individual project cache and projects list cache
-	@Caching(evict = {
-			@CacheEvict(value = "projects", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "companyProjects", key = "@securityUtils.getCurrentTenantId()")
-	})
+	// Evict individual project cache and replace the project in the cached projects list
+	@CacheEvict(value = "projects", keyGenerator = "tenantKeyGenerator")
 	public ProjectResponseDto updateProject(long id, ProjectUpdateDto dto){
 		var project = getProjectById(id);
 		projectMapper.fromUpdateDto(project, dto);
 		var savedProject = projectRepository.save(project);
-		return projectMapper.toResponseDto(savedProject);
+		return patchCompanyProjects(projectMapper.toResponseDto(savedProject));
 	}
 
-	// Evict both individual project cache and projects list cache
-	@Caching(evict = {
-			@CacheEvict(value = "projects", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "companyProjects", key = "@securityUtils.getCurrentTenantId()")
-	})
+	// Evict individual project cache and remove the project from the cached projects list
+	@CacheEvict(value = "projects", keyGenerator = "tenantKeyGenerator")
 	public void deleteProject(long id){
 		projectRepository.delete(getProjectById(id));
+		cachedListPatcher.remove("companyProjects", securityUtils.getCurrentTenantId(), id, ProjectResponseDto::id);
+		notFoundGuard.deleted(EntityKind.PROJECT, securityUtils.getCurrentTenantId(), id);
+	}
+
+	private ProjectResponseDto patchCompanyProjects(ProjectResponseDto project){
+		cachedListPatcher.upsert("companyProjects", securityUtils.getCurrentTenantId(), project, ProjectResponseDto::id);
+		return project;
 	}
 
 	private Project getProjectById(long id){
@@ -0,0 +1,82 @@
+package com.example.maven.service;
+
+import com.example.maven.api.dto.response.LoginResponse;
+import com.example.maven.persistence.entity.RefreshToken;
+import com.example.maven.persistence.entity.User;
+import com.example.maven.persistence.repository.RefreshTokenRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.JwtIssuer;
+import com.example.maven.security.JwtProperties;
+import com.example.maven.security.TokenDigests;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+@Service
+@Transactional(noRollbackFor = BadCredentialsException.class)
+@RequiredArgsConstructor
+public class RefreshTokenService {
+	private static final SecureRandom RANDOM = new SecureRandom();
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
+	private final JwtIssuer jwtIssuer;
+	private final JwtProperties properties;
+	private final TenantPurgeService tenantPurgeService;
+
+	// Starts a new token family, called after a successful password login
+	public String issue(long userId){
+		return create(userRepository.getReferenceById(userId), UUID.randomUUID().toString());
+	}
+
+	// Rotates the presented token and issues a fresh access token without any password hashing
+	public LoginResponse refresh(String rawToken){
+		RefreshToken current = refreshTokenRepository.findByTokenHash(TokenDigests.sha256(rawToken))
+				.orElseThrow(() -> new BadCredentialsException("Invalid refresh token"));
+		// The purge revokes the tenant's tokens, but one issued by a login racing the request is still active
+		if (tenantPurgeService.isPurging(current.getCompany().getId())) {
+			throw new BadCredentialsException("Company is being deleted");
+		}
+
+		if (current.isRevoked() || refreshTokenRepository.revokeIfActive(current.getId()) == 0) {
+			// A rotated token was presented again: assume it leaked and kill the whole family
+			refreshTokenRepository.revokeFamily(current.getFamilyId());
+			throw new BadCredentialsException("Refresh token reuse detected");
+		}
+		if (current.getExpiresAt().isBefore(LocalDateTime.now())) {
+			throw new BadCredentialsException("Refresh token expired");
+		}
+
+		User user = current.getUser();
+		String accessToken = jwtIssuer.issue(
+				user.getId(),
+				user.getUsername(),
+				user.getRoles(),
+				user.getCompany().getId(),
+				user.getSecurityVersion()
+		);
+		return new LoginResponse(accessToken, create(user, current.getFamilyId()));
+	}
+
+	private String create(User user, String familyId){
+		byte[] bytes = new byte[32];
+		RANDOM.nextBytes(bytes);
+		String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+		RefreshToken refreshToken = new RefreshToken();
+		refreshToken.setUser(user);
+		refreshToken.setCompany(user.getCompany());
+		refreshToken.setTokenHash(TokenDigests.sha256(rawToken));
+		refreshToken.setFamilyId(familyId);
+		refreshToken.setExpiresAt(LocalDateTime.now().plus(properties.getRefreshTokenTtl()));
+		refreshTokenRepository.save(refreshToken);
+
+		return rawToken;
+	}
+}
@@ -0,0 +1,66 @@
+package com.example.maven.service;
+
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.enums.TaskSort;
+import com.example.maven.exception.InvalidRequestException;
+import com.example.maven.persistence.entity.Task;
+import com.example.maven.persistence.repository.TaskSpecifications;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Keyset position after the last task of a page: the sort it belongs to, the task id and the
+ * value of the sort column. Clients get it as an opaque URL-safe string and only hand it back.
+ */
+public record TaskCursor(TaskSort sort, long id, String key) {
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public static TaskCursor after(TaskSort sort, TaskResponseDto last) {
+		String key = sort == TaskSort.NAME ? last.name() : last.createdAt().toString();
+		return new TaskCursor(sort, last.id(), key);
+	}
+
+	// Every order ends with the id, which makes the position of a row unique
+	public static Sort order(TaskSort sort) {
+		return switch (sort) {
+			case NEWEST -> Sort.by(Sort.Direction.DESC, "createdAt", "id");
+			case OLDEST -> Sort.by(Sort.Direction.ASC, "createdAt", "id");
+			case NAME -> Sort.by(Sort.Direction.ASC, "name", "id");
+		};
+	}
+
+	public String encode() {
+		return ENCODER.encodeToString((sort + "|" + id + "|" + key).getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static TaskCursor decode(String cursor, TaskSort expectedSort) {
+		try {
+			String[] parts = new String(DECODER.decode(cursor), StandardCharsets.UTF_8).split("\\|", 3);
+			var decoded = new TaskCursor(TaskSort.valueOf(parts[0]), Long.parseLong(parts[1]), parts[2]);
+			if (decoded.sort != expectedSort) {
+				throw new InvalidRequestException("Cursor belongs to sort " + decoded.sort);
+			}
+			if (expectedSort != TaskSort.NAME) {
+				LocalDateTime.parse(decoded.key);
+			}
+			return decoded;
+		} catch (InvalidRequestException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new InvalidRequestException("Malformed cursor");
+		}
+	}
+
+	public Specification<Task> toSpecification() {
+		return switch (sort) {
+			case NEWEST -> TaskSpecifications.createdAfter(LocalDateTime.parse(key), id, false);
+			case OLDEST -> TaskSpecifications.createdAfter(LocalDateTime.parse(key), id, true);
+			case NAME -> TaskSpecifications.namedAfter(key, id);
+		};
+	}
+}
@@ -1,9 +1,18 @@
 package com.example.maven.service;
 
+import com.example.maven.api.dto.request.task.TaskBatchUpdateItemDto;
+import com.example.maven.api.dto.request.task.TaskBulkUpdateDto;
 import com.example.maven.api.dto.request.task.TaskCreateDto;
+import com.example.maven.api.dto.request.task.TaskPageRequest;
 import com.example.maven.api.dto.request.task.TaskUpdateDto;
+import com.example.maven.api.dto.response.TaskBulkUpdateResponseDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
 import com.example.maven.api.dto.response.TaskResponseDto;
 import com.example.maven.api.mapper.TaskMapper;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.ListCacheInvalidator;
+import com.example.maven.cache.NotFoundGuard;
+import com.example.maven.exception.InvalidRequestException;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Company;
 import com.example.maven.persistence.entity.Project;
@@ -11,17 +20,28 @@ import com.example.maven.persistence.entity.Task;
 import com.example.maven.persistence.entity.User;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.TaskBulkChanges;
+import com.example.maven.persistence.repository.TaskBulkSelection;
 import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.TaskRepositoryCustom.TaskRef;
+import com.example.maven.persistence.repository.TaskSpecifications;
 import com.example.maven.persistence.repository.UserRepository;
 import com.example.maven.utils.SecurityUtils;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -33,9 +53,9 @@ public class TaskService {
 	private final CompanyRepository companyRepository;
 	private final UserRepository userRepository;
 	private final SecurityUtils securityUtils;
+	private final ListCacheInvalidator listCacheInvalidator;
+	private final NotFoundGuard notFoundGuard;
 
-	// Evict all task list caches when creating (allEntries since we don't know which projectId caches exist)
-	@CacheEvict(value = "projectTasks", allEntries = true)
 	public TaskResponseDto createTask(TaskCreateDto dto){
 		long tenantId = securityUtils.getCurrentTenantId();
 
@@ -54,38 +74,159 @@ public class TaskService {
 		Task task = taskMapper.fromCreateDto(dto, project, company, assignee);
 
 		Task savedTask = taskRepository.save(task);
+		listCacheInvalidator.evictProjectTasks(tenantId, project.getId());
+		notFoundGuard.created(EntityKind.TASK, tenantId, savedTask.getId());
 		return taskMapper.toResponseDto(savedTask);
 	}
 
-	// Cache tasks by project - separate cache for each projectId (or null for all tasks)
-	@Cacheable(value = "projectTasks", key = "@securityUtils.getCurrentTenantId() + '_' + (#projectId != null ? #projectId : 'all')")
-	public List<TaskResponseDto> findAllTasksByProjectId(Long projectId){
+	// One set-based lookup per referenced type for the whole batch; the inserts go out in JDBC batches at flush
+	public List<TaskResponseDto> createTasks(List<TaskCreateDto> dtos){
 		long tenantId = securityUtils.getCurrentTenantId();
 
-		if(projectId == null){
-			return taskRepository.findAllByCompany_Id(tenantId).stream()
-					.map(taskMapper::toResponseDto)
-					.toList();
-		}
+		Map<Long, Project> projects = findProjects(tenantId, dtos.stream()
+				.map(TaskCreateDto::getProjectId)
+				.collect(Collectors.toSet()));
+
+		Company company = companyRepository.findById(tenantId)
+				.orElseThrow(() -> new ResourceNotFoundException("No current company found"));
+
+		Map<Long, User> assignees = findAssignees(tenantId, dtos.stream()
+				.map(TaskCreateDto::getAssigneeId)
+				.filter(assigneeId -> assigneeId > 0)
+				.collect(Collectors.toSet()));
 
-		return taskRepository.findAllByCompany_IdAndProject_Id(tenantId, projectId).stream()
-				.map(taskMapper::toResponseDto)
+		List<Task> tasks = dtos.stream()
+				.map(dto -> taskMapper.fromCreateDto(dto, projects.get(dto.getProjectId()), company,
+						dto.getAssigneeId() > 0 ? assignees.get(dto.getAssigneeId()) : null))
 				.toList();
+
+		List<Task> savedTasks = taskRepository.saveAll(tasks);
+		listCacheInvalidator.evictProjectTasks(tenantId, projects.keySet());
+		notFoundGuard.created(EntityKind.TASK, tenantId, savedTasks.stream().map(Task::getId).toList());
+		return savedTasks.stream().map(taskMapper::toResponseDto).toList();
+	}
+
+	// All tasks are loaded in one query and changed in place; dirty checking flushes the updates as one batch
+	public List<TaskResponseDto> updateTasks(List<TaskBatchUpdateItemDto> dtos){
+		long tenantId = securityUtils.getCurrentTenantId();
+
+		Set<Long> ids = new HashSet<>();
+		for (TaskBatchUpdateItemDto dto : dtos) {
+			if (!ids.add(dto.getId())) {
+				throw new InvalidRequestException("Task " + dto.getId() + " appears more than once in the batch");
+			}
+		}
+		Map<Long, Task> tasks = byId(taskRepository.findAllByIdInAndCompany_Id(ids, tenantId), Task::getId);
+		requireAll("Tasks", ids, tasks.keySet());
+
+		Map<Long, User> assignees = findAssignees(tenantId, dtos.stream()
+				.map(TaskBatchUpdateItemDto::getAssigneeId)
+				.filter(assigneeId -> assigneeId != null && assigneeId > 0)
+				.collect(Collectors.toSet()));
+
+		Set<Long> projectIds = new HashSet<>();
+		List<TaskResponseDto> responses = new ArrayList<>(dtos.size());
+		for (TaskBatchUpdateItemDto dto : dtos) {
+			Task task = tasks.get(dto.getId());
+			taskMapper.updateFromDto(task, dto);
+			if (dto.getAssigneeId() != null) {
+				task.setAssignee(dto.getAssigneeId() > 0 ? assignees.get(dto.getAssigneeId()) : null);
+			}
+			projectIds.add(task.getProject().getId());
+			responses.add(taskMapper.toResponseDto(task));
+		}
+
+		listCacheInvalidator.evictTasks(tenantId, ids);
+		listCacheInvalidator.evictProjectTasks(tenantId, projectIds);
+		return responses;
+	}
+
+	// One tenant-scoped UPDATE ... RETURNING for every selected task; each affected project's lists are evicted once
+	public TaskBulkUpdateResponseDto bulkUpdateTasks(TaskBulkUpdateDto dto){
+		long tenantId = securityUtils.getCurrentTenantId();
+		if (!dto.filter().hasCriteria()) {
+			throw new InvalidRequestException("Filter must select tasks by ids, project, status or assignee");
+		}
+		if (!dto.set().hasChanges()) {
+			throw new InvalidRequestException("Nothing to change: set status, assigneeId or projectId");
+		}
+
+		Project targetProject = dto.set().projectId() == null ? null
+				: projectRepository.findByIdAndCompany_Id(dto.set().projectId(), tenantId)
+						.orElseThrow(() -> new ResourceNotFoundException("Project not found"));
+		Long assigneeId = dto.set().assigneeId();
+		User assignee = assigneeId == null || assigneeId == 0 ? null
+				: userRepository.findByIdAndCompany_Id(assigneeId, tenantId)
+						.orElseThrow(() -> new ResourceNotFoundException("Assignee not found"));
+
+		// assigneeId 0 selects unassigned tasks, as it unassigns them in the changes
+		var filter = dto.filter();
+		var selection = new TaskBulkSelection(tenantId, filter.ids() != null && !filter.ids().isEmpty() ? filter.ids() : null,
+				filter.projectId(), filter.status(), filter.assigneeId());
+
+		// The statement returns exactly the rows it changed, each with its project before a move, so the cached
+		// entries and lists dropped are those of the rows as they were
+		List<TaskRef> updated = taskRepository.updateAll(selection,
+				new TaskBulkChanges(dto.set().status(), assigneeId != null, assignee, targetProject));
+		if (updated.isEmpty()) return new TaskBulkUpdateResponseDto(0);
+
+		List<Long> ids = updated.stream().map(TaskRef::id).toList();
+		Set<Long> projectIds = updated.stream().map(TaskRef::projectId).collect(Collectors.toCollection(HashSet::new));
+		if (targetProject != null) projectIds.add(targetProject.getId());
+		listCacheInvalidator.evictTasks(tenantId, ids);
+		listCacheInvalidator.evictProjectTasks(tenantId, projectIds);
+		return new TaskBulkUpdateResponseDto(updated.size());
+	}
+
+	// Cache the first page by project - separate cache for each projectId (or null for all tasks)
+	@Cacheable(value = "projectTasks", keyGenerator = "tenantKeyGenerator", sync = true)
+	@Transactional(readOnly = true)
+	public TaskPageResponseDto findFirstTaskPage(Long projectId){
+		return findTaskPage(TaskPageRequest.firstPage(projectId));
+	}
+
+	// Keyset slice: reads one row more than the page to learn whether another follows, never offsets or counts
+	@Transactional(readOnly = true)
+	public TaskPageResponseDto findTaskPage(TaskPageRequest request){
+		List<Specification<Task>> filters = new ArrayList<>();
+		filters.add(TaskSpecifications.ofCompany(securityUtils.getCurrentTenantId()));
+		if (request.projectId() != null) filters.add(TaskSpecifications.inProject(request.projectId()));
+		if (request.status() != null) filters.add(TaskSpecifications.withStatus(request.status()));
+		if (request.assigneeId() != null) {
+			// assigneeId 0 selects unassigned tasks, as in the bulk filter and the assigneeId of each row
+			filters.add(request.assigneeId() == 0 ? TaskSpecifications.unassigned() : TaskSpecifications.assignedTo(request.assigneeId()));
+		}
+		if (request.dueFrom() != null) filters.add(TaskSpecifications.dueFrom(request.dueFrom()));
+		if (request.dueTo() != null) filters.add(TaskSpecifications.dueBefore(request.dueTo()));
+		if (request.cursor() != null) filters.add(TaskCursor.decode(request.cursor(), request.sort()).toSpecification());
+
+		List<TaskResponseDto> rows = taskRepository.findResponses(
+				Specification.allOf(filters), TaskCursor.order(request.sort()), request.size() + 1);
+
+		boolean hasNext = rows.size() > request.size();
+		List<TaskResponseDto> page = hasNext ? List.copyOf(rows.subList(0, request.size())) : rows;
+		return new TaskPageResponseDto(
+				page,
+				hasNext ? TaskCursor.after(request.sort(), page.getLast()).encode() : null
+		);
 	}
 
-	// Cache individual task by ID
-	@Cacheable(value = "tasks", key = "#id + '_' + @securityUtils.getCurrentTenantId()")
+	// Cache individual task by ID; ids known to be missing are rejected before the query
+	@Cacheable(value = "tasks", keyGenerator = "tenantKeyGenerator")
+	@Transactional(readOnly = true)
 	public TaskResponseDto findTaskById(long id){
 		long tenantId = securityUtils.getCurrentTenantId();
-		return taskMapper.toResponseDto(taskRepository.findByIdAndCompany_Id(id, tenantId)
-				.orElseThrow(() -> new ResourceNotFoundException("Task not found")));
+		notFoundGuard.check(EntityKind.TASK, tenantId, id);
+		var task = taskRepository.findResponseByIdAndCompanyId(id, tenantId);
+		if (task.isEmpty()) {
+			notFoundGuard.recordMissing(EntityKind.TASK, tenantId, id);
+			throw new ResourceNotFoundException("Task not found");
+		}
+		return task.get();
 	}
 
-	// Evict both individual task cache and all project task list caches
-	@Caching(evict = {
-			@CacheEvict(value = "tasks", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "projectTasks", allEntries = true)
-	})
+	// Evict the individual task here and its project's task lists in the method body
+	@CacheEvict(value = "tasks", keyGenerator = "tenantKeyGenerator")
 	public TaskResponseDto updateTaskById(long id, TaskUpdateDto dto){
 		long tenantId = securityUtils.getCurrentTenantId();
 		Task task = taskRepository.findByIdAndCompany_Id(id, tenantId)
@@ -93,20 +234,45 @@ public class TaskService {
 
 		taskMapper.updateFromDto(task, dto);
 		Task savedTask = taskRepository.save(task);
+		listCacheInvalidator.evictProjectTasks(tenantId, task.getProject().getId());
 
 		return taskMapper.toResponseDto(savedTask);
 	}
 
-	// Evict both individual task cache and all project task list caches
-	@Caching(evict = {
-			@CacheEvict(value = "tasks", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "projectTasks", allEntries = true)
-	})
+	// Evict the individual task here and its project's task lists and comment list in the method body
+	@CacheEvict(value = "tasks", keyGenerator = "tenantKeyGenerator")
 	public void deleteTaskById(long id){
 		long tenantId = securityUtils.getCurrentTenantId();
 		Task task = taskRepository.findByIdAndCompany_Id(id, tenantId)
 				.orElseThrow(() -> new ResourceNotFoundException("Task not found"));
 
 		taskRepository.delete(task);
+		listCacheInvalidator.evictProjectTasks(tenantId, task.getProject().getId());
+		listCacheInvalidator.evictTaskComments(tenantId, id);
+		notFoundGuard.deleted(EntityKind.TASK, tenantId, id);
+	}
+
+	private Map<Long, Project> findProjects(long tenantId, Set<Long> ids){
+		Map<Long, Project> projects = byId(projectRepository.findAllByIdInAndCompany_Id(ids, tenantId), Project::getId);
+		requireAll("Projects", ids, projects.keySet());
+		return projects;
+	}
+
+	private Map<Long, User> findAssignees(long tenantId, Set<Long> ids){
+		if (ids.isEmpty()) return Map.of();
+		Map<Long, User> assignees = byId(userRepository.findAllByIdInAndCompany_Id(ids, tenantId), User::getId);
+		requireAll("Assignees", ids, assignees.keySet());
+		return assignees;
+	}
+
+	private static <T> Map<Long, T> byId(Collection<T> entities, Function<T, Long> id){
+		return entities.stream().collect(Collectors.toMap(id, Function.identity()));
+	}
+
+	// Names every id of the batch that does not exist in the tenant, so a client can fix them all at once
+	private static void requireAll(String kind, Set<Long> ids, Set<Long> found){
+		if (found.size() == ids.size()) return;
+		List<Long> missing = ids.stream().filter(id -> !found.contains(id)).sorted().toList();
+		throw new ResourceNotFoundException(kind + " not found: " + missing);
 	}
-}
\ No newline at end of file
+}
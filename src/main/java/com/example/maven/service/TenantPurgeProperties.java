@@ -0,0 +1,29 @@
+package com.example.maven.service;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.tenant-purge")
+@Getter
+@Setter
+public class TenantPurgeProperties {
+	// Rows deleted per transaction
+	private int chunkSize = 1_000;
+
+	// Pause after every chunk, which leaves most of the database's time to regular traffic
+	private Duration pauseBetweenChunks = Duration.ofMillis(100);
+
+	// Lease of the per-tenant lock, renewed after every chunk; a crashed node's purge is taken over once it runs out
+	private Duration lockLease = Duration.ofMinutes(1);
+
+	// Time between the request and the start, so requests that got past the token check before the tenant was blocked finish first
+	private Duration startDelay = Duration.ofMinutes(1);
+
+	// How often purges left queued or running are looked for; only read by the @Scheduled annotation
+	private Duration resumeInterval = Duration.ofMinutes(1);
+}
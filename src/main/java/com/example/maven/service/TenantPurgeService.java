@@ -0,0 +1,303 @@
+package com.example.maven.service;
+
+import com.example.maven.cache.RedisKeyLock;
+import com.example.maven.cache.TenantCachePurger;
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
+import com.example.maven.exception.ResourceNotFoundException;
+import com.example.maven.persistence.entity.TenantPurge;
+import com.example.maven.persistence.repository.CommentRepository;
+import com.example.maven.persistence.repository.CompanyRepository;
+import com.example.maven.persistence.repository.InvitationRepository;
+import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.RefreshTokenRepository;
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.TenantPurgeRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.TenantContext;
+import com.example.maven.security.TokenRevocationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * Deletes a tenant in the background, one bounded chunk per short transaction: comments, tasks,
+ * projects, invitations, refresh tokens, users, then the company, and finally everything cached
+ * for it. Each chunk commits together with the purge's step and deleted row count, so progress
+ * can be read while it runs and a purge cut short by a crash resumes where it stopped.
+ *
+ * <p>The tenant is blocked when the purge is requested: its users' tokens are revoked, and logins,
+ * refreshes and invitations are refused from then on, so nothing writes to it while it is deleted.
+ * Purges are picked up {@code app.tenant-purge.start-delay} after the request, once requests already
+ * past the token check have finished, when a node becomes ready and periodically after that. A Redis
+ * lock per tenant keeps each purge on one node, and a failed purge is retried from its step.
+ */
+@Slf4j
+@Service
+public class TenantPurgeService implements DisposableBean {
+	private static final String LOCK_PREFIX = "lock:tenant-purge:";
+	private static final Set<TenantPurgeStatus> UNFINISHED = EnumSet.of(TenantPurgeStatus.QUEUED, TenantPurgeStatus.RUNNING, TenantPurgeStatus.FAILED);
+	private static final int MAX_ERROR_LENGTH = 500;
+
+	private final TenantPurgeRepository tenantPurgeRepository;
+	private final CompanyRepository companyRepository;
+	private final CommentRepository commentRepository;
+	private final TaskRepository taskRepository;
+	private final ProjectRepository projectRepository;
+	private final InvitationRepository invitationRepository;
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final UserRepository userRepository;
+	private final TokenRevocationService tokenRevocationService;
+	private final TenantCachePurger tenantCachePurger;
+	private final RedisKeyLock redisKeyLock;
+	private final TenantPurgeProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final TransactionTemplate transactionTemplate;
+	private final ExecutorService executor;
+	private final Set<Long> submitted = ConcurrentHashMap.newKeySet();
+
+	public TenantPurgeService(TenantPurgeRepository tenantPurgeRepository, CompanyRepository companyRepository,
+							  CommentRepository commentRepository, TaskRepository taskRepository,
+							  ProjectRepository projectRepository, InvitationRepository invitationRepository,
+							  RefreshTokenRepository refreshTokenRepository, UserRepository userRepository,
+							  TokenRevocationService tokenRevocationService, TenantCachePurger tenantCachePurger,
+							  RedisKeyLock redisKeyLock, TenantPurgeProperties properties, MeterRegistry meterRegistry,
+							  PlatformTransactionManager transactionManager) {
+		this.tenantPurgeRepository = tenantPurgeRepository;
+		this.companyRepository = companyRepository;
+		this.commentRepository = commentRepository;
+		this.taskRepository = taskRepository;
+		this.projectRepository = projectRepository;
+		this.invitationRepository = invitationRepository;
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.userRepository = userRepository;
+		this.tokenRevocationService = tokenRevocationService;
+		this.tenantCachePurger = tenantCachePurger;
+		this.redisKeyLock = redisKeyLock;
+		this.properties = properties;
+		this.meterRegistry = meterRegistry;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		// One purge at a time per node; tenant deletion is rare and never urgent
+		this.executor = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "tenant-purge");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	// Records the purge and blocks the tenant; the purge itself is started by the next scan after the start delay
+	@Transactional
+	public TenantPurge requestPurge(long companyId) {
+		return tenantPurgeRepository.findByCompanyId(companyId).orElseGet(() -> {
+			TenantPurge purge = createPurge(companyId);
+			refreshTokenRepository.revokeAllByCompanyId(companyId);
+			userRepository.findIdsByCompanyId(companyId)
+					.forEach(userId -> tokenRevocationService.revokeUser(userId, TokenRevocationService.DELETED_USER_VERSION));
+			return purge;
+		});
+	}
+
+	// A tenant stays blocked from the request on; the purge row outlives the company
+	@Transactional(readOnly = true)
+	public boolean isPurging(long companyId) {
+		return tenantPurgeRepository.existsByCompanyId(companyId);
+	}
+
+	@Transactional(readOnly = true)
+	public TenantPurge findPurge(String publicId) {
+		return tenantPurgeRepository.findByPublicId(publicId)
+				.orElseThrow(() -> new ResourceNotFoundException("Company deletion not found"));
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(fixedDelayString = "${app.tenant-purge.resume-interval:1m}", initialDelayString = "${app.tenant-purge.resume-interval:1m}")
+	public void resumeUnfinished() {
+		try {
+			LocalDateTime requestedBefore = LocalDateTime.now().minus(properties.getStartDelay());
+			tenantPurgeRepository.findAllByStatusInAndRequestedAtBefore(UNFINISHED, requestedBefore)
+					.forEach(purge -> submit(purge.getCompanyId()));
+		} catch (Exception e) {
+			log.warn("Could not look up unfinished tenant purges: {}", e.getMessage());
+		}
+	}
+
+	// Runs on the purge thread; leaves the purge to whichever node already holds the tenant's lock
+	void run(long companyId) {
+		String lockKey = LOCK_PREFIX + companyId;
+		try {
+			Optional<String> token = redisKeyLock.tryLock(lockKey, properties.getLockLease(), Duration.ZERO);
+			if (token.isEmpty()) return;
+			try {
+				// Acts for the tenant, so anything reading TenantContext on this thread sees the purged tenant
+				TenantContext.ofTenant(companyId).run(() -> purge(companyId, lockKey, token.get()));
+			} catch (Exception e) {
+				log.error("Purge of tenant {} failed", companyId, e);
+				fail(companyId, e);
+			} finally {
+				redisKeyLock.unlock(lockKey, token.get());
+			}
+		} catch (Exception e) {
+			// Most likely Redis is unavailable; the purge stays unfinished and is resumed later
+			log.warn("Could not run purge of tenant {}: {}", companyId, e.getMessage());
+		} finally {
+			submitted.remove(companyId);
+		}
+	}
+
+	private void purge(long companyId, String lockKey, String token) {
+		TenantPurge purge = tenantPurgeRepository.findByCompanyId(companyId).orElse(null);
+		if (purge == null || !UNFINISHED.contains(purge.getStatus())) return;
+
+		TenantPurgeStep step = purge.getStep();
+		update(companyId, p -> p.setStatus(TenantPurgeStatus.RUNNING));
+		log.info("Purging tenant {} from step {}", companyId, step);
+
+		while (step != TenantPurgeStep.CACHES) {
+			if (deleteChunk(companyId, step) == 0) {
+				TenantPurgeStep next = step.next();
+				update(companyId, p -> p.setStep(next));
+				step = next;
+			} else if (!pause()) {
+				return;
+			}
+			if (!redisKeyLock.extend(lockKey, token, properties.getLockLease())) {
+				log.warn("Lost the lock on the purge of tenant {}, leaving it to its new holder", companyId);
+				return;
+			}
+		}
+
+		tenantCachePurger.purge(companyId);
+		update(companyId, p -> {
+			p.setStatus(TenantPurgeStatus.COMPLETED);
+			p.setFinishedAt(LocalDateTime.now());
+			p.setLastError(null);
+		});
+		meterRegistry.counter("tenant.purges", "result", "completed").increment();
+		log.info("Purged tenant {}", companyId);
+	}
+
+	// Deletes the step's next chunk and records it in one transaction; returns the number of rows deleted
+	private int deleteChunk(long companyId, TenantPurgeStep step) {
+		Integer deleted = transactionTemplate.execute(status -> {
+			List<Long> ids = nextChunk(step, companyId, PageRequest.ofSize(properties.getChunkSize()));
+			if (ids.isEmpty()) return 0;
+			delete(step, ids);
+			tenantPurgeRepository.findByCompanyId(companyId).ifPresent(purge -> {
+				purge.setDeletedRows(purge.getDeletedRows() + ids.size());
+				purge.setUpdatedAt(LocalDateTime.now());
+			});
+			return ids.size();
+		});
+		int rows = deleted != null ? deleted : 0;
+		meterRegistry.counter("tenant.purge.rows", "step", step.name().toLowerCase()).increment(rows);
+		return rows;
+	}
+
+	// Deleted rows drop out of the query, so every chunk is read from the first page
+	private List<Long> nextChunk(TenantPurgeStep step, long companyId, Pageable chunk) {
+		return switch (step) {
+			case COMMENTS -> commentRepository.findIdsByCompanyId(companyId, chunk);
+			case TASKS -> taskRepository.findIdsByCompanyId(companyId, chunk);
+			case PROJECTS -> projectRepository.findIdsByCompanyId(companyId, chunk);
+			case INVITATIONS -> invitationRepository.findIdsByCompanyId(companyId, chunk);
+			case REFRESH_TOKENS -> refreshTokenRepository.findIdsByCompanyId(companyId, chunk);
+			case USERS -> userRepository.findIdsByCompanyId(companyId, chunk);
+			case COMPANY -> companyRepository.existsById(companyId) ? List.of(companyId) : List.of();
+			case CACHES -> List.of();
+		};
+	}
+
+	private void delete(TenantPurgeStep step, List<Long> ids) {
+		switch (step) {
+			case COMMENTS -> commentRepository.deleteAllByIdInBatch(ids);
+			case TASKS -> taskRepository.deleteAllByIdInBatch(ids);
+			case PROJECTS -> projectRepository.deleteAllByIdInBatch(ids);
+			case INVITATIONS -> invitationRepository.deleteAllByIdInBatch(ids);
+			case REFRESH_TOKENS -> refreshTokenRepository.deleteAllByIdInBatch(ids);
+			case USERS -> {
+				userRepository.deleteAllByIdInBatch(ids);
+				ids.forEach(userId -> tokenRevocationService.revokeUser(userId, TokenRevocationService.DELETED_USER_VERSION));
+			}
+			case COMPANY -> companyRepository.deleteAllByIdInBatch(ids);
+			case CACHES -> { }
+		}
+	}
+
+	private void fail(long companyId, Exception e) {
+		String message = String.valueOf(e.getMessage());
+		String lastError = message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+		try {
+			update(companyId, p -> {
+				p.setStatus(TenantPurgeStatus.FAILED);
+				p.setLastError(lastError);
+			});
+		} catch (Exception updateFailure) {
+			log.warn("Could not record the failed purge of tenant {}: {}", companyId, updateFailure.getMessage());
+		}
+		meterRegistry.counter("tenant.purges", "result", "failed").increment();
+	}
+
+	private TenantPurge createPurge(long companyId) {
+		if (!companyRepository.existsById(companyId)) {
+			throw new ResourceNotFoundException("Company not found");
+		}
+		var purge = new TenantPurge();
+		purge.setCompanyId(companyId);
+		return tenantPurgeRepository.save(purge);
+	}
+
+	private void update(long companyId, Consumer<TenantPurge> change) {
+		transactionTemplate.executeWithoutResult(status -> tenantPurgeRepository.findByCompanyId(companyId)
+				.ifPresent(purge -> {
+					change.accept(purge);
+					purge.setUpdatedAt(LocalDateTime.now());
+				}));
+	}
+
+	// Returns false when the purge thread is interrupted, which only happens on shutdown
+	private boolean pause() {
+		try {
+			Thread.sleep(properties.getPauseBetweenChunks());
+			return true;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private void submit(long companyId) {
+		// A purge already queued or running on this node picks up any newer request by itself
+		if (!submitted.add(companyId)) return;
+		try {
+			executor.execute(() -> run(companyId));
+		} catch (RejectedExecutionException e) {
+			submitted.remove(companyId);
+		}
+	}
+
+	@Override
+	public void destroy() {
+		executor.shutdownNow();
+	}
+}
@@ -5,19 +5,22 @@ import com.example.maven.api.dto.request.user.UserUpdateDto;
 import com.example.maven.api.dto.request.user.UserUpdateRolesDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.UserMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.User;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.TokenRevocationService;
 import com.example.maven.utils.SecurityUtils;
-import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.HashSet;
 import java.util.List;
@@ -32,17 +35,20 @@ public class UserService {
 	private final CompanyRepository companyRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final SecurityUtils securityUtils;
+	private final TokenRevocationService tokenRevocationService;
+	private final CachedListPatcher cachedListPatcher;
+	private final NotFoundGuard notFoundGuard;
 
-	// Evict company users list cache when creating new user
-	@CacheEvict(value = "companyUsers", key = "@securityUtils.getCurrentTenantId()")
+	// Append the new user to the cached company users list
 	public UserResponseDto createUser(UserCreateDto dto){
 		var user = userMapper.fromCreateDto(dto);
 		user.setPassword(passwordEncoder.encode(dto.password()));
 		user.setCompany(companyRepository.findById(securityUtils.getCurrentTenantId())
 				.orElseThrow(() -> new AccessDeniedException("No current company found")));
 		var savedUser = userRepository.save(user);
+		notFoundGuard.created(EntityKind.USER, securityUtils.getCurrentTenantId(), savedUser.getId());
 
-		return userMapper.toResponseDto(savedUser);
+		return patchCompanyUsers(userMapper.toResponseDto(savedUser));
 	}
 
 	public UserResponseDto createUserForRegistration(UserCreateDto dto, Long companyId) {
@@ -50,66 +56,76 @@ public class UserService {
 		user.setPassword(passwordEncoder.encode(dto.password()));
 		user.setCompany(companyRepository.getReferenceById(companyId));
 		var saved = userRepository.save(user);
+		notFoundGuard.created(EntityKind.USER, companyId, saved.getId());
 		return userMapper.toResponseDto(saved);
 	}
 
-	// Cache individual user by ID + tenantId
-	@Cacheable(value = "users", key = "#id + '_' + @securityUtils.getCurrentTenantId()")
+	// Cache individual user by ID + tenantId; ids known to be missing are rejected before the query
+	@Cacheable(value = "users", keyGenerator = "tenantKeyGenerator")
+	@Transactional(readOnly = true)
 	public UserResponseDto findById(long id) {
-		return userMapper.toResponseDto(getUserById(id));
+		long tenantId = securityUtils.getCurrentTenantId();
+		notFoundGuard.check(EntityKind.USER, tenantId, id);
+		var user = userRepository.findResponseByIdAndCompanyId(id, tenantId);
+		if (user.isEmpty()) {
+			notFoundGuard.recordMissing(EntityKind.USER, tenantId, id);
+			throw new ResourceNotFoundException("User not found");
+		}
+		return user.get();
 	}
 
 	// Cache company users list by tenantId
-	@Cacheable(value = "companyUsers", key = "@securityUtils.getCurrentTenantId()")
+	@Cacheable(value = "companyUsers", keyGenerator = "tenantListKeyGenerator", sync = true)
+	@Transactional(readOnly = true)
 	public List<UserResponseDto> findCompanyUsers() {
-		return userRepository.findAllByCompany_Id(securityUtils.getCurrentTenantId()).stream()
-				.map(userMapper::toResponseDto)
-				.toList();
+		return userRepository.findResponsesByCompanyId(securityUtils.getCurrentTenantId());
 	}
 
-	// Evict both individual user cache and company users list cache
-	@Caching(evict = {
-			@CacheEvict(value = "users", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "companyUsers", key = "@securityUtils.getCurrentTenantId()")
-	})
+	// Evict individual user cache and replace the user in the cached company users list
+	@CacheEvict(value = "users", keyGenerator = "tenantKeyGenerator")
 	public UserResponseDto updateUser(long id, UserUpdateDto dto) {
 		var user = getUserById(id);
 		userMapper.updateFromDto(user, dto);
 		var savedUser = userRepository.save(user);
 
-		return userMapper.toResponseDto(savedUser);
+		return patchCompanyUsers(userMapper.toResponseDto(savedUser));
 	}
 
-	// Evict both caches when updating roles
-	@Caching(evict = {
-			@CacheEvict(value = "users", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "companyUsers", key = "@securityUtils.getCurrentTenantId()")
-	})
+	// Evict individual user cache and replace the user in the cached company users list
+	@CacheEvict(value = "users", keyGenerator = "tenantKeyGenerator")
 	public UserResponseDto updateUserRolesById(long id, UserUpdateRolesDto dto) {
 		var user = getUserById(id);
 		userMapper.updateRolesFromDto(user, dto);
+		user.setSecurityVersion(user.getSecurityVersion() + 1);
 		var savedUser = userRepository.save(user);
+		tokenRevocationService.revokeUser(id, user.getSecurityVersion());
 
-		return userMapper.toResponseDto(savedUser);
+		return patchCompanyUsers(userMapper.toResponseDto(savedUser));
 	}
 
-	// Evict all company users caches since we don't have tenant context
-	@CacheEvict(value = "companyUsers", allEntries = true)
+	// No tenant context here, so the user's own company identifies the cached list
 	public void updateUserRolesByIdWithoutSecurity(Long userId, UserUpdateRolesDto dto) {
 		var user = userRepository.findById(userId)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
 
 		user.setRoles(new HashSet<>(dto.roles()));
-		userRepository.save(user);
+		var savedUser = userRepository.save(user);
+		cachedListPatcher.upsert("companyUsers", user.getCompany().getId(),
+				userMapper.toResponseDto(savedUser), UserResponseDto::id);
 	}
 
-	// Evict both caches when deleting
-	@Caching(evict = {
-			@CacheEvict(value = "users", key = "#id + '_' + @securityUtils.getCurrentTenantId()"),
-			@CacheEvict(value = "companyUsers", key = "@securityUtils.getCurrentTenantId()")
-	})
+	// Evict individual user cache and remove the user from the cached company users list
+	@CacheEvict(value = "users", keyGenerator = "tenantKeyGenerator")
 	public void deleteUser(long id) {
 		userRepository.delete(getUserById(id));
+		tokenRevocationService.revokeUser(id, TokenRevocationService.DELETED_USER_VERSION);
+		cachedListPatcher.remove("companyUsers", securityUtils.getCurrentTenantId(), id, UserResponseDto::id);
+		notFoundGuard.deleted(EntityKind.USER, securityUtils.getCurrentTenantId(), id);
+	}
+
+	private UserResponseDto patchCompanyUsers(UserResponseDto user) {
+		cachedListPatcher.upsert("companyUsers", securityUtils.getCurrentTenantId(), user, UserResponseDto::id);
+		return user;
 	}
 
 	private User getUserById(long id){
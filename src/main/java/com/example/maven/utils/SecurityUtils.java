@@ -1,5 +1,6 @@
 package com.example.maven.utils;
 
+import com.example.maven.security.TenantContext;
 import com.example.maven.security.UserPrincipal;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.AnonymousAuthenticationToken;
@@ -10,12 +11,15 @@ import org.springframework.stereotype.Component;
 @Component("securityUtils")
 public class SecurityUtils {
 
+	// Request threads read the context resolved by the JWT filter; anything else falls back to the security context
 	public Long getCurrentTenantId() {
-		return getPrincipal().getTenantId();
+		TenantContext context = TenantContext.current();
+		return context != null ? context.tenantId() : getPrincipal().getTenantId();
 	}
 
 	public Long getCurrentUserId() {
-		return getPrincipal().getId();
+		TenantContext context = TenantContext.current();
+		return context != null ? context.userId() : getPrincipal().getId();
 	}
 
 	private UserPrincipal getPrincipal() {
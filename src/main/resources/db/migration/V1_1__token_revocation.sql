@@ -0,0 +1,14 @@
+-- Refresh tokens and per-user token versions, added after the V1 schema. Databases whose schema
+-- Hibernate updated in the meantime already have both, so every statement checks first.
+alter table users add column if not exists security_version integer not null default 0;
+
+create table if not exists refresh_tokens (
+	id         bigint generated by default as identity primary key,
+	company_id bigint       not null references companies,
+	user_id    bigint       not null references users on delete cascade,
+	token_hash varchar(64)  not null unique,
+	family_id  varchar(36)  not null,
+	expires_at timestamp(6) not null,
+	revoked    boolean      not null,
+	created_at timestamp(6) not null
+);
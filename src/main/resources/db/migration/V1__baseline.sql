@@ -0,0 +1,60 @@
+-- Schema as Hibernate generated it from the original entities, before refresh tokens and token
+-- versions (V1_1). Existing databases are baselined at this version (see FlywayConfig) and run
+-- every script after it.
+create table companies (
+	id         bigint generated by default as identity primary key,
+	name       varchar(255) not null unique,
+	created_at timestamp(6) not null
+);
+
+create table users (
+	id             bigint generated by default as identity primary key,
+	company_id     bigint       not null references companies,
+	username       varchar(255) not null,
+	displayed_name varchar(255) not null,
+	email          varchar(255) not null unique,
+	password       varchar(255) not null
+);
+
+create table user_roles (
+	user_id bigint not null references users,
+	role    varchar(255) check (role in ('ROLE_ADMIN', 'ROLE_MEMBER', 'ROLE_OWNER'))
+);
+
+create table projects (
+	id          bigint generated by default as identity primary key,
+	company_id  bigint       not null references companies,
+	name        varchar(20)  not null,
+	description varchar(255) not null,
+	created_at  timestamp(6) not null
+);
+
+create table tasks (
+	id          bigint generated by default as identity primary key,
+	company_id  bigint       not null references companies,
+	project_id  bigint       not null references projects,
+	name        varchar(30)  not null,
+	description varchar(255),
+	assignee_id bigint references users,
+	status      varchar(255) check (status in ('TODO', 'IN_PROGRESS', 'DONE')),
+	created_at  timestamp(6) not null,
+	due_to      timestamp(6)
+);
+
+create table comments (
+	id         bigint generated by default as identity primary key,
+	company_id bigint       not null references companies,
+	task_id    bigint       not null references tasks,
+	author_id  bigint       not null references users,
+	contents   varchar(255) not null
+);
+
+create table invitations (
+	id         bigint generated by default as identity primary key,
+	company_id bigint       not null references companies,
+	email      varchar(255) not null,
+	token      varchar(255) not null unique,
+	expires_at timestamp(6) not null,
+	accepted   boolean      not null,
+	created_at timestamp(6) not null
+);
@@ -0,0 +1,26 @@
+-- Moves user roles from the user_roles collection table onto users.role_mask.
+-- Bits follow the declaration order of Role: ROLE_ADMIN = 1, ROLE_MEMBER = 2, ROLE_OWNER = 4.
+-- Databases that already ran this script by hand have no user_roles table and only get the column check.
+alter table users add column if not exists role_mask integer not null default 0;
+
+do $$
+begin
+	if exists (select 1 from information_schema.tables where table_schema = current_schema() and table_name = 'user_roles') then
+		update users u
+		set role_mask = r.mask
+		from (
+			select user_id,
+				   bit_or(case role
+							  when 'ROLE_ADMIN' then 1
+							  when 'ROLE_MEMBER' then 2
+							  when 'ROLE_OWNER' then 4
+							  else 0
+						  end) as mask
+			from user_roles
+			group by user_id
+		) r
+		where r.user_id = u.id;
+
+		drop table user_roles;
+	end if;
+end $$;
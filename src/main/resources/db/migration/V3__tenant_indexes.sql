@@ -0,0 +1,20 @@
+-- Every repository query filters by tenant first, so the indexes lead with company_id and then
+-- follow the rest of the access path. RepositoryIndexExplainTest checks each query against them.
+
+-- Task pages per project and across the tenant, newest or oldest first, and the recently active projects
+create index tasks_company_project_created_idx on tasks (company_id, project_id, created_at, id);
+create index tasks_company_created_idx on tasks (company_id, created_at, id);
+create index tasks_company_assignee_idx on tasks (company_id, assignee_id);
+
+-- Comment lists of a task
+create index comments_company_task_idx on comments (company_id, task_id, id);
+
+create index projects_company_idx on projects (company_id, id);
+
+create index users_company_idx on users (company_id, id);
+-- Login looks users up by name, without a tenant
+create index users_username_idx on users (username);
+
+-- Reuse detection revokes a whole family; user deletes cascade through user_id
+create index refresh_tokens_family_idx on refresh_tokens (family_id);
+create index refresh_tokens_user_idx on refresh_tokens (user_id);
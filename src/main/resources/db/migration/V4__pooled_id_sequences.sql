@@ -0,0 +1,32 @@
+-- Ids come from pooled sequences instead of identity columns, so Hibernate can assign them
+-- without an insert and batch the inserts. Each sequence hands out blocks of 50 (the entities'
+-- allocationSize); Hibernate's pooled optimizer uses the value it reads as the top of its block,
+-- so every sequence starts one block above the current highest id.
+
+alter table companies alter column id drop identity if exists;
+create sequence companies_seq increment by 50;
+select setval('companies_seq', coalesce(max(id), 0) + 50, false) from companies;
+
+alter table users alter column id drop identity if exists;
+create sequence users_seq increment by 50;
+select setval('users_seq', coalesce(max(id), 0) + 50, false) from users;
+
+alter table projects alter column id drop identity if exists;
+create sequence projects_seq increment by 50;
+select setval('projects_seq', coalesce(max(id), 0) + 50, false) from projects;
+
+alter table tasks alter column id drop identity if exists;
+create sequence tasks_seq increment by 50;
+select setval('tasks_seq', coalesce(max(id), 0) + 50, false) from tasks;
+
+alter table comments alter column id drop identity if exists;
+create sequence comments_seq increment by 50;
+select setval('comments_seq', coalesce(max(id), 0) + 50, false) from comments;
+
+alter table invitations alter column id drop identity if exists;
+create sequence invitations_seq increment by 50;
+select setval('invitations_seq', coalesce(max(id), 0) + 50, false) from invitations;
+
+alter table refresh_tokens alter column id drop identity if exists;
+create sequence refresh_tokens_seq increment by 50;
+select setval('refresh_tokens_seq', coalesce(max(id), 0) + 50, false) from refresh_tokens;
@@ -0,0 +1,22 @@
+-- Progress of tenant deletions run in the background (see TenantPurgeService). company_id has no
+-- foreign key: the row outlives the company it records.
+create sequence tenant_purges_seq increment by 50;
+
+create table tenant_purges (
+	id           bigint       primary key,
+	company_id   bigint       not null unique,
+	status       varchar(20)  not null,
+	step         varchar(20)  not null,
+	deleted_rows bigint       not null default 0,
+	restarts     integer      not null default 0,
+	requested_at timestamp(6) not null,
+	updated_at   timestamp(6) not null,
+	finished_at  timestamp(6),
+	last_error   varchar(500)
+);
+
+create index tenant_purges_status_idx on tenant_purges (status);
+
+-- The purge reads each table's ids a chunk at a time by tenant
+create index invitations_company_idx on invitations (company_id, id);
+create index refresh_tokens_company_idx on refresh_tokens (company_id, id);
@@ -0,0 +1,9 @@
+-- The tenant's users are locked out as soon as its deletion is requested, so progress is read by an
+-- unguessable id instead of through the tenant
+alter table tenant_purges add column public_id varchar(36);
+update tenant_purges set public_id = gen_random_uuid()::text;
+alter table tenant_purges alter column public_id set not null;
+alter table tenant_purges add constraint tenant_purges_public_id_key unique (public_id);
+
+-- Nothing writes to a blocked tenant, so a purge no longer starts over
+alter table tenant_purges drop column restarts;
@@ -0,0 +1,2 @@
+-- Task pages across the tenant sorted by name, read from the keyset cursor (name, id) onwards
+create index tasks_company_name_idx on tasks (company_id, name, id);
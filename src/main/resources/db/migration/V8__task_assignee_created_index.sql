@@ -0,0 +1,6 @@
+-- Pages of one assignee are sorted by (created_at, id) like every other task page, so the assignee
+-- index carries the sort columns and the page is read in order. Postgres does not treat
+-- "assignee_id is null" as fixing the index order, so unassigned tasks get a partial index of their own
+create index tasks_company_assignee_created_idx on tasks (company_id, assignee_id, created_at, id);
+create index tasks_company_unassigned_created_idx on tasks (company_id, created_at, id) where assignee_id is null;
+drop index tasks_company_assignee_idx;
@@ -0,0 +1,51 @@
+package com.example.maven.api.controller;
+
+import com.example.maven.cache.CacheRegionStats;
+import com.example.maven.cache.TwoTierCacheManager;
+import com.example.maven.enums.Role;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SecuredWebMvcTest(CacheAdminController.class)
+class CacheAdminControllerTest {
+
+	@Autowired MockMvc mockMvc;
+
+	@Autowired TwoTierCacheManager cacheManager;
+
+	// ---------- GET /api/admin/cache/stats (ADMIN) ----------
+	@WithMockTenantUser(roles = { Role.ROLE_ADMIN })
+	@Test
+	void givenAdmin_whenGetStats_then200AndRegions() throws Exception {
+		var stats = new CacheRegionStats("tasks", 12, 0, 90, 10, 6, 4, 0.96, 4, 3.5, 8.0, 1, 0,
+				Duration.ofMinutes(10), Duration.ofSeconds(60), 10_000);
+		when(cacheManager.stats()).thenReturn(List.of(stats));
+
+		mockMvc.perform(get("/api/admin/cache/stats"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].name").value("tasks"))
+				.andExpect(jsonPath("$[0].hitRatio").value(0.96))
+				.andExpect(jsonPath("$[0].localHits").value(90));
+	}
+
+	@WithMockTenantUser(roles = { Role.ROLE_MEMBER })
+	@Test
+	void givenMember_whenGetStats_then403() throws Exception {
+		mockMvc.perform(get("/api/admin/cache/stats"))
+				.andExpect(status().isForbidden());
+	}
+
+	@Test
+	void givenNoAuth_whenGetStats_then401() throws Exception {
+		mockMvc.perform(get("/api/admin/cache/stats"))
+				.andExpect(status().isUnauthorized());
+	}
+}
@@ -0,0 +1,75 @@
+package com.example.maven.api.controller;
+
+import com.example.maven.api.dto.response.TenantPurgeResponseDto;
+import com.example.maven.enums.Role;
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
+import com.example.maven.exception.ResourceNotFoundException;
+import com.example.maven.service.CompanyService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SecuredWebMvcTest(CompanyController.class)
+class CompanyControllerTest {
+	private static final String DELETION_ID = "3f1c8f5e-2b7a-4c39-9d0e-6a5b4c3d2e1f";
+
+	@Autowired MockMvc mockMvc;
+
+	@MockitoBean CompanyService companyService;
+
+	// ---------- DELETE /api/company (OWNER) ----------
+	@WithMockTenantUser(tenantId = 7L, roles = { Role.ROLE_OWNER })
+	@Test
+	void givenOwner_whenDeleteCompany_then202AndPurgeOfOwnTenantQueued() throws Exception {
+		when(companyService.deleteCompany(7L)).thenReturn(purge(TenantPurgeStatus.QUEUED, TenantPurgeStep.COMMENTS, 0));
+
+		mockMvc.perform(delete("/api/company"))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.id").value(DELETION_ID))
+				.andExpect(jsonPath("$.companyId").value(7L))
+				.andExpect(jsonPath("$.status").value("QUEUED"));
+
+		verify(companyService).deleteCompany(7L);
+	}
+
+	@WithMockTenantUser(roles = { Role.ROLE_MEMBER, Role.ROLE_ADMIN })
+	@Test
+	void givenAdminWithoutOwner_whenDeleteCompany_then403() throws Exception {
+		mockMvc.perform(delete("/api/company"))
+				.andExpect(status().isForbidden());
+
+		verifyNoInteractions(companyService);
+	}
+
+	// ---------- GET /api/company/deletions/{id} (public) ----------
+	@Test
+	void givenNoAuth_whenGetCompanyDeletion_then200AndProgress() throws Exception {
+		when(companyService.findCompanyDeletion(DELETION_ID)).thenReturn(purge(TenantPurgeStatus.RUNNING, TenantPurgeStep.TASKS, 4_000));
+
+		mockMvc.perform(get("/api/company/deletions/{id}", DELETION_ID))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.step").value("TASKS"))
+				.andExpect(jsonPath("$.deletedRows").value(4_000));
+	}
+
+	@Test
+	void givenUnknownId_whenGetCompanyDeletion_then404() throws Exception {
+		when(companyService.findCompanyDeletion("unknown")).thenThrow(new ResourceNotFoundException("Company deletion not found"));
+
+		mockMvc.perform(get("/api/company/deletions/{id}", "unknown"))
+				.andExpect(status().isNotFound());
+	}
+
+	private static TenantPurgeResponseDto purge(TenantPurgeStatus status, TenantPurgeStep step, long deletedRows) {
+		var now = LocalDateTime.now();
+		return new TenantPurgeResponseDto(DELETION_ID, 7L, status, step, deletedRows, now, now, null);
+	}
+}
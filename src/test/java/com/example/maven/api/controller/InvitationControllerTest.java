@@ -4,6 +4,7 @@ import com.example.maven.api.dto.request.invitation.InvitationAcceptDto;
 import com.example.maven.api.dto.request.invitation.InvitationCreateDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.enums.Role;
+import com.example.maven.security.LoginThrottle;
 import com.example.maven.security.WebSecurityConfig;
 import com.example.maven.service.InvitationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -36,6 +37,7 @@ class InvitationControllerTest {
 	@Autowired ObjectMapper objectMapper;
 
 	@MockitoBean InvitationService invitationService;
+	@MockitoBean LoginThrottle loginThrottle;
 
 	// ---------- POST /api/invitations ----------
 	@WithMockTenantUser(roles = { Role.ROLE_ADMIN })
@@ -0,0 +1,43 @@
+package com.example.maven.api.controller;
+
+import com.example.maven.cache.TwoTierCacheManager;
+import com.example.maven.logging.AccessLog;
+import com.example.maven.security.JwtAuthenticationCache;
+import com.example.maven.security.JwtDecoder;
+import com.example.maven.security.JwtToPrincipalConverter;
+import com.example.maven.security.PasswordHashingProperties;
+import com.example.maven.security.TokenRevocationService;
+import com.example.maven.security.UnauthorizedHandler;
+import com.example.maven.security.WebSecurityConfig;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.annotation.AliasFor;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * MockMvc slice of the given controllers behind the application's security chain, without a
+ * datasource or Redis. The test mocks the services; the JWT filter's collaborators are mocked
+ * here, as requests authenticate with {@link WithMockTenantUser} instead of a bearer token.
+ * The application enables caching, so a mocked {@link TwoTierCacheManager} stands in for Boot's.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@WebMvcTest
+@ImportAutoConfiguration(classes = { MetricsAutoConfiguration.class, SimpleMetricsExportAutoConfiguration.class },
+		exclude = CacheAutoConfiguration.class)
+@Import({ WebSecurityConfig.class, UnauthorizedHandler.class, PasswordHashingProperties.class })
+@MockitoBean(types = { JwtDecoder.class, JwtToPrincipalConverter.class, JwtAuthenticationCache.class,
+		TokenRevocationService.class, AccessLog.class, TwoTierCacheManager.class })
+public @interface SecuredWebMvcTest {
+	@AliasFor(annotation = WebMvcTest.class, attribute = "controllers")
+	Class<?>[] value() default {};
+}
@@ -1,8 +1,13 @@
 package com.example.maven.api.controller;
 
+import com.example.maven.api.dto.request.task.TaskBulkUpdateDto;
 import com.example.maven.api.dto.request.task.TaskCreateDto;
+import com.example.maven.api.dto.request.task.TaskPageRequest;
 import com.example.maven.api.dto.request.task.TaskUpdateDto;
+import com.example.maven.api.dto.response.TaskBulkUpdateResponseDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
 import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.enums.TaskSort;
 import com.example.maven.enums.TaskStatus;
 import com.example.maven.security.WebSecurityConfig;
 import com.example.maven.service.TaskService;
@@ -21,7 +26,9 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -67,6 +74,65 @@ class TaskControllerTest {
 		verify(taskService).createTask(any(TaskCreateDto.class));
 	}
 
+	// ---------- POST /api/tasks/batch (ADMIN) ----------
+	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_ADMIN })
+	@Test
+	void givenAdmin_whenCreateTasksInBatch_then200_andServiceCalledOnce() throws Exception {
+		String json = """
+            { "tasks": [
+              { "name": "Task A", "description": "Do A", "projectId": 5 },
+              { "name": "Task B", "description": "Do B", "projectId": 6, "assigneeId": 10 }
+            ] }
+            """;
+
+		var now = LocalDateTime.now();
+		when(taskService.createTasks(anyList())).thenReturn(List.of(
+				new TaskResponseDto(1L, "Task A", "Do A", 0L, TaskStatus.TODO, now, null),
+				new TaskResponseDto(2L, "Task B", "Do B", 10L, TaskStatus.TODO, now, null)
+		));
+
+		mockMvc.perform(post("/api/tasks/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.length()").value(2))
+				.andExpect(jsonPath("$[1].assigneeId").value(10));
+		verify(taskService).createTasks(anyList());
+	}
+
+	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_ADMIN })
+	@Test
+	void givenInvalidItem_whenCreateTasksInBatch_then400_andServiceNotCalled() throws Exception {
+		String json = """
+            { "tasks": [ { "name": "", "description": "Do A", "projectId": 5 } ] }
+            """;
+
+		mockMvc.perform(post("/api/tasks/batch")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json))
+				.andExpect(status().isBadRequest());
+		verifyNoInteractions(taskService);
+	}
+
+	// ---------- PATCH /api/tasks/bulk (ADMIN) ----------
+	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_ADMIN })
+	@Test
+	void givenAdmin_whenBulkUpdateTasks_then200AndCount() throws Exception {
+		String json = """
+            { "filter": { "projectId": 5, "status": "IN_PROGRESS" }, "set": { "status": "DONE" } }
+            """;
+
+		when(taskService.bulkUpdateTasks(any(TaskBulkUpdateDto.class))).thenReturn(new TaskBulkUpdateResponseDto(12));
+
+		mockMvc.perform(patch("/api/tasks/bulk")
+						.contentType(MediaType.APPLICATION_JSON)
+						.content(json))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.updated").value(12));
+		verify(taskService).bulkUpdateTasks(argThat(dto ->
+				dto.filter().projectId() == 5L && dto.set().status() == TaskStatus.DONE));
+	}
+
 	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_MEMBER })
 	@Test
 	void givenMember_whenCreateTask_then403() throws Exception {
@@ -100,13 +166,14 @@ class TaskControllerTest {
 		var t1 = new TaskResponseDto(1L, "T1", "D1", 0L, TaskStatus.TODO, now, now.plusDays(1));
 		var t2 = new TaskResponseDto(2L, "T2", "D2", 5L, TaskStatus.IN_PROGRESS, now, now.plusDays(2));
 
-		when(taskService.findAllTasksByProjectId(isNull())).thenReturn(List.of(t1, t2));
+		when(taskService.findFirstTaskPage(isNull())).thenReturn(new TaskPageResponseDto(List.of(t1, t2), "next"));
 
 		mockMvc.perform(get("/api/tasks"))
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$", Matchers.hasSize(2)))
-				.andExpect(jsonPath("$[0].id").value(1L))
-				.andExpect(jsonPath("$[1].id").value(2L));
+				.andExpect(jsonPath("$.items", Matchers.hasSize(2)))
+				.andExpect(jsonPath("$.items[0].id").value(1L))
+				.andExpect(jsonPath("$.items[1].id").value(2L))
+				.andExpect(jsonPath("$.nextCursor").value("next"));
 	}
 
 	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_MEMBER })
@@ -115,12 +182,30 @@ class TaskControllerTest {
 		var now = LocalDateTime.now();
 		var t = new TaskResponseDto(7L, "ProjTask", "D", 3L, TaskStatus.DONE, now, now.plusDays(3));
 
-		when(taskService.findAllTasksByProjectId(eq(55L))).thenReturn(List.of(t));
+		when(taskService.findFirstTaskPage(eq(55L))).thenReturn(new TaskPageResponseDto(List.of(t), null));
 
 		mockMvc.perform(get("/api/tasks").param("projectId", "55"))
 				.andExpect(status().isOk())
-				.andExpect(jsonPath("$", Matchers.hasSize(1)))
-				.andExpect(jsonPath("$[0].id").value(7L));
+				.andExpect(jsonPath("$.items", Matchers.hasSize(1)))
+				.andExpect(jsonPath("$.items[0].id").value(7L))
+				.andExpect(jsonPath("$.nextCursor").value(Matchers.nullValue()));
+	}
+
+	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_MEMBER })
+	@Test
+	void givenMember_whenGetTasks_withFiltersAndCursor_thenUncachedPageRequested() throws Exception {
+		when(taskService.findTaskPage(any())).thenReturn(new TaskPageResponseDto(List.of(), null));
+
+		mockMvc.perform(get("/api/tasks")
+						.param("status", "DONE")
+						.param("sort", "OLDEST")
+						.param("size", "500")
+						.param("cursor", "abc"))
+				.andExpect(status().isOk());
+
+		verify(taskService).findTaskPage(new TaskPageRequest(null, TaskStatus.DONE, null, null, null,
+				TaskSort.OLDEST, TaskPageRequest.MAX_SIZE, "abc"));
+		verify(taskService, never()).findFirstTaskPage(any());
 	}
 
 	@WithMockTenantUser(roles = { com.example.maven.enums.Role.ROLE_ADMIN }) // нет ROLE_MEMBER → 403
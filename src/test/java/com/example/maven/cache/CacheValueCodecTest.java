@@ -0,0 +1,99 @@
+package com.example.maven.cache;
+
+import com.example.maven.api.dto.response.CommentResponseDto;
+import com.example.maven.api.dto.response.ProjectResponseDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.api.dto.response.UserResponseDto;
+import com.example.maven.enums.Role;
+import com.example.maven.enums.TaskStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CacheValueCodecTest {
+
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+	private final CacheValueCodec codec = new CacheValueCodec();
+
+	@Test
+	void givenResponseRecords_whenRoundTrip_thenEqual() {
+		var task = new TaskResponseDto(7L, "Ship", "Ship the release", 3L, TaskStatus.IN_PROGRESS, CREATED_AT, CREATED_AT.plusDays(2));
+		var project = new ProjectResponseDto(300_000L, "Core", null, CREATED_AT);
+		var user = new UserResponseDto(5L, "john", "John Smith", "john@acme.com", Set.of(Role.ROLE_ADMIN, Role.ROLE_MEMBER));
+		var comment = new CommentResponseDto(1L, 7L, 5L, "Looks good ✓");
+
+		assertThat(roundTrip(task)).isEqualTo(task);
+		assertThat(roundTrip(project)).isEqualTo(project);
+		assertThat(roundTrip(user)).isEqualTo(user);
+		assertThat(roundTrip(comment)).isEqualTo(comment);
+	}
+
+	@Test
+	void givenNullableFieldsUnset_whenRoundTrip_thenNullsPreserved() {
+		var task = new TaskResponseDto(1L, null, null, 0L, null, null, null);
+
+		assertThat(roundTrip(task)).isEqualTo(task);
+	}
+
+	@Test
+	void givenListsAndCachedNull_whenRoundTrip_thenEqual() {
+		assertThat(roundTrip(tasks(3))).isEqualTo(tasks(3));
+		assertThat(roundTrip(List.of())).isEqualTo(List.of());
+		assertThat(roundTrip(NullValue.INSTANCE)).isSameAs(NullValue.INSTANCE);
+	}
+
+	@Test
+	void givenTaskPages_whenRoundTrip_thenEqual() {
+		var page = new TaskPageResponseDto(tasks(2), "TkVXRVNUfDJ8MjAyNQ");
+		var lastPage = new TaskPageResponseDto(List.of(), null);
+
+		assertThat(roundTrip(page)).isEqualTo(page);
+		assertThat(roundTrip(lastPage)).isEqualTo(lastPage);
+	}
+
+	@Test
+	void givenOtherType_whenRoundTrip_thenJdkFallback() {
+		assertThat(roundTrip(new ArrayList<>(List.of("a", "b")))).isEqualTo(List.of("a", "b"));
+		assertThat(roundTrip(42L)).isEqualTo(42L);
+	}
+
+	@Test
+	void givenOtherSchemaVersion_whenDeserialize_thenTreatedAsMiss() {
+		byte[] bytes = codec.serialize(tasks(1));
+		bytes[0] = CacheValueCodec.VERSION + 1;
+
+		assertThat(codec.deserialize(bytes)).isNull();
+	}
+
+	@Test
+	void givenLargeTaskList_whenSerialize_thenSmallerThanJdkSerialization() {
+		List<TaskResponseDto> tasks = tasks(1_000);
+
+		byte[] binary = codec.serialize(tasks);
+		byte[] jdk = new JdkSerializationRedisSerializer().serialize(new ArrayList<>(tasks));
+
+		assertThat(binary.length).isLessThan(jdk.length * 2 / 3);
+		assertThat(codec.deserialize(binary)).isEqualTo(tasks);
+	}
+
+	private Object roundTrip(Object value) {
+		return codec.deserialize(codec.serialize(value));
+	}
+
+	private static List<TaskResponseDto> tasks(int count) {
+		return LongStream.rangeClosed(1, count)
+				.mapToObj(id -> new TaskResponseDto(id, "Task " + id, "Description of task " + id, id % 17,
+						TaskStatus.values()[(int) (id % 3)], CREATED_AT.plusMinutes(id), id % 2 == 0 ? null : CREATED_AT.plusDays(id)))
+				.toList();
+	}
+}
@@ -0,0 +1,115 @@
+package com.example.maven.cache;
+
+import com.example.maven.enums.Role;
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.security.TenantContext;
+import com.example.maven.security.UserPrincipal;
+import com.example.maven.service.ProjectService;
+import com.example.maven.service.TaskService;
+import com.example.maven.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmupServiceTest {
+
+	@Mock private ProjectService projectService;
+	@Mock private UserService userService;
+	@Mock private TaskService taskService;
+	@Mock private TaskRepository taskRepository;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS) private StringRedisTemplate redisTemplate;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CacheWarmupService warmupService;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		warmupService = new CacheWarmupService(projectService, userService, taskService, taskRepository,
+				redisTemplate, new CacheWarmupProperties(), meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		warmupService.destroy();
+	}
+
+	@Test
+	void givenTenant_whenWarm_thenListsLoadedAsTenantAndContextCleared() {
+		var tenantSeen = new AtomicReference<Long>();
+		var contextSeen = new AtomicReference<TenantContext>();
+		when(projectService.findAllProjects()).thenAnswer(invocation -> {
+			var principal = (UserPrincipal) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+			tenantSeen.set(principal.getTenantId());
+			contextSeen.set(TenantContext.current());
+			return List.of();
+		});
+		when(taskRepository.findMostRecentlyActiveProjectIds(eq(7L), any(Pageable.class))).thenReturn(List.of(3L, 1L));
+
+		warmupService.warm(principal(7L));
+
+		assertThat(tenantSeen.get()).isEqualTo(7L);
+		assertThat(contextSeen.get()).isEqualTo(new TenantContext(7L, 42L));
+		verify(userService).findCompanyUsers();
+		verify(taskService).findFirstTaskPage(3L);
+		verify(taskService).findFirstTaskPage(1L);
+		assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+		assertThat(TenantContext.current()).isNull();
+		assertThat(meterRegistry.counter("cache.warmup.tenants", "result", "warmed").count()).isEqualTo(1);
+	}
+
+	@Test
+	void givenLogin_whenOnLogin_thenTenantRecordedAndWarmedAsync() {
+		when(redisTemplate.opsForValue().setIfAbsent(eq("cache:warmup:recent:7"), eq("1"), any(Duration.class))).thenReturn(true);
+
+		warmupService.onLogin(principal(7L));
+
+		verify(redisTemplate.opsForZSet()).add(eq(CacheWarmupService.ACTIVE_TENANTS_KEY), eq("7"), anyDouble());
+		verify(projectService, timeout(1000)).findAllProjects();
+		verify(userService, timeout(1000)).findCompanyUsers();
+	}
+
+	@Test
+	void givenTenantWarmedRecently_whenOnLogin_thenRecordedButNotWarmedAgain() {
+		when(redisTemplate.opsForValue().setIfAbsent(eq("cache:warmup:recent:7"), eq("1"), any(Duration.class))).thenReturn(false);
+
+		warmupService.onLogin(principal(7L));
+
+		verify(redisTemplate.opsForZSet()).add(eq(CacheWarmupService.ACTIVE_TENANTS_KEY), eq("7"), anyDouble());
+		assertThat(meterRegistry.counter("cache.warmup.tenants", "result", "recent").count()).isEqualTo(1);
+		verifyNoInteractions(projectService, userService, taskRepository);
+	}
+
+	@Test
+	void givenRecordedTenants_whenApplicationReady_thenEachTenantWarmed() {
+		when(redisTemplate.opsForZSet().reverseRange(CacheWarmupService.ACTIVE_TENANTS_KEY, 0, 99))
+				.thenReturn(Set.of("7", "8"));
+
+		warmupService.replayActiveTenants();
+
+		verify(taskRepository, timeout(1000)).findMostRecentlyActiveProjectIds(eq(7L), any(Pageable.class));
+		verify(taskRepository, timeout(1000)).findMostRecentlyActiveProjectIds(eq(8L), any(Pageable.class));
+	}
+
+	private static UserPrincipal principal(long tenantId) {
+		return UserPrincipal.builder().id(42L).username("john").tenantId(tenantId).roles(Set.of(Role.ROLE_MEMBER)).build();
+	}
+}
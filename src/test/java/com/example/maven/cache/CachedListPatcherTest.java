@@ -0,0 +1,157 @@
+package com.example.maven.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedListPatcherTest {
+
+	private static final TenantScopedKey KEY = TenantScopedKey.of(1L, TenantScopedKey.ALL);
+
+	@Mock private RedisKeyLock redisKeyLock;
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS) private StringRedisTemplate redisTemplate;
+
+	private Cache cache;
+	private CachedListPatcher patcher;
+
+	record Item(long id, String name) {}
+
+	@BeforeEach
+	void setUp() {
+		var cacheManager = new ConcurrentMapCacheManager();
+		cache = cacheManager.getCache("companyUsers");
+		patcher = new CachedListPatcher(cacheManager, redisKeyLock, redisTemplate);
+	}
+
+	@Test
+	void givenCachedList_whenUpsertNewItem_thenAppendedInPlace() {
+		cache.put(KEY, List.of(new Item(1, "a")));
+		lockAvailable();
+
+		patcher.upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+
+		assertThat(cachedList()).containsExactly(new Item(1, "a"), new Item(2, "b"));
+		verify(redisKeyLock).unlock(eq("lock:companyUsers::1:all"), eq("token"));
+	}
+
+	@Test
+	void givenCachedList_whenUpsertExistingItem_thenReplacedById() {
+		cache.put(KEY, List.of(new Item(1, "a"), new Item(2, "b")));
+		lockAvailable();
+
+		patcher.upsert("companyUsers", 1L, new Item(2, "b2"), Item::id);
+
+		assertThat(cachedList()).containsExactly(new Item(1, "a"), new Item(2, "b2"));
+	}
+
+	@Test
+	void givenCachedList_whenRemove_thenItemDropped() {
+		cache.put(KEY, List.of(new Item(1, "a"), new Item(2, "b")));
+		lockAvailable();
+
+		patcher.remove("companyUsers", 1L, 1L, Item::id);
+
+		assertThat(cachedList()).containsExactly(new Item(2, "b"));
+	}
+
+	@Test
+	void givenListNotCached_whenUpsert_thenNothingCached() {
+		lockAvailable();
+
+		patcher.upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	@Test
+	void givenLockBusy_whenUpsert_thenMarkedDirtyAndEvicted() {
+		cache.put(KEY, List.of(new Item(1, "a")));
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.empty());
+
+		patcher.upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+
+		assertThat(cache.get(KEY)).isNull();
+		verify(redisTemplate.opsForValue()).set(eq("dirty:companyUsers::1:all"), eq("1"), any(Duration.class));
+	}
+
+	@Test
+	void givenConcurrentWriterMarkedDirty_whenUpsert_thenEvictedAfterPut() {
+		cache.put(KEY, List.of(new Item(1, "a")));
+		lockAvailable();
+		when(redisTemplate.hasKey("dirty:companyUsers::1:all")).thenReturn(true);
+
+		patcher.upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	@Test
+	void givenTwoNodesWithLocalCopies_whenBothPatchInTurn_thenNeitherPatchLost() {
+		// Both nodes share one Redis tier; the first node's invalidation has not reached the second yet
+		var redis = new ConcurrentMapCacheManager();
+		var nodeA = twoTierNode(redis);
+		var nodeB = twoTierNode(redis);
+		nodeA.getCache("companyUsers").put(KEY, List.of(new Item(1, "a")));
+		assertThat(nodeB.getCache("companyUsers").get(KEY)).isNotNull();
+		lockAvailable();
+
+		new CachedListPatcher(nodeA, redisKeyLock, redisTemplate).upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+		new CachedListPatcher(nodeB, redisKeyLock, redisTemplate).upsert("companyUsers", 1L, new Item(3, "c"), Item::id);
+
+		assertThat(redis.getCache("companyUsers").get(KEY).get())
+				.isEqualTo(List.of(new Item(1, "a"), new Item(2, "b"), new Item(3, "c")));
+	}
+
+	@Test
+	void givenListNotCached_whenStaleLoaderStoresItAfterUpsert_thenEvictedAgainAfterDelay() throws InterruptedException {
+		var redis = new ConcurrentMapCacheManager();
+		var properties = new TwoTierCacheProperties();
+		properties.setReEvictDelay(Duration.ofMillis(20));
+		var node = twoTierNode(redis, properties);
+		lockAvailable();
+
+		new CachedListPatcher(node, redisKeyLock, redisTemplate).upsert("companyUsers", 1L, new Item(2, "b"), Item::id);
+		// A reader that queried before the commit stores the list without item 2
+		redis.getCache("companyUsers").put(KEY, List.of(new Item(1, "a")));
+
+		long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+		while (redis.getCache("companyUsers").get(KEY) != null && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(redis.getCache("companyUsers").get(KEY)).isNull();
+	}
+
+	private TwoTierCacheManager twoTierNode(ConcurrentMapCacheManager redis) {
+		return twoTierNode(redis, new TwoTierCacheProperties());
+	}
+
+	private TwoTierCacheManager twoTierNode(ConcurrentMapCacheManager redis, TwoTierCacheProperties properties) {
+		return new TwoTierCacheManager(redis, redisTemplate, mock(RedisMessageListenerContainer.class),
+				redisKeyLock, mock(CacheRefresher.class), properties, new SimpleMeterRegistry());
+	}
+
+	private void lockAvailable() {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Item> cachedList() {
+		return (List<Item>) cache.get(KEY).get();
+	}
+}
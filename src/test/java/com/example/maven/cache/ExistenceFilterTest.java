@@ -0,0 +1,88 @@
+package com.example.maven.cache;
+
+import com.example.maven.persistence.repository.CommentRepository;
+import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExistenceFilterTest {
+
+	@Mock private StringRedisTemplate redisTemplate;
+	@Mock private RedisKeyLock redisKeyLock;
+	@Mock private CacheRefresher refresher;
+	@Mock private TaskRepository taskRepository;
+	@Mock private ProjectRepository projectRepository;
+	@Mock private UserRepository userRepository;
+	@Mock private CommentRepository commentRepository;
+
+	private ExistenceFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		filter = new ExistenceFilter(redisTemplate, redisKeyLock, refresher, taskRepository, projectRepository,
+				userRepository, commentRepository, new ExistenceFilterProperties());
+	}
+
+	@Test
+	void givenCapacity_whenSized_thenMatchesTargetFalsePositiveRate() {
+		long bits = ExistenceFilter.optimalBits(1_000, 0.01);
+
+		assertThat(bits).isBetween(9_500L, 9_700L);
+		assertThat(ExistenceFilter.optimalHashes(1_000, bits)).isEqualTo(7);
+	}
+
+	@Test
+	void givenAnyId_whenHashed_thenBothHashesFitLuaDoublesAndStepIsOdd() {
+		for (long id : new long[] { 0, 1, 42, Long.MAX_VALUE }) {
+			long[] hashes = ExistenceFilter.hashes(id);
+			assertThat(hashes[0]).isBetween(0L, (long) Integer.MAX_VALUE);
+			assertThat(hashes[1]).isBetween(1L, (long) Integer.MAX_VALUE);
+			assertThat(hashes[1] % 2).isEqualTo(1);
+		}
+	}
+
+	@Test
+	void givenNoReadyFilter_whenMightExist_thenTrueAndBuildScheduledOnce() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(-1L);
+		when(redisKeyLock.tryLock(eq("lock:exists:task:1"), any(Duration.class), eq(Duration.ZERO)))
+				.thenReturn(Optional.of("token"));
+
+		assertThat(filter.mightExist(EntityKind.TASK, 1L, 5L)).isTrue();
+		assertThat(filter.mightExist(EntityKind.TASK, 1L, 6L)).isTrue();
+
+		verify(refresher, times(1)).submit(any(), any());
+	}
+
+	@Test
+	void givenReadyFilter_whenIdAbsent_thenFalse() {
+		when(redisTemplate.execute(any(RedisScript.class), eq(List.of("exists:task:1", "exists:task:1:meta")), any(), any()))
+				.thenReturn(0L);
+
+		assertThat(filter.mightExist(EntityKind.TASK, 1L, 5L)).isFalse();
+	}
+
+	@Test
+	void givenRedisDown_whenMightExist_thenTrue() {
+		when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+				.thenThrow(new RedisConnectionFailureException("down"));
+
+		assertThat(filter.mightExist(EntityKind.USER, 1L, 5L)).isTrue();
+	}
+}
@@ -0,0 +1,72 @@
+package com.example.maven.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ListCacheInvalidatorTest {
+
+	private ConcurrentMapCacheManager cacheManager;
+	private ListCacheInvalidator invalidator;
+
+	@BeforeEach
+	void setUp() {
+		cacheManager = new ConcurrentMapCacheManager();
+		invalidator = new ListCacheInvalidator(cacheManager);
+	}
+
+	@Test
+	void givenTaskListsOfSeveralTenants_whenEvictProjectTasks_thenOnlyWritersProjectAndTenantWideListDropped() {
+		Cache cache = cacheManager.getCache(ListCacheInvalidator.PROJECT_TASKS);
+		for (long tenantId = 1; tenantId <= 3; tenantId++) {
+			cache.put(TenantScopedKey.of(tenantId, 10L), List.of("a"));
+			cache.put(TenantScopedKey.of(tenantId, 11L), List.of("b"));
+			cache.put(TenantScopedKey.of(tenantId, TenantScopedKey.ALL), List.of("a", "b"));
+		}
+
+		invalidator.evictProjectTasks(2L, 10L);
+
+		assertThat(cache.get(TenantScopedKey.of(2L, 10L))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(2L, TenantScopedKey.ALL))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(2L, 11L))).isNotNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L))).isNotNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, TenantScopedKey.ALL))).isNotNull();
+		assertThat(cache.get(TenantScopedKey.of(3L, 10L))).isNotNull();
+	}
+
+	@Test
+	void givenBatchAcrossProjects_whenEvictProjectTasks_thenTouchedProjectsAndTenantWideListDropped() {
+		Cache cache = cacheManager.getCache(ListCacheInvalidator.PROJECT_TASKS);
+		cache.put(TenantScopedKey.of(1L, 10L), List.of("a"));
+		cache.put(TenantScopedKey.of(1L, 11L), List.of("b"));
+		cache.put(TenantScopedKey.of(1L, 12L), List.of("c"));
+		cache.put(TenantScopedKey.of(1L, TenantScopedKey.ALL), List.of("a", "b", "c"));
+
+		invalidator.evictProjectTasks(1L, Set.of(10L, 11L));
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, 11L))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, TenantScopedKey.ALL))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, 12L))).isNotNull();
+	}
+
+	@Test
+	void givenCommentListsOfSeveralTasks_whenEvictTaskComments_thenOnlyThatTaskDropped() {
+		Cache cache = cacheManager.getCache(ListCacheInvalidator.TASK_COMMENTS);
+		cache.put(TenantScopedKey.of(1L, 5L), List.of("c"));
+		cache.put(TenantScopedKey.of(1L, 6L), List.of("d"));
+		cache.put(TenantScopedKey.of(2L, 5L), List.of("e"));
+
+		invalidator.evictTaskComments(1L, 5L);
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, 6L))).isNotNull();
+		assertThat(cache.get(TenantScopedKey.of(2L, 5L))).isNotNull();
+	}
+}
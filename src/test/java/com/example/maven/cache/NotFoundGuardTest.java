@@ -0,0 +1,76 @@
+package com.example.maven.cache;
+
+import com.example.maven.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotFoundGuardTest {
+
+	@Mock private ExistenceFilter existenceFilter;
+
+	private SimpleMeterRegistry meterRegistry;
+	private NotFoundGuard guard;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		guard = new NotFoundGuard(new ConcurrentMapCacheManager(), existenceFilter, meterRegistry);
+	}
+
+	@Test
+	void givenRecordedMiss_whenCheck_thenRejectedWithoutFilter() {
+		guard.recordMissing(EntityKind.TASK, 1L, 5L);
+
+		assertThatThrownBy(() -> guard.check(EntityKind.TASK, 1L, 5L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Task not found");
+		verifyNoInteractions(existenceFilter);
+		assertThat(meterRegistry.counter("cache.not_found", "entity", "task", "source", "negative-cache").count()).isEqualTo(1);
+	}
+
+	@Test
+	void givenMissInOtherTenant_whenCheck_thenFilterConsulted() {
+		guard.recordMissing(EntityKind.TASK, 2L, 5L);
+		when(existenceFilter.mightExist(EntityKind.TASK, 1L, 5L)).thenReturn(true);
+
+		assertThatNoException().isThrownBy(() -> guard.check(EntityKind.TASK, 1L, 5L));
+	}
+
+	@Test
+	void givenFilterSaysAbsent_whenCheck_thenRejected() {
+		when(existenceFilter.mightExist(EntityKind.PROJECT, 1L, 9L)).thenReturn(false);
+
+		assertThatThrownBy(() -> guard.check(EntityKind.PROJECT, 1L, 9L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Project not found");
+	}
+
+	@Test
+	void givenProbedId_whenCreated_thenNegativeEntryEvictedAndFilterUpdated() {
+		guard.recordMissing(EntityKind.USER, 1L, 7L);
+		when(existenceFilter.mightExist(EntityKind.USER, 1L, 7L)).thenReturn(true);
+
+		guard.created(EntityKind.USER, 1L, 7L);
+
+		verify(existenceFilter).add(EntityKind.USER, 1L, 7L);
+		assertThatNoException().isThrownBy(() -> guard.check(EntityKind.USER, 1L, 7L));
+	}
+
+	@Test
+	void givenDeletedId_whenCheck_thenRejectedFromNegativeCache() {
+		guard.deleted(EntityKind.COMMENT, 1L, 3L);
+
+		assertThatThrownBy(() -> guard.check(EntityKind.COMMENT, 1L, 3L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Comment not found");
+	}
+}
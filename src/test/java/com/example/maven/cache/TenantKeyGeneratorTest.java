@@ -0,0 +1,70 @@
+package com.example.maven.cache;
+
+import com.example.maven.security.TenantContext;
+import com.example.maven.utils.SecurityUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TenantKeyGeneratorTest {
+
+	@Mock private SecurityUtils securityUtils;
+
+	private Method method;
+
+	@BeforeEach
+	void setUp() throws NoSuchMethodException {
+		method = Object.class.getMethod("toString");
+	}
+
+	@Test
+	void givenIdArgument_whenGenerate_thenKeyedByTenantAndId() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(42L);
+
+		Object key = new TenantKeyGenerator(securityUtils).generate(this, method, 7L, "ignored");
+
+		assertThat(key).isEqualTo(new TenantScopedKey(42L, 7L));
+		assertThat(key).hasToString("42:7");
+	}
+
+	@Test
+	void givenNullId_whenGenerate_thenTenantWideKey() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(42L);
+
+		Object key = new TenantKeyGenerator(securityUtils).generate(this, method, (Object) null);
+
+		assertThat(key).isEqualTo(new TenantScopedKey(42L, TenantScopedKey.ALL));
+		assertThat(key).hasToString("42:all");
+	}
+
+	@Test
+	void givenListGenerator_whenGenerate_thenArgumentsIgnored() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(42L);
+		var generator = new TenantListKeyGenerator(securityUtils);
+
+		assertThat(generator.generate(this, method, new Object()))
+				.isEqualTo(generator.generate(this, method))
+				.isEqualTo(new TenantScopedKey(42L, TenantScopedKey.ALL));
+	}
+
+	@Test
+	void givenTenantContext_whenGenerate_thenKeyedByItsTenantWithoutSecurityLookup() {
+		Object[] keys = new Object[2];
+
+		TenantContext.ofTenant(9L).run(() -> {
+			keys[0] = new TenantKeyGenerator(securityUtils).generate(this, method, 7L);
+			keys[1] = new TenantListKeyGenerator(securityUtils).generate(this, method);
+		});
+
+		assertThat(keys).containsExactly(new TenantScopedKey(9L, 7L), new TenantScopedKey(9L, TenantScopedKey.ALL));
+		verifyNoInteractions(securityUtils);
+	}
+}
@@ -0,0 +1,321 @@
+package com.example.maven.cache;
+
+import com.example.maven.api.dto.response.TaskPageResponseDto;
+import com.example.maven.api.dto.response.TaskResponseDto;
+import com.example.maven.enums.TaskStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTest {
+
+	@Mock private StringRedisTemplate redisTemplate;
+	@Mock private RedisMessageListenerContainer listenerContainer;
+	@Mock private RedisKeyLock redisKeyLock;
+	@Mock private CacheRefresher refresher;
+
+	private ConcurrentMapCacheManager remoteCacheManager;
+	private SimpleMeterRegistry meterRegistry;
+	private TwoTierCacheProperties properties;
+	private TwoTierCacheManager cacheManager;
+
+	@BeforeEach
+	void setUp() {
+		remoteCacheManager = new ConcurrentMapCacheManager();
+		meterRegistry = new SimpleMeterRegistry();
+		properties = new TwoTierCacheProperties();
+		cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, listenerContainer,
+				redisKeyLock, refresher, properties, meterRegistry);
+	}
+
+	@Test
+	void givenNewManager_whenInitialized_thenSubscribedToInvalidationsOnlyThen() {
+		verifyNoInteractions(listenerContainer);
+
+		cacheManager.afterPropertiesSet();
+
+		verify(listenerContainer).addMessageListener(cacheManager, TwoTierCacheManager.CHANNEL);
+	}
+
+	@Test
+	void givenValueLoadedFromRedis_whenGetAgain_thenServedLocally() {
+		remoteCacheManager.getCache("tasks").put(TenantScopedKey.of(1L, 5L), "task-5");
+		Cache cache = cacheManager.getCache("tasks");
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L)).get()).isEqualTo("task-5");
+		remoteCacheManager.getCache("tasks").evict(TenantScopedKey.of(1L, 5L));
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L)).get()).isEqualTo("task-5");
+		assertThat(count("local", "hit")).isEqualTo(1);
+		assertThat(count("redis", "hit")).isEqualTo(1);
+	}
+
+	@Test
+	void givenMissingValue_whenGet_thenMissCountedOnBothTiers() {
+		assertThat(cacheManager.getCache("tasks").get(TenantScopedKey.of(1L, 5L))).isNull();
+
+		assertThat(count("local", "miss")).isEqualTo(1);
+		assertThat(count("redis", "miss")).isEqualTo(1);
+	}
+
+	@Test
+	void givenEvict_whenCalled_thenBothTiersDroppedAndPeersNotified() {
+		Cache cache = cacheManager.getCache("tasks");
+		cache.put(TenantScopedKey.of(1L, 5L), "task-5");
+
+		cache.evict(TenantScopedKey.of(1L, 5L));
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L))).isNull();
+		verify(redisTemplate, times(2)).convertAndSend(eq(TwoTierCacheManager.CHANNEL.getTopic()), endsWith(" tasks 1:5"));
+	}
+
+	@Test
+	void givenInvalidationFromPeer_whenReceived_thenLocalCopyDropped() {
+		Cache cache = cacheManager.getCache("tasks");
+		cache.put(TenantScopedKey.of(1L, 5L), "task-5");
+		remoteCacheManager.getCache("tasks").put(TenantScopedKey.of(1L, 5L), "task-5-updated");
+
+		cacheManager.onMessage(message("other-node tasks 1:5"), null);
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L)).get()).isEqualTo("task-5-updated");
+	}
+
+	@Test
+	void givenClearFromPeer_whenReceived_thenRegionDroppedLocally() {
+		Cache cache = cacheManager.getCache("tasks");
+		cache.put(TenantScopedKey.of(1L, 5L), "task-5");
+		remoteCacheManager.getCache("tasks").clear();
+
+		cacheManager.onMessage(message("other-node tasks *"), null);
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L))).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void givenEntriesOfSeveralTenants_whenEvictTenant_thenOnlyThatTenantDroppedAndPeersNotified() {
+		Cursor<String> redisKeys = mock(Cursor.class);
+		when(redisKeys.hasNext()).thenReturn(true, false);
+		when(redisKeys.next()).thenReturn("tasks::1:5");
+		when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(redisKeys);
+		Cache tasks = cacheManager.getCache("tasks");
+		Cache users = cacheManager.getCache("users");
+		tasks.put(TenantScopedKey.of(1L, 5L), "task-5");
+		tasks.put(TenantScopedKey.of(11L, 5L), "other-tenant-task");
+		users.put(TenantScopedKey.of(1L, 2L), "user-2");
+		remoteCacheManager.getCache("tasks").clear();
+		remoteCacheManager.getCache("users").clear();
+
+		cacheManager.evictTenant(1L);
+
+		assertThat(tasks.get(TenantScopedKey.of(1L, 5L))).isNull();
+		assertThat(users.get(TenantScopedKey.of(1L, 2L))).isNull();
+		assertThat(tasks.get(TenantScopedKey.of(11L, 5L)).get()).isEqualTo("other-tenant-task");
+		verify(redisTemplate).delete(List.of("tasks::1:5"));
+		verify(redisTemplate).convertAndSend(eq(TwoTierCacheManager.CHANNEL.getTopic()), endsWith(" * 1:*"));
+	}
+
+	@Test
+	void givenTenantEvictionFromPeer_whenReceived_thenTenantDroppedFromEveryRegion() {
+		Cache tasks = cacheManager.getCache("tasks");
+		Cache projects = cacheManager.getCache("projects");
+		tasks.put(TenantScopedKey.of(1L, 5L), "task-5");
+		tasks.put(TenantScopedKey.of(11L, 5L), "other-tenant-task");
+		projects.put(TenantScopedKey.of(1L, 3L), "project-3");
+		remoteCacheManager.getCache("tasks").clear();
+		remoteCacheManager.getCache("projects").clear();
+
+		cacheManager.onMessage(message("other-node * 1:*"), null);
+
+		assertThat(tasks.get(TenantScopedKey.of(1L, 5L))).isNull();
+		assertThat(projects.get(TenantScopedKey.of(1L, 3L))).isNull();
+		assertThat(tasks.get(TenantScopedKey.of(11L, 5L)).get()).isEqualTo("other-tenant-task");
+	}
+
+	@Test
+	void givenConcurrentMisses_whenGetWithLoader_thenLoadedOnce() throws Exception {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+		Cache cache = cacheManager.getCache("projectTasks");
+		var loads = new AtomicInteger();
+		var release = new CountDownLatch(1);
+		Callable<List<String>> loader = () -> {
+			loads.incrementAndGet();
+			release.await();
+			return List.of("task");
+		};
+
+		try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			var results = new ArrayList<Future<List<String>>>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.get(TenantScopedKey.of(1L, 10L), loader)));
+			}
+			Thread.sleep(100);
+			release.countDown();
+			for (var result : results) {
+				assertThat(result.get()).containsExactly("task");
+			}
+		}
+
+		assertThat(loads).hasValue(1);
+		assertThat(remoteCacheManager.getCache("projectTasks").get(TenantScopedKey.of(1L, 10L))).isNotNull();
+		verify(redisKeyLock).unlock("lock:load:projectTasks::1:10", "token");
+	}
+
+	@Test
+	void givenOtherNodeLoading_whenGetWithLoader_thenWaitsForItsResult() {
+		Cache remote = remoteCacheManager.getCache("projectTasks");
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenAnswer(inv -> {
+			remote.put(TenantScopedKey.of(1L, 10L), List.of("from-other-node"));
+			return Optional.empty();
+		});
+
+		List<String> result = cacheManager.getCache("projectTasks")
+				.get(TenantScopedKey.of(1L, 10L), () -> List.of("from-database"));
+
+		assertThat(result).containsExactly("from-other-node");
+	}
+
+	@Test
+	void givenLoaderFails_whenGetWithLoader_thenValueRetrievalExceptionAndNothingCached() {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+		Cache cache = cacheManager.getCache("projectTasks");
+
+		assertThatThrownBy(() -> cache.get(TenantScopedKey.of(1L, 10L), () -> {
+			throw new IllegalStateException("db down");
+		})).isInstanceOf(Cache.ValueRetrievalException.class)
+				.hasRootCauseMessage("db down");
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L))).isNull();
+	}
+
+	@Test
+	void givenEntryNearExpiry_whenHit_thenRefreshedAheadInBackground() {
+		properties.setRedisTtl(Duration.ofMillis(1));
+		properties.setRefreshAheadBeta(1_000_000);
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+		doAnswer(inv -> {
+			inv.<Runnable>getArgument(0).run();
+			inv.<Runnable>getArgument(1).run();
+			return null;
+		}).when(refresher).submit(any(), any());
+		Cache cache = cacheManager.getCache("projectTasks");
+		var version = new AtomicInteger();
+		Callable<Integer> loader = () -> {
+			Thread.sleep(1);
+			return version.incrementAndGet();
+		};
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L), loader)).isEqualTo(1);
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L), loader)).isEqualTo(1);
+
+		assertThat(cache.get(TenantScopedKey.of(1L, 10L), loader)).isEqualTo(2);
+		verify(refresher, atLeastOnce()).submit(any(), any());
+	}
+
+	@Test
+	void givenRefreshAheadDisabled_whenLocalMissServedFromRedis_thenRemainingTtlNotRead() {
+		var region = new TwoTierCacheProperties.Region();
+		region.setRefreshAheadBeta(0.0);
+		properties.getRegions().put("tasks", region);
+		remoteCacheManager.getCache("tasks").put(TenantScopedKey.of(1L, 5L), List.of("task"));
+
+		List<String> result = cacheManager.getCache("tasks").get(TenantScopedKey.of(1L, 5L), () -> List.of("from-database"));
+
+		assertThat(result).containsExactly("task");
+		verifyNoInteractions(redisTemplate, redisKeyLock);
+	}
+
+	@Test
+	void givenRefreshAheadEnabled_whenLocalMissServedFromRedis_thenRemainingTtlRead() {
+		remoteCacheManager.getCache("tasks").put(TenantScopedKey.of(1L, 5L), List.of("task"));
+
+		cacheManager.getCache("tasks").get(TenantScopedKey.of(1L, 5L), () -> List.of("from-database"));
+
+		verify(redisTemplate).getExpire("tasks::1:5", TimeUnit.MILLISECONDS);
+	}
+
+	@Test
+	void givenRegionOverride_whenCacheCreated_thenRegionPolicyApplied() {
+		var region = new TwoTierCacheProperties.Region();
+		region.setRedisTtl(Duration.ofMinutes(1));
+		region.setLocalMaximumWeight(500L);
+		properties.getRegions().put("tasks", region);
+
+		cacheManager.getCache("tasks").get(TenantScopedKey.of(1L, 5L));
+		cacheManager.getCache("projects");
+
+		assertThat(cacheManager.stats()).extracting(CacheRegionStats::name).containsExactly("projects", "tasks");
+		CacheRegionStats tasks = cacheManager.stats().get(1);
+		assertThat(tasks.redisTtl()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(tasks.localMaximumWeight()).isEqualTo(500L);
+		assertThat(tasks.localTtl()).isEqualTo(properties.getLocalTtl());
+		assertThat(tasks.localMisses()).isEqualTo(1);
+		assertThat(tasks.redisMisses()).isEqualTo(1);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void givenTaskPage_whenCachedLocally_thenWeighedByItsItems() {
+		var task = new TaskResponseDto(1L, "task", null, 0L, TaskStatus.TODO, LocalDateTime.now(), null);
+		Cache cache = cacheManager.getCache("projectTasks");
+
+		cache.put(TenantScopedKey.of(1L, 5L), new TaskPageResponseDto(List.of(task, task, task), null));
+
+		var local = (com.github.benmanes.caffeine.cache.Cache<String, ?>) cache.getNativeCache();
+		local.cleanUp();
+		assertThat(local.policy().eviction().orElseThrow().weightedSize()).hasValue(3L);
+	}
+
+	@Test
+	void givenNullCachingDisabled_whenLoaderReturnsNull_thenNothingStored() {
+		var region = new TwoTierCacheProperties.Region();
+		region.setCacheNulls(false);
+		properties.getRegions().put("tasks", region);
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+		Cache cache = cacheManager.getCache("tasks");
+
+		Object loaded = cache.get(TenantScopedKey.of(1L, 5L), () -> null);
+
+		assertThat(loaded).isNull();
+		assertThat(remoteCacheManager.getCache("tasks").get(TenantScopedKey.of(1L, 5L))).isNull();
+		assertThat(cache.get(TenantScopedKey.of(1L, 5L))).isNull();
+	}
+
+	private double count(String tier, String result) {
+		return meterRegistry.get("cache.tier.gets")
+				.tags("cache", "tasks", "tier", tier, "result", result)
+				.counter().count();
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage(TwoTierCacheManager.CHANNEL.getTopic().getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,214 @@
+package com.example.maven.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TwoTierCacheTransactionTest {
+
+	private static final TenantScopedKey KEY = TenantScopedKey.of(1L, 5L);
+
+	@Mock private StringRedisTemplate redisTemplate;
+	@Mock private RedisMessageListenerContainer listenerContainer;
+	@Mock private RedisKeyLock redisKeyLock;
+	@Mock private CacheRefresher refresher;
+
+	private ConcurrentMapCacheManager remoteCacheManager;
+	private TwoTierCacheManager cacheManager;
+	private Cache cache;
+
+	@BeforeEach
+	void setUp() {
+		var properties = new TwoTierCacheProperties();
+		properties.setReEvictDelay(Duration.ofMillis(100));
+		remoteCacheManager = new ConcurrentMapCacheManager();
+		cacheManager = new TwoTierCacheManager(remoteCacheManager, redisTemplate, listenerContainer,
+				redisKeyLock, refresher, properties, new SimpleMeterRegistry());
+		cache = cacheManager.getCache("tasks");
+	}
+
+	@AfterEach
+	void tearDown() {
+		cacheManager.destroy();
+	}
+
+	@Test
+	void givenRollback_whenEvictAndPutInTransaction_thenCacheUnchanged() {
+		cache.put(KEY, "v1");
+
+		inTransaction(false, () -> {
+			cache.evict(KEY);
+			cache.put(TenantScopedKey.of(1L, 6L), "uncommitted");
+		});
+
+		assertThat(cache.get(KEY).get()).isEqualTo("v1");
+		assertThat(cache.get(TenantScopedKey.of(1L, 6L))).isNull();
+	}
+
+	@Test
+	void givenRollback_whenLoadedInTransaction_thenLoadedValueNotStored() {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+
+		inTransaction(false, () -> assertThat(cache.get(KEY, () -> "uncommitted")).isEqualTo("uncommitted"));
+
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	@Test
+	void givenLoadInTransaction_whenCommitted_thenLoadLockReleasedOnlyOnceValueIsInRedis() {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+		var storedAtUnlock = new AtomicReference<Cache.ValueWrapper>();
+		doAnswer(inv -> {
+			storedAtUnlock.set(remoteCacheManager.getCache("tasks").get(KEY));
+			return null;
+		}).when(redisKeyLock).unlock("lock:load:tasks::1:5", "token");
+
+		inTransaction(true, () -> {
+			assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("loaded");
+			verify(redisKeyLock, never()).unlock(anyString(), anyString());
+		});
+
+		verify(redisKeyLock).unlock("lock:load:tasks::1:5", "token");
+		assertThat(storedAtUnlock.get()).isNotNull();
+		assertThat(storedAtUnlock.get().get()).isEqualTo("loaded");
+	}
+
+	@Test
+	void givenLoadInTransaction_whenRolledBack_thenLoadLockReleased() {
+		when(redisKeyLock.tryLock(anyString(), any(Duration.class), any(Duration.class))).thenReturn(Optional.of("token"));
+
+		inTransaction(false, () -> cache.get(KEY, () -> "uncommitted"));
+
+		verify(redisKeyLock).unlock("lock:load:tasks::1:5", "token");
+		assertThat(remoteCacheManager.getCache("tasks").get(KEY)).isNull();
+	}
+
+	@Test
+	void givenCommit_whenEvictInTransaction_thenOldValueServedUntilCommit() {
+		cache.put(KEY, "v1");
+
+		inTransaction(true, () -> {
+			cache.evict(KEY);
+			assertThat(cache.get(KEY).get()).isEqualTo("v1");
+		});
+
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	@Test
+	void givenPutIfAbsentInTransaction_whenCommitted_thenStoredOnlyAfterCommit() {
+		inTransaction(true, () -> {
+			assertThat(cache.putIfAbsent(KEY, "v1")).isNull();
+			assertThat(cache.get(KEY)).isNull();
+		});
+
+		assertThat(cache.get(KEY).get()).isEqualTo("v1");
+	}
+
+	@Test
+	void givenPutIfAbsentInTransaction_whenRolledBack_thenNothingStored() {
+		inTransaction(false, () -> cache.putIfAbsent(KEY, "uncommitted"));
+
+		assertThat(cache.get(KEY)).isNull();
+		assertThat(remoteCacheManager.getCache("tasks").get(KEY)).isNull();
+	}
+
+	@Test
+	void givenExistingValue_whenPutIfAbsentInTransaction_thenExistingReturnedAndKept() {
+		cache.put(KEY, "v1");
+
+		inTransaction(true, () -> assertThat(cache.putIfAbsent(KEY, "v2").get()).isEqualTo("v1"));
+
+		assertThat(cache.get(KEY).get()).isEqualTo("v1");
+	}
+
+	@Test
+	void givenAfterCommitAction_whenItWritesThroughCache_thenWriteApplied() {
+		inTransaction(true, () -> AfterCommit.run(() -> cache.put(KEY, "patched")));
+
+		assertThat(cache.get(KEY).get()).isEqualTo("patched");
+	}
+
+	@Test
+	void givenReaderRacingCommit_whenStaleValueStoredAfterEviction_thenRepeatedEvictionRemovesIt() throws Exception {
+		var database = new AtomicReference<>("v1");
+		cache.put(KEY, "v1");
+		var readerLoaded = new CountDownLatch(1);
+		var committed = new CountDownLatch(1);
+
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			// Reads the row before the writer commits and stores it after the writer's eviction
+			Future<?> reader = executor.submit(() -> {
+				String loaded = database.get();
+				readerLoaded.countDown();
+				await(committed);
+				cache.put(KEY, loaded);
+			});
+			await(readerLoaded);
+
+			inTransaction(true, () -> {
+				database.set("v2");
+				cache.evict(KEY);
+			});
+			committed.countDown();
+			reader.get(1, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+		while (cache.get(KEY) != null && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+		assertThat(cache.get(KEY)).isNull();
+	}
+
+	// Drives the synchronizations the way a transaction manager does on commit or rollback
+	private static void inTransaction(boolean commit, Runnable work) {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			work.run();
+			var synchronizations = TransactionSynchronizationManager.getSynchronizations();
+			if (commit) {
+				synchronizations.forEach(TransactionSynchronization::afterCommit);
+			}
+			int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+			synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
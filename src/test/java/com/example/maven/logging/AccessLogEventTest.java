@@ -0,0 +1,28 @@
+package com.example.maven.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccessLogEventTest {
+
+	@Test
+	void givenEvent_whenToJson_thenStructuredFieldsAndEscapedPath() {
+		AccessLogEvent event = new AccessLogEvent(Instant.parse("2025-01-01T10:00:00Z"),
+				"GET", "/api/tasks/\"1\"", 7L, 3L, 200, 1500, null);
+
+		assertThat(event.toJson()).isEqualTo(
+				"{\"ts\":\"2025-01-01T10:00:00Z\",\"method\":\"GET\",\"path\":\"/api/tasks/\\\"1\\\"\","
+						+ "\"tenant\":7,\"user\":3,\"status\":200,\"latencyUs\":1500,\"authFailure\":null}");
+	}
+
+	@Test
+	void givenAuthFailure_whenIsFailure_thenTrueEvenWithOkStatus() {
+		AccessLogEvent event = new AccessLogEvent(Instant.now(), "GET", "/api/tasks", null, null,
+				200, 10, "TokenExpiredException");
+
+		assertThat(event.isFailure()).isTrue();
+	}
+}
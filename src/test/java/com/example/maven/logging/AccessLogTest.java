@@ -0,0 +1,25 @@
+package com.example.maven.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AccessLogTest {
+
+	@Test
+	void givenNonAsciiLine_whenUtf8Length_thenMatchesEncodedBytes() {
+		String line = "{\"path\":\"/api/projects/Übersicht/задачи/🚀\"}";
+
+		assertThat(AccessLog.utf8Length(line)).isEqualTo(line.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(AccessLog.utf8Length(line)).isGreaterThan(line.length());
+	}
+
+	@Test
+	void givenAsciiLine_whenUtf8Length_thenOneBytePerChar() {
+		String line = "{\"method\":\"GET\",\"path\":\"/api/tasks\"}";
+
+		assertThat(AccessLog.utf8Length(line)).isEqualTo(line.length());
+	}
+}
@@ -0,0 +1,68 @@
+package com.example.maven.logging;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+	@Test
+	void givenRequestedCapacity_whenCreated_thenRoundedUpToPowerOfTwo() {
+		assertThat(new MpscRingBuffer<>(1000).capacity()).isEqualTo(1024);
+		assertThat(new MpscRingBuffer<>(8192).capacity()).isEqualTo(8192);
+	}
+
+	@Test
+	void givenFullBuffer_whenOffer_thenRejectedUntilConsumed() {
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+		for (int i = 0; i < 4; i++) {
+			assertThat(buffer.offer(i)).isTrue();
+		}
+
+		assertThat(buffer.offer(4)).isFalse();
+		assertThat(buffer.poll()).isEqualTo(0);
+		assertThat(buffer.offer(4)).isTrue();
+		assertThat(buffer.poll()).isEqualTo(1);
+		assertThat(buffer.size()).isEqualTo(3);
+	}
+
+	@Test
+	void givenConcurrentProducers_whenDrained_thenEveryAcceptedElementSeenExactlyOnce() throws Exception {
+		int producers = 4;
+		int perProducer = 50_000;
+		MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(1024);
+		AtomicInteger accepted = new AtomicInteger();
+		CountDownLatch done = new CountDownLatch(producers);
+
+		ExecutorService executor = Executors.newFixedThreadPool(producers);
+		for (int p = 0; p < producers; p++) {
+			int base = p * perProducer;
+			executor.submit(() -> {
+				for (int i = 0; i < perProducer; i++) {
+					if (buffer.offer(base + i)) accepted.incrementAndGet();
+				}
+				done.countDown();
+			});
+		}
+
+		Set<Integer> seen = new HashSet<>();
+		while (done.getCount() > 0 || buffer.size() > 0) {
+			Integer element = buffer.poll();
+			if (element != null) {
+				assertThat(seen.add(element)).isTrue();
+			}
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+
+		assertThat(seen).hasSize(accepted.get());
+	}
+}
@@ -0,0 +1,28 @@
+package com.example.maven.persistence.converter;
+
+import com.example.maven.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class RoleMaskConverterTest {
+	private final RoleMaskConverter converter = new RoleMaskConverter();
+
+	@Test
+	void givenRoles_whenConvertedAndReadBack_thenSameRoles() {
+		Set<Role> roles = Set.of(Role.ROLE_ADMIN, Role.ROLE_OWNER);
+
+		Integer mask = converter.convertToDatabaseColumn(roles);
+
+		assertThat(mask).isEqualTo(Role.ROLE_ADMIN.mask() | Role.ROLE_OWNER.mask());
+		assertThat(converter.convertToEntityAttribute(mask)).isEqualTo(roles);
+	}
+
+	@Test
+	void givenNoRoles_whenConverted_thenZeroMaskAndEmptySet() {
+		assertThat(converter.convertToDatabaseColumn(null)).isZero();
+		assertThat(converter.convertToEntityAttribute(null)).isEmpty();
+	}
+}
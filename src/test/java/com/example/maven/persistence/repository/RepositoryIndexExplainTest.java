@@ -0,0 +1,346 @@
+package com.example.maven.persistence.repository;
+
+import com.example.maven.enums.TaskStatus;
+import com.example.maven.enums.TenantPurgeStatus;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import static com.example.maven.persistence.repository.TaskSpecifications.*;
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Calls every tenant-scoped repository method against a schema migrated from db/migration,
+ * records the SQL Hibernate sends for it and checks the plan of each statement: no sequential
+ * scan anywhere, and the index the query was designed for is the one used.
+ * Needs Postgres 16 or later for EXPLAIN (GENERIC_PLAN), which plans the statements with their
+ * parameters unbound. Set EXPLAIN_DATABASE_URL (and EXPLAIN_DATABASE_USERNAME/PASSWORD) to run it.
+ * The schema is created for the run and dropped afterwards.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfEnvironmentVariable(named = "EXPLAIN_DATABASE_URL", matches = ".+")
+class RepositoryIndexExplainTest {
+	private static final String SCHEMA = "explain_" + Long.toHexString(System.nanoTime());
+	private static final Pattern PARAMETER = Pattern.compile("\\?");
+	private static final List<String> RECORDED = new ArrayList<>();
+	private static Connection explainConnection;
+
+	@Autowired private TaskRepository taskRepository;
+	@Autowired private CommentRepository commentRepository;
+	@Autowired private ProjectRepository projectRepository;
+	@Autowired private UserRepository userRepository;
+	@Autowired private RefreshTokenRepository refreshTokenRepository;
+	@Autowired private InvitationRepository invitationRepository;
+	@Autowired private TenantPurgeRepository tenantPurgeRepository;
+
+	@DynamicPropertySource
+	static void database(DynamicPropertyRegistry registry) {
+		String url = System.getenv("EXPLAIN_DATABASE_URL");
+		registry.add("spring.datasource.url", () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+		registry.add("spring.datasource.username", RepositoryIndexExplainTest::username);
+		registry.add("spring.datasource.password", RepositoryIndexExplainTest::password);
+		registry.add("spring.flyway.schemas", () -> SCHEMA);
+		registry.add("spring.flyway.create-schemas", () -> "true");
+	}
+
+	@TestConfiguration
+	static class RecordingConfig {
+		@Bean
+		HibernatePropertiesCustomizer recordStatements() {
+			return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+				synchronized (RECORDED) {
+					RECORDED.add(sql);
+				}
+				return sql;
+			});
+		}
+	}
+
+	@AfterAll
+	static void dropSchema() throws SQLException {
+		if (explainConnection == null) return;
+		try (Statement statement = explainConnection.createStatement()) {
+			statement.execute("drop schema " + SCHEMA + " cascade");
+		} finally {
+			explainConnection.close();
+		}
+	}
+
+	static Stream<Arguments> repositoryCalls() {
+		var selection = new TaskBulkSelection(1L, null, 2L, null, null);
+		var changes = new TaskBulkChanges(TaskStatus.DONE, false, null, null);
+		return Stream.of(
+				call("TaskRepository.findResponseByIdAndCompanyId",
+						test -> test.taskRepository.findResponseByIdAndCompanyId(1L, 1L), "tasks_pkey"),
+				call("TaskRepository.findByIdAndCompany_Id",
+						test -> test.taskRepository.findByIdAndCompany_Id(1L, 1L), "tasks_pkey"),
+				call("TaskRepository.findAllByIdInAndCompany_Id",
+						test -> test.taskRepository.findAllByIdInAndCompany_Id(List.of(1L, 2L), 1L), "tasks_pkey"),
+				call("TaskRepository.findResponses (project, newest)",
+						test -> test.taskRepository.findResponses(ofCompany(1L).and(inProject(2L)),
+								Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), 51),
+						"tasks_company_project_created_idx"),
+				call("TaskRepository.findResponses (project, oldest, after cursor)",
+						test -> test.taskRepository.findResponses(ofCompany(1L).and(inProject(2L))
+										.and(createdAfter(LocalDateTime.of(2025, 1, 1, 0, 0), 10L, true)),
+								Sort.by("createdAt", "id"), 51),
+						"tasks_company_project_created_idx"),
+				call("TaskRepository.findResponses (tenant, newest)",
+						test -> test.taskRepository.findResponses(ofCompany(1L),
+								Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), 51),
+						"tasks_company_created_idx"),
+				call("TaskRepository.findResponses (tenant, by name, after cursor)",
+						test -> test.taskRepository.findResponses(ofCompany(1L).and(namedAfter("b", 10L)),
+								Sort.by("name", "id"), 51),
+						"tasks_company_name_idx"),
+				call("TaskRepository.findResponses (assignee)",
+						test -> test.taskRepository.findResponses(ofCompany(1L).and(assignedTo(3L)),
+								Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), 51),
+						"tasks_company_assignee_created_idx"),
+				call("TaskRepository.findResponses (unassigned)",
+						test -> test.taskRepository.findResponses(ofCompany(1L).and(unassigned()),
+								Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")), 51),
+						"tasks_company_unassigned_created_idx"),
+				call("TaskRepository.findMostRecentlyActiveProjectIds",
+						test -> test.taskRepository.findMostRecentlyActiveProjectIds(1L, PageRequest.of(0, 5)),
+						"tasks_company_project_created_idx"),
+				call("TaskRepository.findIdsByCompanyId",
+						test -> test.taskRepository.findIdsByCompanyId(1L), "tasks_company_"),
+				call("TaskRepository.findIdsByCompanyId (chunk)",
+						test -> test.taskRepository.findIdsByCompanyId(1L, PageRequest.of(0, 1000)), "tasks_company_"),
+				call("TaskRepository.countByCompany_Id",
+						test -> test.taskRepository.countByCompany_Id(1L), "tasks_company_"),
+				call("TaskRepository.updateAll (project filter)",
+						test -> test.taskRepository.updateAll(selection, changes),
+						"tasks_company_project_created_idx", "tasks_pkey"),
+				call("TaskRepository.updateAll (ids)",
+						test -> test.taskRepository.updateAll(new TaskBulkSelection(1L, List.of(1L, 2L), null, null, null), changes),
+						"tasks_pkey"),
+				call("TaskRepository.updateAll (unassigned)",
+						test -> test.taskRepository.updateAll(new TaskBulkSelection(1L, null, null, null, 0L), changes),
+						"tasks_company_unassigned_created_idx", "tasks_pkey"),
+
+				call("CommentRepository.findByIdAndCompany_Id",
+						test -> test.commentRepository.findByIdAndCompany_Id(1L, 1L), "comments_pkey"),
+				call("CommentRepository.findResponseByIdAndCompanyId",
+						test -> test.commentRepository.findResponseByIdAndCompanyId(1L, 1L), "comments_pkey"),
+				call("CommentRepository.findResponsesByTaskIdAndCompanyId",
+						test -> test.commentRepository.findResponsesByTaskIdAndCompanyId(2L, 1L), "comments_company_task_idx"),
+				call("CommentRepository.findIdsByCompanyId (chunk)",
+						test -> test.commentRepository.findIdsByCompanyId(1L, PageRequest.of(0, 1000)), "comments_company_task_idx"),
+				call("CommentRepository.countByCompany_Id",
+						test -> test.commentRepository.countByCompany_Id(1L), "comments_company_task_idx"),
+
+				call("ProjectRepository.findByIdAndCompany_Id",
+						test -> test.projectRepository.findByIdAndCompany_Id(1L, 1L), "projects_company_idx"),
+				call("ProjectRepository.findAllByIdInAndCompany_Id",
+						test -> test.projectRepository.findAllByIdInAndCompany_Id(List.of(1L, 2L), 1L), "projects_company_idx"),
+				call("ProjectRepository.findResponseByIdAndCompanyId",
+						test -> test.projectRepository.findResponseByIdAndCompanyId(1L, 1L), "projects_company_idx"),
+				call("ProjectRepository.findResponsesByCompanyId",
+						test -> test.projectRepository.findResponsesByCompanyId(1L), "projects_company_idx"),
+				call("ProjectRepository.findIdsByCompanyId (chunk)",
+						test -> test.projectRepository.findIdsByCompanyId(1L, PageRequest.of(0, 1000)), "projects_company_idx"),
+				call("ProjectRepository.countByCompany_Id",
+						test -> test.projectRepository.countByCompany_Id(1L), "projects_company_idx"),
+
+				call("UserRepository.findByIdAndCompany_Id",
+						test -> test.userRepository.findByIdAndCompany_Id(1L, 1L), "users_company_idx"),
+				call("UserRepository.findAllByIdInAndCompany_Id",
+						test -> test.userRepository.findAllByIdInAndCompany_Id(List.of(1L, 2L), 1L), "users_company_idx"),
+				call("UserRepository.findResponseByIdAndCompanyId",
+						test -> test.userRepository.findResponseByIdAndCompanyId(1L, 1L), "users_company_idx"),
+				call("UserRepository.findResponsesByCompanyId",
+						test -> test.userRepository.findResponsesByCompanyId(1L), "users_company_idx"),
+				call("UserRepository.findByUsername",
+						test -> test.userRepository.findByUsername("john"), "users_username_idx"),
+				call("UserRepository.findIdsByCompanyId",
+						test -> test.userRepository.findIdsByCompanyId(1L), "users_company_idx"),
+				call("UserRepository.countByCompany_Id",
+						test -> test.userRepository.countByCompany_Id(1L), "users_company_idx"),
+
+				call("RefreshTokenRepository.findByTokenHash",
+						test -> test.refreshTokenRepository.findByTokenHash("h"), "refresh_tokens_token_hash_key"),
+				call("RefreshTokenRepository.revokeIfActive",
+						test -> test.refreshTokenRepository.revokeIfActive(1L), "refresh_tokens_pkey"),
+				call("RefreshTokenRepository.revokeFamily",
+						test -> test.refreshTokenRepository.revokeFamily("f"), "refresh_tokens_family_idx"),
+				call("RefreshTokenRepository.revokeAllByCompanyId",
+						test -> test.refreshTokenRepository.revokeAllByCompanyId(1L), "refresh_tokens_company_idx"),
+				call("RefreshTokenRepository.findIdsByCompanyId (chunk)",
+						test -> test.refreshTokenRepository.findIdsByCompanyId(1L, PageRequest.of(0, 1000)), "refresh_tokens_company_idx"),
+
+				call("InvitationRepository.findByToken",
+						test -> test.invitationRepository.findByToken("t"), "invitations_token_key"),
+				call("InvitationRepository.findIdsByCompanyId (chunk)",
+						test -> test.invitationRepository.findIdsByCompanyId(1L, PageRequest.of(0, 1000)), "invitations_company_idx"),
+
+				call("TenantPurgeRepository.findByCompanyId",
+						test -> test.tenantPurgeRepository.findByCompanyId(1L), "tenant_purges_company_id_key"),
+				call("TenantPurgeRepository.existsByCompanyId",
+						test -> test.tenantPurgeRepository.existsByCompanyId(1L), "tenant_purges_company_id_key"),
+				call("TenantPurgeRepository.findByPublicId",
+						test -> test.tenantPurgeRepository.findByPublicId("p"), "tenant_purges_public_id_key"),
+				call("TenantPurgeRepository.findAllByStatusInAndRequestedAtBefore",
+						test -> test.tenantPurgeRepository.findAllByStatusInAndRequestedAtBefore(
+								Set.of(TenantPurgeStatus.QUEUED, TenantPurgeStatus.RUNNING), LocalDateTime.now()),
+						"tenant_purges_status_idx")
+		);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("repositoryCalls")
+	void givenMigratedSchema_whenRepositoryQueryExplained_thenExpectedIndexUsed(String method, RepositoryCall call,
+																				   List<String> expectedIndexes) throws SQLException {
+		Connection connection = explainConnection();
+		List<String> statements = record(call);
+		assertThat(statements).as("%s sent no SQL", method).isNotEmpty();
+
+		List<String> plan = new ArrayList<>();
+		for (String sql : statements) {
+			plan.add(sql);
+			plan.addAll(explain(connection, sql));
+		}
+		String description = String.join(System.lineSeparator(), plan);
+
+		assertThat(plan).as("%s plan:%n%s", method, description).noneMatch(line -> line.contains("Seq Scan"));
+		assertThat(description).as("%s plan:%n%s", method, description).contains(expectedIndexes);
+	}
+
+	private List<String> record(RepositoryCall call) {
+		synchronized (RECORDED) {
+			RECORDED.clear();
+		}
+		call.run(this);
+		synchronized (RECORDED) {
+			return List.copyOf(RECORDED);
+		}
+	}
+
+	private static List<String> explain(Connection connection, String sql) throws SQLException {
+		List<String> plan = new ArrayList<>();
+		try (Statement statement = connection.createStatement();
+			 ResultSet rows = statement.executeQuery("explain (generic_plan) " + numberParameters(sql))) {
+			while (rows.next()) {
+				plan.add(rows.getString(1));
+			}
+		}
+		return plan;
+	}
+
+	// Opened once the context has migrated the schema. The simple query protocol sends the numbered
+	// parameters to the server as they are instead of expecting them bound
+	private static Connection explainConnection() throws SQLException {
+		if (explainConnection == null) {
+			var properties = new Properties();
+			properties.setProperty("user", username());
+			properties.setProperty("password", password());
+			properties.setProperty("preferQueryMode", "simple");
+			Connection connection = DriverManager.getConnection(System.getenv("EXPLAIN_DATABASE_URL"), properties);
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("set search_path to " + SCHEMA);
+				seed(statement);
+				// Plans then only fall back to a sequential scan when no index applies at all
+				statement.execute("set enable_seqscan = off");
+			}
+			explainConnection = connection;
+		}
+		return explainConnection;
+	}
+
+	// Many tenants of the same shape, so the planner weighs the indexes on real statistics
+	// instead of picking any of them for an empty table
+	private static void seed(Statement statement) throws SQLException {
+		statement.execute("insert into companies (id, name, created_at) select c, 'Company ' || c, now() from generate_series(1, 50) c");
+		statement.execute("""
+				insert into users (id, company_id, username, displayed_name, email, password, role_mask)
+				select g, 1 + g % 50, 'user' || g, 'User ' || g, 'user' || g || '@acme.test', 'x', 2
+				from generate_series(1, 1000) g""");
+		statement.execute("""
+				insert into projects (id, company_id, name, description, created_at)
+				select g, 1 + g % 50, 'Project ' || g, 'Work', now() - g * interval '1 day'
+				from generate_series(1, 1000) g""");
+		statement.execute("""
+				insert into tasks (id, company_id, project_id, name, description, assignee_id, status, created_at, due_to)
+				select g, 1 + g % 50, 1 + g % 1000, 'Task ' || left(md5(g::text), 20), 'Details',
+					   case when g % 7 = 0 then null else 1 + g % 1000 end,
+					   (array['TODO', 'IN_PROGRESS', 'DONE'])[1 + g % 3],
+					   now() - g * interval '1 minute', now() + interval '14 days'
+				from generate_series(1, 100000) g""");
+		statement.execute("""
+				insert into comments (id, company_id, task_id, author_id, contents)
+				select g, 1 + g % 50, 1 + g % 100000, 1 + g % 1000, 'Looks good'
+				from generate_series(1, 100000) g""");
+		statement.execute("""
+				insert into refresh_tokens (id, company_id, user_id, token_hash, family_id, expires_at, revoked, created_at)
+				select g, 1 + g % 50, 1 + g % 1000, md5(g::text), md5((g / 4)::text), now(), g % 4 <> 0, now()
+				from generate_series(1, 20000) g""");
+		statement.execute("""
+				insert into invitations (id, company_id, email, token, expires_at, accepted, created_at)
+				select g, 1 + g % 50, 'invitee' || g || '@acme.test', md5(g::text), now(), true, now()
+				from generate_series(1, 5000) g""");
+		statement.execute("""
+				insert into tenant_purges (id, company_id, public_id, status, step, requested_at, updated_at)
+				select g, 1000 + g, gen_random_uuid()::text, case when g % 100 = 0 then 'RUNNING' else 'COMPLETED' end,
+					   'CACHES', now(), now()
+				from generate_series(1, 5000) g""");
+		statement.execute("vacuum analyze");
+	}
+
+	// Hibernate sends JDBC placeholders; EXPLAIN (GENERIC_PLAN) takes numbered ones
+	private static String numberParameters(String sql) {
+		Matcher matcher = PARAMETER.matcher(sql);
+		StringBuilder numbered = new StringBuilder();
+		int index = 0;
+		while (matcher.find()) {
+			matcher.appendReplacement(numbered, "\\$" + ++index);
+		}
+		return matcher.appendTail(numbered).toString();
+	}
+
+	private static Arguments call(String method, RepositoryCall call, String... expectedIndexes) {
+		return Arguments.of(method, call, List.of(expectedIndexes));
+	}
+
+	private static String username() {
+		return System.getenv().getOrDefault("EXPLAIN_DATABASE_USERNAME", "postgres");
+	}
+
+	private static String password() {
+		return System.getenv().getOrDefault("EXPLAIN_DATABASE_PASSWORD", "");
+	}
+
+	@FunctionalInterface
+	interface RepositoryCall {
+		void run(RepositoryIndexExplainTest test);
+	}
+}
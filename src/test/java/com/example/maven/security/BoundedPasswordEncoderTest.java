@@ -0,0 +1,81 @@
+package com.example.maven.security;
+
+import com.example.maven.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class BoundedPasswordEncoderTest {
+
+	private final CountDownLatch started = new CountDownLatch(1);
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private SimpleMeterRegistry meterRegistry;
+	private BoundedPasswordEncoder encoder;
+
+	@BeforeEach
+	void setUp() {
+		PasswordEncoder delegate = mock(PasswordEncoder.class);
+		when(delegate.encode(anyString())).thenAnswer(inv -> {
+			started.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "hash:" + inv.getArgument(0);
+		});
+
+		PasswordHashingProperties properties = new PasswordHashingProperties();
+		properties.setThreads(1);
+		properties.setQueueCapacity(1);
+
+		meterRegistry = new SimpleMeterRegistry();
+		encoder = new BoundedPasswordEncoder(delegate, properties, meterRegistry);
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+		encoder.destroy();
+	}
+
+	@Test
+	void givenFreeWorker_whenEncode_thenDelegateResultReturnedAndTimed() {
+		release.countDown();
+
+		assertThat(encoder.encode("secret")).isEqualTo("hash:secret");
+		assertThat(meterRegistry.get("security.password.hash").tag("operation", "encode").timer().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	void givenBusyWorkerAndFullQueue_whenEncode_thenShedImmediately() throws Exception {
+		CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+		assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+		await(() -> meterRegistry.get("security.password.hash.queue.depth").gauge().value() == 1);
+
+		assertThatThrownBy(() -> encoder.encode("third"))
+				.isInstanceOf(TooManyRequestsException.class);
+		assertThat(meterRegistry.get("security.password.hash.rejected").counter().count()).isEqualTo(1);
+
+		release.countDown();
+		assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:first");
+		assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:second");
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (!condition.getAsBoolean()) {
+			if (System.nanoTime() > deadline) fail("Condition not met in time");
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package com.example.maven.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class ClientIpResolverTest {
+
+	private ClientIpResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		LoginThrottleProperties properties = new LoginThrottleProperties();
+		properties.setTrustedProxies(List.of("10.0.0.0/8"));
+		resolver = new ClientIpResolver(properties);
+	}
+
+	@Test
+	void givenDirectClient_whenResolve_thenForwardedHeaderIgnored() {
+		MockHttpServletRequest request = request("203.0.113.7");
+		request.addHeader("X-Forwarded-For", "198.51.100.1");
+
+		assertThat(resolver.resolve(request)).isEqualTo("203.0.113.7");
+	}
+
+	@Test
+	void givenTrustedProxy_whenResolve_thenClientFromForwardedHeader() {
+		MockHttpServletRequest request = request("10.0.0.5");
+		request.addHeader("X-Forwarded-For", "198.51.100.1, 10.0.0.9");
+
+		assertThat(resolver.resolve(request)).isEqualTo("198.51.100.1");
+	}
+
+	@Test
+	void givenSpoofedEntries_whenResolve_thenFirstUntrustedHopFromTheRightWins() {
+		MockHttpServletRequest request = request("10.0.0.5");
+		request.addHeader("X-Forwarded-For", "1.2.3.4, not-an-ip, 198.51.100.1");
+
+		assertThat(resolver.resolve(request)).isEqualTo("198.51.100.1");
+	}
+
+	@Test
+	void givenTrustedProxyWithoutHeader_whenResolve_thenProxyAddressUsed() {
+		assertThat(resolver.resolve(request("10.0.0.5"))).isEqualTo("10.0.0.5");
+	}
+
+	private static MockHttpServletRequest request(String remoteAddr) {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setRemoteAddr(remoteAddr);
+		return request;
+	}
+}
@@ -0,0 +1,74 @@
+package com.example.maven.security;
+
+import com.example.maven.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtAuthenticationCacheTest {
+
+	private static final Instant NOW = Instant.parse("2025-01-01T10:00:00Z");
+
+	private JwtProperties properties;
+	private JwtAuthenticationCache cache;
+
+	@BeforeEach
+	void setUp() {
+		properties = new JwtProperties();
+		properties.setAuthenticationCacheSize(10);
+		cache = new JwtAuthenticationCache(properties);
+		cache.setClock(Clock.fixed(NOW, ZoneOffset.UTC));
+	}
+
+	@Test
+	void givenCachedToken_whenGet_thenSamePrincipalReturned() {
+		UserPrincipal principal = principal(1L);
+		cache.put("token-1", principal, NOW.plus(Duration.ofMinutes(5)));
+
+		assertThat(cache.get("token-1")).containsSame(principal);
+		assertThat(cache.get("token-2")).isEmpty();
+	}
+
+	@Test
+	void givenExpiredToken_whenGet_thenMissAndEntryDropped() {
+		cache.put("token-1", principal(1L), NOW.plus(Duration.ofMinutes(5)));
+		cache.setClock(Clock.fixed(NOW.plus(Duration.ofMinutes(5)), ZoneOffset.UTC));
+
+		assertThat(cache.get("token-1")).isEmpty();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void givenTokenWithoutExpiry_whenPut_thenNotCached() {
+		cache.put("token-1", principal(1L), null);
+		cache.put("token-2", principal(2L), NOW.minusSeconds(1));
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void givenFullCache_whenPut_thenSizeStaysBounded() {
+		for (int i = 0; i < 100; i++) {
+			cache.put("token-" + i, principal(i), NOW.plus(Duration.ofMinutes(5)));
+		}
+
+		assertThat(cache.size()).isLessThanOrEqualTo(properties.getAuthenticationCacheSize());
+		assertThat(cache.get("token-99")).isPresent();
+	}
+
+	private static UserPrincipal principal(long userId) {
+		return UserPrincipal.builder()
+				.id(userId)
+				.username("user-" + userId)
+				.tenantId(7L)
+				.roles(Set.of(Role.ROLE_MEMBER))
+				.build();
+	}
+}
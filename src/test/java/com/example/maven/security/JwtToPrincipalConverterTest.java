@@ -0,0 +1,79 @@
+package com.example.maven.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.maven.enums.Role;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JwtToPrincipalConverterTest {
+
+	private static final Algorithm ALGORITHM = Algorithm.HMAC256("test-secret");
+
+	private final JwtToPrincipalConverter converter = new JwtToPrincipalConverter();
+
+	@Test
+	void givenRoleMaskClaim_whenConvert_thenRolesAndSharedAuthoritiesResolved() {
+		int mask = Role.toMask(Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN));
+		DecodedJWT jwt = JWT.decode(JWT.create()
+				.withSubject("3")
+				.withClaim("username", "john")
+				.withClaim("companyId", 9L)
+				.withClaim("rm", mask)
+				.withClaim("sv", 4)
+				.sign(ALGORITHM));
+
+		UserPrincipal principal = converter.convert(jwt);
+
+		assertThat(principal.getId()).isEqualTo(3L);
+		assertThat(principal.getTenantId()).isEqualTo(9L);
+		assertThat(principal.getSecurityVersion()).isEqualTo(4);
+		assertThat(principal.getRoles()).containsExactlyInAnyOrder(Role.ROLE_MEMBER, Role.ROLE_ADMIN);
+		assertThat(principal.getAuthorities()).extracting("authority")
+				.containsExactlyInAnyOrder("ROLE_MEMBER", "ROLE_ADMIN");
+		assertThat(principal.getAuthorities()).isSameAs(Role.authorities(mask));
+	}
+
+	@Test
+	void givenLegacyRoleListClaim_whenConvert_thenRolesResolved() {
+		DecodedJWT jwt = JWT.decode(JWT.create()
+				.withSubject("3")
+				.withClaim("username", "john")
+				.withClaim("companyId", 9L)
+				.withClaim("roles", List.of("ROLE_OWNER", "ROLE_MEMBER"))
+				.sign(ALGORITHM));
+
+		UserPrincipal principal = converter.convert(jwt);
+
+		assertThat(principal.getRoles()).containsExactlyInAnyOrder(Role.ROLE_OWNER, Role.ROLE_MEMBER);
+		assertThat(principal.getSecurityVersion()).isZero();
+	}
+
+	@Test
+	void givenIssuedToken_whenDecoded_thenMaskAndLegacyRoleListBothPresent() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecretKey("test-secret");
+		String token = new JwtIssuer(properties).issue(3L, "john", Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN), 9L, 0);
+
+		DecodedJWT jwt = JWT.decode(token);
+
+		assertThat(jwt.getClaim("rm").asInt()).isEqualTo(Role.toMask(Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN)));
+		assertThat(jwt.getClaim("roles").asList(String.class)).containsExactlyInAnyOrder("ROLE_MEMBER", "ROLE_ADMIN");
+		assertThat(converter.convert(jwt).getRoles()).containsExactlyInAnyOrder(Role.ROLE_MEMBER, Role.ROLE_ADMIN);
+	}
+
+	@Test
+	void givenNoRoleClaims_whenConvert_thenNoAuthorities() {
+		DecodedJWT jwt = JWT.decode(JWT.create()
+				.withSubject("3")
+				.withClaim("companyId", 9L)
+				.sign(ALGORITHM));
+
+		assertThat(converter.convert(jwt).getAuthorities()).isEmpty();
+	}
+}
@@ -0,0 +1,88 @@
+package com.example.maven.security;
+
+import com.example.maven.exception.TooManyRequestsException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+class LoginThrottleTest {
+
+	private LoginThrottle loginThrottle;
+
+	@BeforeEach
+	void setUp() {
+		LoginThrottleProperties properties = new LoginThrottleProperties();
+		properties.setWindow(Duration.ofMinutes(1));
+		properties.setMaxAttemptsPerIp(5);
+		properties.setMaxFailuresPerUsername(3);
+		loginThrottle = new LoginThrottle(properties);
+	}
+
+	@Test
+	void givenAttemptsWithinLimit_whenCheck_thenAllowed() {
+		for (int i = 0; i < 3; i++) {
+			loginThrottle.check("10.0.0.1", "john");
+		}
+	}
+
+	@Test
+	void givenTooManyFailuresForUsername_whenCheck_thenRejectedWithRetryAfter() {
+		for (int i = 0; i < 3; i++) {
+			loginThrottle.check("10.0.0." + i, "John");
+			loginThrottle.recordFailure("John");
+		}
+
+		assertThatThrownBy(() -> loginThrottle.check("10.0.0.9", "john"))
+				.isInstanceOf(TooManyRequestsException.class)
+				.satisfies(ex -> assertThat(((TooManyRequestsException) ex).getRetryAfter()).isPositive());
+	}
+
+	@Test
+	void givenSuccessfulLogins_whenCheck_thenUsernameNotLimited() {
+		for (int i = 0; i < 4; i++) {
+			loginThrottle.check("10.0.0." + i, "john");
+			loginThrottle.recordSuccess("john");
+		}
+
+		loginThrottle.check("10.0.0.9", "john");
+	}
+
+	@Test
+	void givenFailuresThenSuccess_whenCheck_thenFailuresReset() {
+		for (int i = 0; i < 2; i++) {
+			loginThrottle.recordFailure("john");
+		}
+		loginThrottle.recordSuccess("john");
+		for (int i = 0; i < 2; i++) {
+			loginThrottle.recordFailure("john");
+		}
+
+		loginThrottle.check("10.0.0.1", "john");
+	}
+
+	@Test
+	void givenTooManyAttemptsFromIp_whenCheck_thenRejectedForAnyUsername() {
+		for (int i = 0; i < 5; i++) {
+			loginThrottle.check("10.0.0.1", "user" + i);
+		}
+
+		assertThatThrownBy(() -> loginThrottle.check("10.0.0.1", "someone-else"))
+				.isInstanceOf(TooManyRequestsException.class);
+		loginThrottle.check("10.0.0.2", "someone-else");
+	}
+
+	@Test
+	void givenLoginAttemptsFromIp_whenCheckTokenEndpoint_thenSameBudgetApplies() {
+		for (int i = 0; i < 4; i++) {
+			loginThrottle.check("10.0.0.1", "user" + i);
+		}
+		loginThrottle.check("10.0.0.1");
+
+		assertThatThrownBy(() -> loginThrottle.check("10.0.0.1"))
+				.isInstanceOf(TooManyRequestsException.class);
+		loginThrottle.check("10.0.0.2");
+	}
+}
@@ -0,0 +1,93 @@
+package com.example.maven.security;
+
+import com.example.maven.enums.Role;
+import com.example.maven.utils.SecurityUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TenantContextTest {
+
+	private final SecurityUtils securityUtils = new SecurityUtils();
+
+	@AfterEach
+	void tearDown() {
+		TenantContext.clear();
+		SecurityContextHolder.clearContext();
+	}
+
+	@Test
+	void givenResolvedContext_whenGetCurrentIds_thenReadFromContext() {
+		TenantContext.set(principal(5L, 42L));
+
+		assertThat(securityUtils.getCurrentTenantId()).isEqualTo(42L);
+		assertThat(securityUtils.getCurrentUserId()).isEqualTo(5L);
+	}
+
+	@Test
+	void givenOnlySecurityContext_whenGetCurrentIds_thenFallsBackToPrincipal() {
+		SecurityContextHolder.getContext().setAuthentication(new UserPrincipalAuthToken(principal(6L, 7L)));
+
+		assertThat(TenantContext.current()).isNull();
+		assertThat(securityUtils.getCurrentTenantId()).isEqualTo(7L);
+		assertThat(securityUtils.getCurrentUserId()).isEqualTo(6L);
+	}
+
+	@Test
+	void givenClearedContext_whenGetCurrentTenantId_thenAccessDenied() {
+		TenantContext.set(principal(5L, 42L));
+		TenantContext.clear();
+
+		assertThatThrownBy(securityUtils::getCurrentTenantId).isInstanceOf(AccessDeniedException.class);
+	}
+
+	@Test
+	void givenContextOnOtherThread_whenCurrent_thenNotVisible() throws InterruptedException {
+		TenantContext.set(principal(5L, 42L));
+		var seen = new Object[1];
+
+		Thread thread = Thread.ofVirtual().start(() -> seen[0] = TenantContext.current());
+		thread.join();
+
+		assertThat(seen[0]).isNull();
+	}
+
+	@Test
+	void givenContextOnRequestThread_whenTaskPropagated_thenOtherThreadRunsWithIt() throws InterruptedException {
+		TenantContext.set(principal(5L, 42L));
+		var seen = new Object[2];
+
+		Runnable task = TenantContext.propagate(() -> seen[0] = TenantContext.current());
+		Thread thread = Thread.ofVirtual().start(() -> {
+			task.run();
+			seen[1] = TenantContext.current();
+		});
+		thread.join();
+
+		assertThat(seen[0]).isEqualTo(new TenantContext(42L, 5L));
+		assertThat(seen[1]).isNull();
+	}
+
+	@Test
+	void givenRunningContext_whenRunUnderAnother_thenPreviousRestored() {
+		TenantContext.set(principal(5L, 42L));
+
+		TenantContext.ofTenant(9L).run(() -> assertThat(securityUtils.getCurrentTenantId()).isEqualTo(9L));
+
+		assertThat(TenantContext.current()).isEqualTo(new TenantContext(42L, 5L));
+	}
+
+	private static UserPrincipal principal(long id, long tenantId) {
+		return UserPrincipal.builder()
+				.id(id)
+				.username("john")
+				.tenantId(tenantId)
+				.roles(Set.of(Role.ROLE_MEMBER))
+				.build();
+	}
+}
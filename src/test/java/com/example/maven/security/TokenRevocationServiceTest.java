@@ -0,0 +1,147 @@
+package com.example.maven.security;
+
+import com.example.maven.enums.Role;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+	@Mock(answer = Answers.RETURNS_DEEP_STUBS) private StringRedisTemplate redisTemplate;
+	@Mock private RedisMessageListenerContainer listenerContainer;
+
+	private TokenRevocationService tokenRevocationService;
+	private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+	@BeforeEach
+	void setUp() {
+		JwtProperties jwtProperties = new JwtProperties();
+		jwtProperties.setAccessTokenTtl(Duration.ofMinutes(15));
+		tokenRevocationService = new TokenRevocationService(redisTemplate, listenerContainer, jwtProperties);
+		tokenRevocationService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	@Test
+	void givenNewService_whenInitialized_thenSubscribedToRevocationsOnlyThen() {
+		verifyNoInteractions(listenerContainer);
+
+		tokenRevocationService.afterPropertiesSet();
+
+		verify(listenerContainer).addMessageListener(eq(tokenRevocationService), any(Topic.class));
+	}
+
+	@Test
+	void givenNoRevocation_whenIsRevoked_thenFalse() {
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 0))).isFalse();
+	}
+
+	@Test
+	void givenRevokedUser_whenIsRevoked_thenOlderTokensRejectedAndNewerAccepted() {
+		tokenRevocationService.revokeUser(1L, 2);
+
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 1))).isTrue();
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 2))).isFalse();
+		assertThat(tokenRevocationService.isRevoked(principal(2L, 0))).isFalse();
+		verify(redisTemplate).convertAndSend("security:token-revocations", "1:2");
+		verify(redisTemplate.opsForHash()).put("security:token-versions", "1", "2:" + now.toEpochMilli());
+	}
+
+	@Test
+	void givenRevocationOlderThanAccessTokenLifetime_whenIsRevoked_thenEntryDropped() {
+		tokenRevocationService.onMessage(message("1:2"), null);
+
+		advance(Duration.ofMinutes(14));
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 1))).isTrue();
+
+		advance(Duration.ofMinutes(2));
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 1))).isFalse();
+	}
+
+	@Test
+	void givenKnownRevocationReapplied_whenLifetimeElapsed_thenStillDropped() {
+		tokenRevocationService.onMessage(message("1:2"), null);
+		advance(Duration.ofMinutes(10));
+		tokenRevocationService.onMessage(message("1:2"), null);
+
+		advance(Duration.ofMinutes(6));
+
+		assertThat(tokenRevocationService.isRevoked(principal(1L, 1))).isFalse();
+	}
+
+	@Test
+	void givenBroadcastFromOtherNode_whenOnMessage_thenAppliedLocally() {
+		tokenRevocationService.onMessage(message("7:" + TokenRevocationService.DELETED_USER_VERSION), null);
+
+		assertThat(tokenRevocationService.isRevoked(principal(7L, 5))).isTrue();
+	}
+
+	@Test
+	void givenStaleBroadcast_whenOnMessage_thenNewerMinimumKept() {
+		tokenRevocationService.onMessage(message("3:4"), null);
+		tokenRevocationService.onMessage(message("3:2"), null);
+
+		assertThat(tokenRevocationService.isRevoked(principal(3L, 3))).isTrue();
+	}
+
+	@Test
+	void givenVersionsInRedis_whenResync_thenLoaded() {
+		when(redisTemplate.<String, String>opsForHash().entries("security:token-versions"))
+				.thenReturn(Map.of("4", "3:" + now.toEpochMilli()));
+
+		tokenRevocationService.resync();
+
+		assertThat(tokenRevocationService.isRevoked(principal(4L, 2))).isTrue();
+	}
+
+	@Test
+	void givenExpiredVersionInRedis_whenResync_thenSkippedAndRemovedFromHash() {
+		long revokedAt = now.minus(Duration.ofMinutes(16)).toEpochMilli();
+		when(redisTemplate.<String, String>opsForHash().entries("security:token-versions"))
+				.thenReturn(Map.of("4", "3:" + revokedAt));
+
+		tokenRevocationService.resync();
+
+		assertThat(tokenRevocationService.isRevoked(principal(4L, 2))).isFalse();
+		verify(redisTemplate.opsForHash()).delete("security:token-versions", "4");
+	}
+
+	private void advance(Duration duration) {
+		now = now.plus(duration);
+		tokenRevocationService.setClock(Clock.fixed(now, ZoneOffset.UTC));
+	}
+
+	private static DefaultMessage message(String body) {
+		return new DefaultMessage("security:token-revocations".getBytes(StandardCharsets.UTF_8),
+				body.getBytes(StandardCharsets.UTF_8));
+	}
+
+	private static UserPrincipal principal(long id, int securityVersion) {
+		return UserPrincipal.builder()
+				.id(id)
+				.username("john")
+				.tenantId(1L)
+				.roles(Set.of(Role.ROLE_MEMBER))
+				.securityVersion(securityVersion)
+				.build();
+	}
+}
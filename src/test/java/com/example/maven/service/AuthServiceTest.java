@@ -1,7 +1,11 @@
 package com.example.maven.service;
 
 import com.example.maven.api.dto.response.LoginResponse;
+import com.example.maven.cache.CacheWarmupService;
+import com.example.maven.enums.Role;
+import com.example.maven.exception.TooManyRequestsException;
 import com.example.maven.security.JwtIssuer;
+import com.example.maven.security.LoginThrottle;
 import com.example.maven.security.UserPrincipal;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,12 +13,13 @@ import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.List;
+import java.time.Duration;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -25,6 +30,10 @@ class AuthServiceTest {
 
     @Mock private AuthenticationManager authenticationManager;
     @Mock private JwtIssuer jwtIssuer;
+    @Mock private LoginThrottle loginThrottle;
+    @Mock private RefreshTokenService refreshTokenService;
+    @Mock private CacheWarmupService cacheWarmupService;
+    @Mock private TenantPurgeService tenantPurgeService;
 
     @InjectMocks
     private AuthService authService;
@@ -46,15 +55,13 @@ class AuthServiceTest {
         long userId = 42L;
         Long tenantId = 7L;
 
-        GrantedAuthority a1 = () -> "ROLE_USER";
-        GrantedAuthority a2 = () -> "ROLE_ADMIN";
-        List<GrantedAuthority> authorities = List.of(a1, a2);
+        Set<Role> roles = Set.of(Role.ROLE_MEMBER, Role.ROLE_ADMIN);
 
         UserPrincipal principal = mock(UserPrincipal.class);
         when(principal.getId()).thenReturn(userId);
         when(principal.getUsername()).thenReturn(username);
         when(principal.getTenantId()).thenReturn(tenantId);
-        doReturn(authorities).when(principal).getAuthorities();
+        when(principal.getRoles()).thenReturn(roles);
 
         Authentication authentication = mock(Authentication.class);
         when(authentication.getPrincipal()).thenReturn(principal);
@@ -63,18 +70,23 @@ class AuthServiceTest {
                 .thenReturn(authentication);
 
         String issuedToken = "jwt-token-123";
-        when(jwtIssuer.issue(userId, username, List.of("ROLE_USER", "ROLE_ADMIN"), tenantId))
+        when(jwtIssuer.issue(userId, username, roles, tenantId, 0))
                 .thenReturn(issuedToken);
+        when(refreshTokenService.issue(userId)).thenReturn("refresh-token-456");
 
-        LoginResponse response = authService.attemptLogin(username, rawPassword);
+        LoginResponse response = authService.attemptLogin(username, rawPassword, "10.0.0.1");
 
         assertThat(response).isNotNull();
         assertThat(response.accessToken()).isEqualTo(issuedToken);
+        assertThat(response.refreshToken()).isEqualTo("refresh-token-456");
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(authentication);
 
+        verify(loginThrottle).check("10.0.0.1", username);
+        verify(loginThrottle).recordSuccess(username);
+        verify(cacheWarmupService).onLogin(principal);
         verify(jwtIssuer).issue(eq(userId), eq(username),
-                eq(List.of("ROLE_USER", "ROLE_ADMIN")), eq(tenantId));
+                eq(roles), eq(tenantId), eq(0));
 
         ArgumentCaptor<UsernamePasswordAuthenticationToken> tokenCaptor =
                 ArgumentCaptor.forClass(UsernamePasswordAuthenticationToken.class);
@@ -89,12 +101,63 @@ class AuthServiceTest {
         when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
                 .thenThrow(new BadCredentialsException("Bad credentials"));
 
-        assertThatThrownBy(() -> authService.attemptLogin("john", "wrong"))
+        assertThatThrownBy(() -> authService.attemptLogin("john", "wrong", "10.0.0.1"))
                 .isInstanceOf(BadCredentialsException.class)
                 .hasMessageContaining("Bad credentials");
 
         assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
 
-        verifyNoInteractions(jwtIssuer);
+        verify(loginThrottle).recordFailure("john");
+        verify(loginThrottle, never()).recordSuccess(any());
+        verifyNoInteractions(jwtIssuer, refreshTokenService, cacheWarmupService);
+    }
+
+    @Test
+    void givenCompanyBeingDeleted_whenAttemptLogin_thenDisabledAndNoTokenIssued() {
+        UserPrincipal principal = mock(UserPrincipal.class);
+        when(principal.getTenantId()).thenReturn(7L);
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(authentication);
+        when(tenantPurgeService.isPurging(7L)).thenReturn(true);
+
+        assertThatThrownBy(() -> authService.attemptLogin("john", "p@ss", "10.0.0.1"))
+                .isInstanceOf(DisabledException.class)
+                .hasMessage("Company is being deleted");
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(jwtIssuer, refreshTokenService, cacheWarmupService);
+    }
+
+    @Test
+    void givenThrottledClient_whenAttemptLogin_thenRejectedBeforeAuthentication() {
+        doThrow(new TooManyRequestsException("Too many login attempts, try again later", Duration.ofSeconds(30)))
+                .when(loginThrottle).check("10.0.0.1", "john");
+
+        assertThatThrownBy(() -> authService.attemptLogin("john", "p@ss", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verifyNoInteractions(authenticationManager, jwtIssuer);
+    }
+
+    @Test
+    void givenRefreshToken_whenRefresh_thenClientCheckedAndTokenRotated() {
+        LoginResponse rotated = new LoginResponse("access", "refresh");
+        when(refreshTokenService.refresh("refresh-token-456")).thenReturn(rotated);
+
+        assertThat(authService.refresh("refresh-token-456", "10.0.0.1")).isEqualTo(rotated);
+        verify(loginThrottle).check("10.0.0.1");
+    }
+
+    @Test
+    void givenThrottledClient_whenRefresh_thenRejectedBeforeTokenLookup() {
+        doThrow(new TooManyRequestsException("Too many authentication attempts, try again later", Duration.ofSeconds(30)))
+                .when(loginThrottle).check("10.0.0.1");
+
+        assertThatThrownBy(() -> authService.refresh("guess", "10.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        verifyNoInteractions(refreshTokenService);
     }
 }
@@ -4,6 +4,8 @@ import com.example.maven.api.dto.request.comment.CommentCreateDto;
 import com.example.maven.api.dto.request.comment.CommentUpdateDto;
 import com.example.maven.api.dto.response.CommentResponseDto;
 import com.example.maven.api.mapper.CommentMapper;
+import com.example.maven.cache.ListCacheInvalidator;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Comment;
 import com.example.maven.persistence.entity.Company;
@@ -36,6 +38,8 @@ class CommentServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private CommentMapper commentMapper;
     @Mock private SecurityUtils securityUtils;
+    @Mock private ListCacheInvalidator listCacheInvalidator;
+    @Mock private NotFoundGuard notFoundGuard;
 
     @InjectMocks
     private CommentService commentService;
@@ -51,7 +55,6 @@ class CommentServiceTest {
     void setUp() {
         // Mock instance methods instead of static
         when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
-        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
 
         company = new Company(); company.setId(TENANT_ID);
         task = new Task(); task.setId(10L);
@@ -63,6 +66,7 @@ class CommentServiceTest {
     // createComment
     @Test
     void givenValidDto_whenCreateComment_thenMapsSavesAndReturnsDto() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         CommentCreateDto dto = mock(CommentCreateDto.class);
         when(dto.taskId()).thenReturn(10L);
 
@@ -82,6 +86,7 @@ class CommentServiceTest {
         assertThat(result).isEqualTo(response);
         verify(commentMapper).fromCreateDto(dto, task, company, author);
         verify(commentRepository).save(mapped);
+        verify(listCacheInvalidator).evictTaskComments(TENANT_ID, 10L);
     }
 
     @Test
@@ -113,6 +118,7 @@ class CommentServiceTest {
 
     @Test
     void givenMissingAuthor_whenCreateComment_thenThrowsNotFound() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         CommentCreateDto dto = mock(CommentCreateDto.class);
         when(dto.taskId()).thenReturn(10L);
         when(taskRepository.findByIdAndCompany_Id(10L, TENANT_ID)).thenReturn(Optional.of(task));
@@ -129,18 +135,17 @@ class CommentServiceTest {
     // findCommentById
     @Test
     void givenExistingComment_whenFindCommentById_thenReturnDto() {
-        Comment c = new Comment(); c.setId(5L);
         CommentResponseDto response = mock(CommentResponseDto.class);
 
-        when(commentRepository.findByIdAndCompany_Id(5L, TENANT_ID)).thenReturn(Optional.of(c));
-        when(commentMapper.toResponseDto(c)).thenReturn(response);
+        when(commentRepository.findResponseByIdAndCompanyId(5L, TENANT_ID)).thenReturn(Optional.of(response));
 
         assertThat(commentService.findCommentById(5L)).isEqualTo(response);
+        verifyNoInteractions(commentMapper);
     }
 
     @Test
     void givenMissingComment_whenFindCommentById_thenThrowNotFound() {
-        when(commentRepository.findByIdAndCompany_Id(404L, TENANT_ID)).thenReturn(Optional.empty());
+        when(commentRepository.findResponseByIdAndCompanyId(404L, TENANT_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.findCommentById(404L))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -149,30 +154,28 @@ class CommentServiceTest {
 
     // findAllCommentsByTaskId
     @Test
-    void givenTaskId_whenFindAllCommentsByTaskId_thenMapsAll() {
-        Comment c1 = new Comment(); c1.setId(1L);
-        Comment c2 = new Comment(); c2.setId(2L);
+    void givenTaskId_whenFindAllCommentsByTaskId_thenReturnsProjectedRows() {
         CommentResponseDto d1 = mock(CommentResponseDto.class);
         CommentResponseDto d2 = mock(CommentResponseDto.class);
 
-        when(commentRepository.findAllByTask_IdAndCompany_Id(10L, TENANT_ID)).thenReturn(List.of(c1, c2));
-        when(commentMapper.toResponseDto(c1)).thenReturn(d1);
-        when(commentMapper.toResponseDto(c2)).thenReturn(d2);
+        when(commentRepository.findResponsesByTaskIdAndCompanyId(10L, TENANT_ID)).thenReturn(List.of(d1, d2));
 
         List<CommentResponseDto> result = commentService.findAllCommentsByTaskId(10L);
 
         assertThat(result).containsExactly(d1, d2);
-        verify(commentRepository).findAllByTask_IdAndCompany_Id(10L, TENANT_ID);
+        verifyNoInteractions(commentMapper);
     }
 
     // updateMyCommentById
     @Test
     void givenAuthorIsCurrentUser_whenUpdateMyCommentById_thenUpdatesAndReturnsDto() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         long id = 12L;
         CommentUpdateDto dto = mock(CommentUpdateDto.class);
 
         Comment existing = new Comment(); existing.setId(id);
         existing.setAuthor(author);
+        existing.setTask(task);
 
         Comment saved = new Comment(); saved.setId(id);
         CommentResponseDto response = mock(CommentResponseDto.class);
@@ -187,10 +190,12 @@ class CommentServiceTest {
         assertThat(result).isEqualTo(response);
         verify(commentMapper).updateFromDto(existing, dto);
         verify(commentRepository).save(existing);
+        verify(listCacheInvalidator).evictTaskComments(TENANT_ID, 10L);
     }
 
     @Test
     void givenNotAuthor_whenUpdateMyCommentById_thenThrowsAccessDenied() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         long id = 13L;
         Comment existing = new Comment(); existing.setId(id);
         User another = new User(); another.setId(555L);
@@ -207,6 +212,7 @@ class CommentServiceTest {
 
     @Test
     void givenMissingComment_whenUpdateMyCommentById_thenThrowsNotFound() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         when(commentRepository.findByIdAndCompany_Id(404L, TENANT_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.updateMyCommentById(404L, mock(CommentUpdateDto.class)))
@@ -217,19 +223,23 @@ class CommentServiceTest {
     // deleteMyCommentById
     @Test
     void givenAuthorIsCurrentUser_whenDeleteMyCommentById_thenDeletes() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         long id = 21L;
         Comment existing = new Comment(); existing.setId(id);
         existing.setAuthor(author);
+        existing.setTask(task);
 
         when(commentRepository.findByIdAndCompany_Id(id, TENANT_ID)).thenReturn(Optional.of(existing));
 
         commentService.deleteMyCommentById(id);
 
         verify(commentRepository).delete(existing);
+        verify(listCacheInvalidator).evictTaskComments(TENANT_ID, 10L);
     }
 
     @Test
     void givenNotAuthor_whenDeleteMyCommentById_thenThrowsAccessDenied() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         long id = 22L;
         Comment existing = new Comment(); existing.setId(id);
         User another = new User(); another.setId(1L);
@@ -245,6 +255,7 @@ class CommentServiceTest {
 
     @Test
     void givenMissingComment_whenDeleteMyCommentById_thenThrowsNotFound() {
+        when(securityUtils.getCurrentUserId()).thenReturn(CURRENT_USER_ID);
         when(commentRepository.findByIdAndCompany_Id(23L, TENANT_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> commentService.deleteMyCommentById(23L))
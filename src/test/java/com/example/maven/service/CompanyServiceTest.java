@@ -4,10 +4,14 @@ import com.example.maven.api.dto.request.company.CompanyCreateDto;
 import com.example.maven.api.dto.request.user.UserCreateDto;
 import com.example.maven.api.dto.request.user.UserUpdateRolesDto;
 import com.example.maven.api.dto.response.CompanyResponseDto;
+import com.example.maven.api.dto.response.TenantPurgeResponseDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.CompanyMapper;
 import com.example.maven.enums.Role;
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
 import com.example.maven.persistence.entity.Company;
+import com.example.maven.persistence.entity.TenantPurge;
 import com.example.maven.persistence.repository.CompanyRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -25,6 +29,7 @@ class CompanyServiceTest {
     @Mock private CompanyRepository companyRepository;
     @Mock private CompanyMapper companyMapper;
     @Mock private UserService userService;
+    @Mock private TenantPurgeService tenantPurgeService;
 
     @InjectMocks
     private CompanyService companyService;
@@ -69,10 +74,25 @@ class CompanyServiceTest {
     }
 
     @Test
-    void givenCompanyId_whenDeleteCompany_thenRepositoryDeleteByIdCalled() {
-        companyService.deleteCompany(77L);
+    void givenCompanyId_whenDeleteCompany_thenPurgeRequestedAndNothingDeletedInline() {
+        var purge = new TenantPurge(); purge.setCompanyId(77L);
+        var purgeResponse = new TenantPurgeResponseDto(purge.getPublicId(), 77L, TenantPurgeStatus.QUEUED, TenantPurgeStep.COMMENTS, 0, null, null, null);
+        when(tenantPurgeService.requestPurge(77L)).thenReturn(purge);
+        when(companyMapper.toPurgeResponseDto(purge)).thenReturn(purgeResponse);
 
-        verify(companyRepository).deleteById(77L);
-        verifyNoMoreInteractions(companyRepository);
+        TenantPurgeResponseDto result = companyService.deleteCompany(77L);
+
+        assertThat(result).isEqualTo(purgeResponse);
+        verifyNoInteractions(companyRepository);
+    }
+
+    @Test
+    void givenDeletionId_whenFindCompanyDeletion_thenPurgeProgressReturned() {
+        var purge = new TenantPurge(); purge.setCompanyId(77L); purge.setDeletedRows(1_500);
+        var purgeResponse = new TenantPurgeResponseDto(purge.getPublicId(), 77L, TenantPurgeStatus.RUNNING, TenantPurgeStep.TASKS, 1_500, null, null, null);
+        when(tenantPurgeService.findPurge(purge.getPublicId())).thenReturn(purge);
+        when(companyMapper.toPurgeResponseDto(purge)).thenReturn(purgeResponse);
+
+        assertThat(companyService.findCompanyDeletion(purge.getPublicId())).isEqualTo(purgeResponse);
     }
 }
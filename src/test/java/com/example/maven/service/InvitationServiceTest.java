@@ -5,6 +5,10 @@ import com.example.maven.api.dto.request.invitation.InvitationCreateDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.InvitationMapper;
 import com.example.maven.api.mapper.UserMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.ExistenceFilter;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Company;
 import com.example.maven.persistence.entity.Invitation;
@@ -12,17 +16,22 @@ import com.example.maven.persistence.entity.User;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.InvitationRepository;
 import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.TokenRevocationService;
 import com.example.maven.utils.SecurityUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -39,6 +48,9 @@ class InvitationServiceTest {
 	@Mock private EmailService emailService;
 	@Mock private PasswordEncoder passwordEncoder;
 	@Mock private SecurityUtils securityUtils;
+	@Mock private CachedListPatcher cachedListPatcher;
+	@Mock private NotFoundGuard notFoundGuard;
+	@Mock private TenantPurgeService tenantPurgeService;
 
 	@InjectMocks
 	private InvitationService invitationService;
@@ -51,7 +63,6 @@ class InvitationServiceTest {
 	@BeforeEach
 	void setUp() {
 		securityUtilsMock = mockStatic(SecurityUtils.class);
-		securityUtilsMock.when(securityUtils::getCurrentTenantId).thenReturn(TENANT_ID);
 
 		company = new Company();
 		company.setId(TENANT_ID);
@@ -68,6 +79,7 @@ class InvitationServiceTest {
 	@Test
 	void givenValidDto_whenInviteUser_thenTokenAndExpirySet_andEmailSentWithLink() {
 		InvitationCreateDto dto = mock(InvitationCreateDto.class);
+		securityUtilsMock.when(securityUtils::getCurrentTenantId).thenReturn(TENANT_ID);
 		Invitation emptyInvitation = new Invitation();
 		emptyInvitation.setEmail("to@example.com");
 
@@ -104,6 +116,7 @@ class InvitationServiceTest {
 	@Test
 	void givenNoCompany_whenInviteUser_thenThrowsNotFound_andNoEmailSent() {
 		InvitationCreateDto dto = mock(InvitationCreateDto.class);
+		securityUtilsMock.when(securityUtils::getCurrentTenantId).thenReturn(TENANT_ID);
 		when(companyRepository.findById(TENANT_ID)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> invitationService.inviteUser(dto))
@@ -124,6 +137,7 @@ class InvitationServiceTest {
 		inv.setEmail("new@user.com");
 		inv.setAccepted(false);
 		inv.setExpiresAt(LocalDateTime.now().plusHours(1));
+		inv.setCompany(company);
 
 		when(invitationRepository.findByToken("token-123")).thenReturn(Optional.of(inv));
 
@@ -147,6 +161,46 @@ class InvitationServiceTest {
 
 		verify(invitationRepository, times(1)).save(any(Invitation.class));
 		verify(userRepository).save(mappedUser);
+		verify(notFoundGuard).created(EntityKind.USER, TENANT_ID, 777L);
+		verify(cachedListPatcher).upsert(eq("companyUsers"), eq(TENANT_ID), eq(response), any());
+	}
+
+	@Test
+	void givenAcceptedInvitation_whenFindNewUserById_thenFoundDespiteFilterBuiltBefore() {
+		securityUtilsMock.when(securityUtils::getCurrentTenantId).thenReturn(TENANT_ID);
+		// A ready existence filter of the tenant that only knows the ids added to it
+		ExistenceFilter existenceFilter = mock(ExistenceFilter.class);
+		Set<Long> filteredIds = new HashSet<>();
+		doAnswer(a -> filteredIds.add(a.getArgument(2))).when(existenceFilter).add(eq(EntityKind.USER), eq(TENANT_ID), anyLong());
+		when(existenceFilter.mightExist(eq(EntityKind.USER), eq(TENANT_ID), anyLong()))
+				.thenAnswer(a -> filteredIds.contains(a.<Long>getArgument(2)));
+		var guard = new NotFoundGuard(new ConcurrentMapCacheManager(), existenceFilter, new SimpleMeterRegistry());
+		var invitations = new InvitationService(invitationRepository, invitationMapper, companyRepository, userRepository,
+				userMapper, emailService, passwordEncoder, securityUtils, cachedListPatcher, guard, tenantPurgeService);
+		var users = new UserService(userRepository, userMapper, companyRepository, passwordEncoder, securityUtils,
+				mock(TokenRevocationService.class), cachedListPatcher, guard);
+
+		InvitationAcceptDto dto = mock(InvitationAcceptDto.class);
+		when(dto.password()).thenReturn("raw-pass");
+		Invitation inv = new Invitation();
+		inv.setCompany(company);
+		inv.setExpiresAt(LocalDateTime.now().plusHours(1));
+		when(invitationRepository.findByToken("token-123")).thenReturn(Optional.of(inv));
+		User mappedUser = new User();
+		when(invitationMapper.fromAcceptDto(dto, inv)).thenReturn(mappedUser);
+		when(userRepository.save(mappedUser)).thenAnswer(a -> {
+			User u = a.getArgument(0);
+			u.setId(777L);
+			return u;
+		});
+		UserResponseDto response = new UserResponseDto(777L, "login", "name", "new@user.com", Set.of());
+		when(userMapper.toResponseDto(mappedUser)).thenReturn(response);
+		when(userRepository.findResponseByIdAndCompanyId(777L, TENANT_ID)).thenReturn(Optional.of(response));
+
+		assertThatThrownBy(() -> users.findById(777L)).isInstanceOf(ResourceNotFoundException.class);
+		invitations.acceptInvitation("token-123", dto);
+
+		assertThat(users.findById(777L)).isEqualTo(response);
 	}
 
 	@Test
@@ -175,6 +229,23 @@ class InvitationServiceTest {
 		verify(userRepository, never()).save(any());
 	}
 
+	@Test
+	void givenCompanyBeingDeleted_whenAcceptInvitation_thenThrowsAccessDenied() {
+		Invitation inv = new Invitation();
+		inv.setAccepted(false);
+		inv.setExpiresAt(LocalDateTime.now().plusDays(1));
+		inv.setCompany(company);
+
+		when(invitationRepository.findByToken("t")).thenReturn(Optional.of(inv));
+		when(tenantPurgeService.isPurging(TENANT_ID)).thenReturn(true);
+
+		assertThatThrownBy(() -> invitationService.acceptInvitation("t", mock(InvitationAcceptDto.class)))
+				.isInstanceOf(AccessDeniedException.class)
+				.hasMessage("Company is being deleted");
+
+		verify(userRepository, never()).save(any());
+	}
+
 	@Test
 	void givenAlreadyAcceptedInvitation_whenAcceptInvitation_thenThrowsAccessDenied() {
 		Invitation inv = new Invitation();
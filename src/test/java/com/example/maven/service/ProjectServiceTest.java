@@ -4,6 +4,8 @@ import com.example.maven.api.dto.request.project.ProjectCreateDto;
 import com.example.maven.api.dto.request.project.ProjectUpdateDto;
 import com.example.maven.api.dto.response.ProjectResponseDto;
 import com.example.maven.api.mapper.ProjectMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Company;
 import com.example.maven.persistence.entity.Project;
@@ -29,6 +31,8 @@ class ProjectServiceTest {
     @Mock private ProjectMapper projectMapper;
     @Mock private CompanyRepository companyRepository;
     @Mock private SecurityUtils securityUtils;
+    @Mock private CachedListPatcher cachedListPatcher;
+    @Mock private NotFoundGuard notFoundGuard;
 
     @InjectMocks
     private ProjectService projectService;
@@ -66,6 +70,7 @@ class ProjectServiceTest {
         assertThat(mapped.getCompany()).isEqualTo(company);
         assertThat(result).isEqualTo(response);
         verify(projectRepository).save(mapped);
+        verify(cachedListPatcher).upsert(eq("companyProjects"), eq(TENANT_ID), eq(response), any());
     }
 
     @Test
@@ -83,18 +88,17 @@ class ProjectServiceTest {
     // findById
     @Test
     void givenExistingProject_whenFindById_thenReturnDto() {
-        Project p = new Project(); p.setId(5L);
         ProjectResponseDto dto = mock(ProjectResponseDto.class);
 
-        when(projectRepository.findByIdAndCompany_Id(5L, TENANT_ID)).thenReturn(Optional.of(p));
-        when(projectMapper.toResponseDto(p)).thenReturn(dto);
+        when(projectRepository.findResponseByIdAndCompanyId(5L, TENANT_ID)).thenReturn(Optional.of(dto));
 
         assertThat(projectService.findById(5L)).isEqualTo(dto);
+        verifyNoInteractions(projectMapper);
     }
 
     @Test
     void givenMissingProject_whenFindById_thenThrowNotFound() {
-        when(projectRepository.findByIdAndCompany_Id(404L, TENANT_ID)).thenReturn(Optional.empty());
+        when(projectRepository.findResponseByIdAndCompanyId(404L, TENANT_ID)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> projectService.findById(404L))
                 .isInstanceOf(ResourceNotFoundException.class)
@@ -103,20 +107,16 @@ class ProjectServiceTest {
 
     // findAllProjects
     @Test
-    void givenTenant_whenFindAllProjects_thenMapsAll() {
-        Project p1 = new Project(); p1.setId(1L);
-        Project p2 = new Project(); p2.setId(2L);
+    void givenTenant_whenFindAllProjects_thenReturnsProjectedRows() {
         ProjectResponseDto d1 = mock(ProjectResponseDto.class);
         ProjectResponseDto d2 = mock(ProjectResponseDto.class);
 
-        when(projectRepository.findAllByCompany_Id(TENANT_ID)).thenReturn(List.of(p1, p2));
-        when(projectMapper.toResponseDto(p1)).thenReturn(d1);
-        when(projectMapper.toResponseDto(p2)).thenReturn(d2);
+        when(projectRepository.findResponsesByCompanyId(TENANT_ID)).thenReturn(List.of(d1, d2));
 
         List<ProjectResponseDto> result = projectService.findAllProjects();
 
         assertThat(result).containsExactly(d1, d2);
-        verify(projectRepository).findAllByCompany_Id(TENANT_ID);
+        verifyNoInteractions(projectMapper);
     }
 
     // updateProject
@@ -159,6 +159,7 @@ class ProjectServiceTest {
         projectService.deleteProject(11L);
 
         verify(projectRepository).delete(existing);
+        verify(cachedListPatcher).remove(eq("companyProjects"), eq(TENANT_ID), eq(11L), any());
     }
 
     @Test
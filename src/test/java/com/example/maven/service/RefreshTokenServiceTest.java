@@ -0,0 +1,158 @@
+package com.example.maven.service;
+
+import com.example.maven.api.dto.response.LoginResponse;
+import com.example.maven.enums.Role;
+import com.example.maven.persistence.entity.Company;
+import com.example.maven.persistence.entity.RefreshToken;
+import com.example.maven.persistence.entity.User;
+import com.example.maven.persistence.repository.RefreshTokenRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.JwtIssuer;
+import com.example.maven.security.JwtProperties;
+import com.example.maven.security.TokenDigests;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.*;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+	@Mock private RefreshTokenRepository refreshTokenRepository;
+	@Mock private UserRepository userRepository;
+	@Mock private JwtIssuer jwtIssuer;
+	@Mock private TenantPurgeService tenantPurgeService;
+	@Spy private JwtProperties properties = new JwtProperties();
+
+	@InjectMocks
+	private RefreshTokenService refreshTokenService;
+
+	private static final long TENANT_ID = 5L;
+	private static final String RAW_TOKEN = "raw-refresh-token";
+
+	private User user;
+
+	@BeforeEach
+	void setUp() {
+		Company company = new Company();
+		company.setId(TENANT_ID);
+
+		user = new User();
+		user.setId(11L);
+		user.setUsername("john");
+		user.setCompany(company);
+		user.setRoles(Set.of(Role.ROLE_MEMBER));
+	}
+
+	@Test
+	void givenUser_whenIssue_thenOnlyHashIsStored() {
+		when(userRepository.getReferenceById(11L)).thenReturn(user);
+
+		String token = refreshTokenService.issue(11L);
+
+		ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(refreshTokenRepository).save(saved.capture());
+		assertThat(saved.getValue().getTokenHash()).isEqualTo(TokenDigests.sha256(token)).isNotEqualTo(token);
+		assertThat(saved.getValue().getUser()).isSameAs(user);
+		assertThat(saved.getValue().getCompany().getId()).isEqualTo(TENANT_ID);
+		assertThat(saved.getValue().getExpiresAt()).isAfter(LocalDateTime.now());
+	}
+
+	@Test
+	void givenActiveToken_whenRefresh_thenRotatedWithinSameFamily() {
+		RefreshToken current = stored(false, LocalDateTime.now().plusDays(1));
+		when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(RAW_TOKEN))).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.revokeIfActive(1L)).thenReturn(1);
+		when(jwtIssuer.issue(11L, "john", Set.of(Role.ROLE_MEMBER), TENANT_ID, 0)).thenReturn("access");
+
+		LoginResponse response = refreshTokenService.refresh(RAW_TOKEN);
+
+		assertThat(response.accessToken()).isEqualTo("access");
+		assertThat(response.refreshToken()).isNotBlank().isNotEqualTo(RAW_TOKEN);
+		ArgumentCaptor<RefreshToken> saved = ArgumentCaptor.forClass(RefreshToken.class);
+		verify(refreshTokenRepository).save(saved.capture());
+		assertThat(saved.getValue().getFamilyId()).isEqualTo("family-1");
+		verify(refreshTokenRepository, never()).revokeFamily(any());
+	}
+
+	@Test
+	void givenRevokedToken_whenRefresh_thenFamilyRevokedAndRejected() {
+		RefreshToken current = stored(true, LocalDateTime.now().plusDays(1));
+		when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(RAW_TOKEN))).thenReturn(Optional.of(current));
+
+		assertThatThrownBy(() -> refreshTokenService.refresh(RAW_TOKEN))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessageContaining("reuse");
+
+		verify(refreshTokenRepository).revokeFamily("family-1");
+		verifyNoInteractions(jwtIssuer);
+	}
+
+	@Test
+	void givenConcurrentlyRotatedToken_whenRefresh_thenFamilyRevokedAndRejected() {
+		RefreshToken current = stored(false, LocalDateTime.now().plusDays(1));
+		when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(RAW_TOKEN))).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.revokeIfActive(1L)).thenReturn(0);
+
+		assertThatThrownBy(() -> refreshTokenService.refresh(RAW_TOKEN))
+				.isInstanceOf(BadCredentialsException.class);
+
+		verify(refreshTokenRepository).revokeFamily("family-1");
+	}
+
+	@Test
+	void givenExpiredToken_whenRefresh_thenRejected() {
+		RefreshToken current = stored(false, LocalDateTime.now().minusMinutes(1));
+		when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(RAW_TOKEN))).thenReturn(Optional.of(current));
+		when(refreshTokenRepository.revokeIfActive(1L)).thenReturn(1);
+
+		assertThatThrownBy(() -> refreshTokenService.refresh(RAW_TOKEN))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessageContaining("expired");
+
+		verifyNoInteractions(jwtIssuer);
+	}
+
+	@Test
+	void givenCompanyBeingDeleted_whenRefresh_thenRejectedWithoutRotation() {
+		RefreshToken current = stored(false, LocalDateTime.now().plusDays(1));
+		when(refreshTokenRepository.findByTokenHash(TokenDigests.sha256(RAW_TOKEN))).thenReturn(Optional.of(current));
+		when(tenantPurgeService.isPurging(TENANT_ID)).thenReturn(true);
+
+		assertThatThrownBy(() -> refreshTokenService.refresh(RAW_TOKEN))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("Company is being deleted");
+
+		verify(refreshTokenRepository, never()).revokeIfActive(anyLong());
+		verify(refreshTokenRepository, never()).save(any());
+		verifyNoInteractions(jwtIssuer);
+	}
+
+	@Test
+	void givenUnknownToken_whenRefresh_thenRejected() {
+		when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> refreshTokenService.refresh("unknown"))
+				.isInstanceOf(BadCredentialsException.class);
+	}
+
+	private RefreshToken stored(boolean revoked, LocalDateTime expiresAt) {
+		RefreshToken token = new RefreshToken();
+		token.setId(1L);
+		token.setUser(user);
+		token.setCompany(user.getCompany());
+		token.setFamilyId("family-1");
+		token.setRevoked(revoked);
+		token.setExpiresAt(expiresAt);
+		return token;
+	}
+}
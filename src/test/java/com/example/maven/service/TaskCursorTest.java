@@ -0,0 +1,41 @@
+package com.example.maven.service;
+
+import com.example.maven.enums.TaskSort;
+import com.example.maven.exception.InvalidRequestException;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TaskCursorTest {
+
+	@Test
+	void givenCursor_whenEncodedAndDecoded_thenSamePosition() {
+		var cursor = new TaskCursor(TaskSort.NEWEST, 42L, LocalDateTime.of(2025, 1, 1, 10, 0, 0, 123_000).toString());
+
+		assertThat(TaskCursor.decode(cursor.encode(), TaskSort.NEWEST)).isEqualTo(cursor);
+	}
+
+	@Test
+	void givenNameWithSeparator_whenEncodedAndDecoded_thenNameKept() {
+		var cursor = new TaskCursor(TaskSort.NAME, 7L, "a|b");
+
+		assertThat(TaskCursor.decode(cursor.encode(), TaskSort.NAME)).isEqualTo(cursor);
+	}
+
+	@Test
+	void givenCursorOfOtherSort_whenDecoded_thenRejected() {
+		String cursor = new TaskCursor(TaskSort.NAME, 7L, "a").encode();
+
+		assertThatThrownBy(() -> TaskCursor.decode(cursor, TaskSort.NEWEST))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessageContaining("NAME");
+	}
+
+	@Test
+	void givenGarbage_whenDecoded_thenRejected() {
+		assertThatThrownBy(() -> TaskCursor.decode("%%%", TaskSort.NEWEST)).isInstanceOf(InvalidRequestException.class);
+		assertThatThrownBy(() -> TaskCursor.decode("Tk9QRQ", TaskSort.NEWEST)).isInstanceOf(InvalidRequestException.class);
+	}
+}
@@ -1,10 +1,19 @@
 package com.example.maven.service;
 
+import com.example.maven.api.dto.request.task.TaskBatchUpdateItemDto;
+import com.example.maven.api.dto.request.task.TaskBulkUpdateDto;
 import com.example.maven.api.dto.request.task.TaskCreateDto;
+import com.example.maven.api.dto.request.task.TaskPageRequest;
 import com.example.maven.api.dto.request.task.TaskUpdateDto;
+import com.example.maven.api.dto.response.TaskPageResponseDto;
 import com.example.maven.api.dto.response.TaskResponseDto;
 import com.example.maven.api.mapper.TaskMapper;
+import com.example.maven.cache.EntityKind;
+import com.example.maven.cache.ListCacheInvalidator;
+import com.example.maven.cache.NotFoundGuard;
+import com.example.maven.enums.TaskSort;
 import com.example.maven.enums.TaskStatus;
+import com.example.maven.exception.InvalidRequestException;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Company;
 import com.example.maven.persistence.entity.Project;
@@ -12,19 +21,29 @@ import com.example.maven.persistence.entity.Task;
 import com.example.maven.persistence.entity.User;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.TaskBulkChanges;
+import com.example.maven.persistence.repository.TaskBulkSelection;
 import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.TaskRepositoryCustom.TaskRef;
 import com.example.maven.persistence.repository.UserRepository;
 import com.example.maven.utils.SecurityUtils;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +55,8 @@ class TaskServiceTest {
 	@Mock private CompanyRepository companyRepository;
 	@Mock private UserRepository userRepository;
 	@Mock private SecurityUtils securityUtils;
+	@Mock private ListCacheInvalidator listCacheInvalidator;
+	@Mock private NotFoundGuard notFoundGuard;
 
 	@InjectMocks
 	private TaskService taskService;
@@ -47,6 +68,14 @@ class TaskServiceTest {
 
 	private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 10, 0);
 
+	private static TaskResponseDto row(long id, LocalDateTime createdAt) {
+		return new TaskResponseDto(id, "T" + id, "d" + id, 0L, TaskStatus.TODO, createdAt, null);
+	}
+
+	private static TaskPageRequest pageRequest(Long projectId, int size, String cursor) {
+		return new TaskPageRequest(projectId, null, null, null, null, TaskSort.NEWEST, size, cursor);
+	}
+
 	@BeforeEach
 	void setUp() {
 		// Mock instance method instead of static
@@ -86,6 +115,7 @@ class TaskServiceTest {
 		assertThat(result).isEqualTo(response);
 		verify(taskMapper).fromCreateDto(dto, project, company, assignee);
 		verify(taskRepository).save(mapped);
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, project.getId());
 	}
 
 	@Test
@@ -151,57 +181,248 @@ class TaskServiceTest {
 				.hasMessageContaining("Assignee not found");
 	}
 
-	// findAllTasksByProjectId
+	// createTasks
 	@Test
-	void givenNullProjectId_whenFindAllTasksByProjectId_thenReturnAllByCompany() {
-		Task t1 = new Task(); t1.setId(1L);
-		Task t2 = new Task(); t2.setId(2L);
-		TaskResponseDto d1 = new TaskResponseDto(1L, "A", "dA", 0L, TaskStatus.TODO, BASE_TIME, BASE_TIME.plusDays(1));
-		TaskResponseDto d2 = new TaskResponseDto(2L, "B", "dB", 0L, TaskStatus.IN_PROGRESS, BASE_TIME, BASE_TIME.plusDays(2));
-
-		when(taskRepository.findAllByCompany_Id(TENANT_ID)).thenReturn(List.of(t1, t2));
+	void givenTasksOfTwoProjects_whenCreateTasks_thenOneLookupPerTypeAndOneInvalidation() {
+		Project other = new Project(); other.setId(11L);
+		User assignee = new User(); assignee.setId(3L);
+		TaskCreateDto first = mock(TaskCreateDto.class);
+		when(first.getProjectId()).thenReturn(10L);
+		when(first.getAssigneeId()).thenReturn(3L);
+		TaskCreateDto second = mock(TaskCreateDto.class);
+		when(second.getProjectId()).thenReturn(11L);
+		when(second.getAssigneeId()).thenReturn(0L);
+		Task t1 = new Task(); t1.setId(100L);
+		Task t2 = new Task(); t2.setId(101L);
+		TaskResponseDto d1 = row(100L, BASE_TIME);
+		TaskResponseDto d2 = row(101L, BASE_TIME);
+
+		when(projectRepository.findAllByIdInAndCompany_Id(Set.of(10L, 11L), TENANT_ID)).thenReturn(List.of(project, other));
+		when(companyRepository.findById(TENANT_ID)).thenReturn(Optional.of(company));
+		when(userRepository.findAllByIdInAndCompany_Id(Set.of(3L), TENANT_ID)).thenReturn(List.of(assignee));
+		when(taskMapper.fromCreateDto(first, project, company, assignee)).thenReturn(t1);
+		when(taskMapper.fromCreateDto(second, other, company, null)).thenReturn(t2);
+		when(taskRepository.saveAll(List.of(t1, t2))).thenReturn(List.of(t1, t2));
 		when(taskMapper.toResponseDto(t1)).thenReturn(d1);
 		when(taskMapper.toResponseDto(t2)).thenReturn(d2);
 
-		List<TaskResponseDto> result = taskService.findAllTasksByProjectId(null);
+		assertThat(taskService.createTasks(List.of(first, second))).containsExactly(d1, d2);
+		verify(projectRepository, never()).findByIdAndCompany_Id(anyLong(), anyLong());
+		verify(userRepository, never()).findByIdAndCompany_Id(anyLong(), anyLong());
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, Set.of(10L, 11L));
+		verify(notFoundGuard).created(EntityKind.TASK, TENANT_ID, List.of(100L, 101L));
+	}
+
+	@Test
+	void givenUnknownProjectsInBatch_whenCreateTasks_thenNotFoundNamingThem_andNothingSaved() {
+		TaskCreateDto known = mock(TaskCreateDto.class);
+		when(known.getProjectId()).thenReturn(10L);
+		TaskCreateDto unknown = mock(TaskCreateDto.class);
+		when(unknown.getProjectId()).thenReturn(99L);
+
+		when(projectRepository.findAllByIdInAndCompany_Id(Set.of(10L, 99L), TENANT_ID)).thenReturn(List.of(project));
 
-		assertThat(result).containsExactly(d1, d2);
-		verify(taskRepository).findAllByCompany_Id(TENANT_ID);
+		assertThatThrownBy(() -> taskService.createTasks(List.of(known, unknown)))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Projects not found: [99]");
+		verify(taskRepository, never()).saveAll(any());
 	}
 
+	// updateTasks
 	@Test
-	void givenProjectId_whenFindAllTasksByProjectId_thenReturnOnlyProjectTasks() {
-		Task t1 = new Task(); t1.setId(10L);
-		TaskResponseDto d1 = new TaskResponseDto(10L, "P", "dp", 0L, TaskStatus.DONE, BASE_TIME, BASE_TIME.plusDays(5));
+	void givenBatch_whenUpdateTasks_thenChangedInPlaceAndTouchedEntriesEvicted() {
+		Task t1 = new Task(); t1.setId(1L); t1.setProject(project);
+		Task t2 = new Task(); t2.setId(2L); t2.setProject(project);
+		User assignee = new User(); assignee.setId(3L);
+		TaskBatchUpdateItemDto first = mock(TaskBatchUpdateItemDto.class);
+		when(first.getId()).thenReturn(1L);
+		when(first.getAssigneeId()).thenReturn(3L);
+		TaskBatchUpdateItemDto second = mock(TaskBatchUpdateItemDto.class);
+		when(second.getId()).thenReturn(2L);
+
+		when(taskRepository.findAllByIdInAndCompany_Id(Set.of(1L, 2L), TENANT_ID)).thenReturn(List.of(t2, t1));
+		when(userRepository.findAllByIdInAndCompany_Id(Set.of(3L), TENANT_ID)).thenReturn(List.of(assignee));
+		when(taskMapper.toResponseDto(any(Task.class))).thenAnswer(inv -> row(inv.<Task>getArgument(0).getId(), BASE_TIME));
+
+		List<TaskResponseDto> result = taskService.updateTasks(List.of(first, second));
+
+		assertThat(result).extracting(TaskResponseDto::id).containsExactly(1L, 2L);
+		assertThat(t1.getAssignee()).isSameAs(assignee);
+		verify(taskMapper).updateFromDto(t1, first);
+		verify(taskMapper).updateFromDto(t2, second);
+		verify(taskRepository, never()).save(any());
+		verify(listCacheInvalidator).evictTasks(TENANT_ID, Set.of(1L, 2L));
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, Set.of(10L));
+	}
 
-		when(taskRepository.findAllByCompany_IdAndProject_Id(TENANT_ID, 55L)).thenReturn(List.of(t1));
-		when(taskMapper.toResponseDto(t1)).thenReturn(d1);
+	@Test
+	void givenDuplicateIds_whenUpdateTasks_thenInvalidRequestBeforeQuery() {
+		TaskBatchUpdateItemDto first = mock(TaskBatchUpdateItemDto.class);
+		when(first.getId()).thenReturn(1L);
+		TaskBatchUpdateItemDto again = mock(TaskBatchUpdateItemDto.class);
+		when(again.getId()).thenReturn(1L);
+
+		assertThatThrownBy(() -> taskService.updateTasks(List.of(first, again)))
+				.isInstanceOf(InvalidRequestException.class)
+				.hasMessageContaining("Task 1");
+		verifyNoInteractions(taskRepository);
+	}
+
+	// bulkUpdateTasks
+	@Test
+	void givenFilterAndMove_whenBulkUpdateTasks_thenOneUpdateAndEachProjectEvictedOnce() {
+		Project target = new Project(); target.setId(20L);
+		var dto = new TaskBulkUpdateDto(
+				new TaskBulkUpdateDto.Filter(null, null, TaskStatus.IN_PROGRESS, null),
+				new TaskBulkUpdateDto.Changes(TaskStatus.DONE, 0L, 20L));
+
+		when(projectRepository.findByIdAndCompany_Id(20L, TENANT_ID)).thenReturn(Optional.of(target));
+		when(taskRepository.updateAll(any(), any())).thenReturn(List.of(
+				new TaskRef(1L, 10L), new TaskRef(2L, 10L), new TaskRef(3L, 11L)));
+
+		assertThat(taskService.bulkUpdateTasks(dto).updated()).isEqualTo(3);
+		// No ids in the filter, so none are sent: the statement selects by the criteria alone
+		verify(taskRepository).updateAll(new TaskBulkSelection(TENANT_ID, null, null, TaskStatus.IN_PROGRESS, null),
+				new TaskBulkChanges(TaskStatus.DONE, true, null, target));
+		verifyNoMoreInteractions(taskRepository);
+		verify(userRepository, never()).findByIdAndCompany_Id(anyLong(), anyLong());
+		verify(listCacheInvalidator).evictTasks(TENANT_ID, List.of(1L, 2L, 3L));
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, Set.of(10L, 11L, 20L));
+	}
+
+	@Test
+	void givenNoMatchingTasks_whenBulkUpdateTasks_thenNoUpdateAndNoEviction() {
+		var dto = new TaskBulkUpdateDto(
+				new TaskBulkUpdateDto.Filter(List.of(5L, 6L), null, null, null),
+				new TaskBulkUpdateDto.Changes(TaskStatus.DONE, null, null));
+
+		when(taskRepository.updateAll(any(), any())).thenReturn(List.of());
+
+		assertThat(taskService.bulkUpdateTasks(dto).updated()).isZero();
+		verify(taskRepository).updateAll(eq(new TaskBulkSelection(TENANT_ID, List.of(5L, 6L), null, null, null)), any());
+		verifyNoInteractions(listCacheInvalidator);
+	}
+
+	@Test
+	void givenEmptyIdsAndOtherCriteria_whenBulkUpdateTasks_thenSelectedWithoutIdList() {
+		var dto = new TaskBulkUpdateDto(
+				new TaskBulkUpdateDto.Filter(List.of(), 10L, null, 0L),
+				new TaskBulkUpdateDto.Changes(TaskStatus.DONE, null, null));
+
+		when(taskRepository.updateAll(any(), any())).thenReturn(List.of());
+		taskService.bulkUpdateTasks(dto);
 
-		List<TaskResponseDto> result = taskService.findAllTasksByProjectId(55L);
+		verify(taskRepository).updateAll(eq(new TaskBulkSelection(TENANT_ID, null, 10L, null, 0L)), any());
+	}
 
-		assertThat(result).containsExactly(d1);
-		verify(taskRepository).findAllByCompany_IdAndProject_Id(TENANT_ID, 55L);
+	@Test
+	void givenEmptyFilter_whenBulkUpdateTasks_thenInvalidRequestBeforeQuery() {
+		var dto = new TaskBulkUpdateDto(
+				new TaskBulkUpdateDto.Filter(List.of(), null, null, null),
+				new TaskBulkUpdateDto.Changes(TaskStatus.DONE, null, null));
+
+		assertThatThrownBy(() -> taskService.bulkUpdateTasks(dto))
+				.isInstanceOf(InvalidRequestException.class);
+		verifyNoInteractions(taskRepository);
+	}
+
+	@Test
+	void givenAssigneeOfOtherTenant_whenBulkUpdateTasks_thenNotFoundAndNothingUpdated() {
+		var dto = new TaskBulkUpdateDto(
+				new TaskBulkUpdateDto.Filter(null, 10L, null, null),
+				new TaskBulkUpdateDto.Changes(null, 8L, null));
+
+		when(userRepository.findByIdAndCompany_Id(8L, TENANT_ID)).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> taskService.bulkUpdateTasks(dto))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("Assignee not found");
+		verifyNoInteractions(taskRepository);
+	}
+
+	// findTaskPage
+	@Test
+	void givenMoreRowsThanPageSize_whenFindTaskPage_thenPageAndCursorOfLastRow() {
+		TaskResponseDto d1 = row(1L, BASE_TIME.plusHours(2));
+		TaskResponseDto d2 = row(2L, BASE_TIME.plusHours(1));
+		TaskResponseDto d3 = row(3L, BASE_TIME);
+
+		when(taskRepository.findResponses(any(Specification.class), eq(TaskCursor.order(TaskSort.NEWEST)), eq(3)))
+				.thenReturn(List.of(d1, d2, d3));
+
+		TaskPageResponseDto page = taskService.findTaskPage(pageRequest(55L, 2, null));
+
+		assertThat(page.items()).containsExactly(d1, d2);
+		assertThat(TaskCursor.decode(page.nextCursor(), TaskSort.NEWEST))
+				.isEqualTo(new TaskCursor(TaskSort.NEWEST, 2L, BASE_TIME.plusHours(1).toString()));
+	}
+
+	@Test
+	void givenLastRows_whenFindTaskPage_thenNoNextCursor() {
+		TaskResponseDto d1 = row(1L, BASE_TIME);
+
+		when(taskRepository.findResponses(any(Specification.class), any(), eq(3))).thenReturn(List.of(d1));
+
+		TaskPageResponseDto page = taskService.findTaskPage(pageRequest(null, 2, null));
+
+		assertThat(page.items()).containsExactly(d1);
+		assertThat(page.nextCursor()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void givenAssigneeIdZero_whenFindTaskPage_thenUnassignedTasksSelected() {
+		var request = new TaskPageRequest(null, null, 0L, null, null, TaskSort.NEWEST, 2, null);
+		ArgumentCaptor<Specification<Task>> selection = ArgumentCaptor.forClass(Specification.class);
+		when(taskRepository.findResponses(selection.capture(), any(), eq(3))).thenReturn(List.of());
+
+		taskService.findTaskPage(request);
+
+		Root<Task> root = mock(Root.class, RETURNS_DEEP_STUBS);
+		CriteriaBuilder cb = mock(CriteriaBuilder.class, RETURNS_DEEP_STUBS);
+		Path<Object> assignee = root.get("assignee");
+		selection.getValue().toPredicate(root, null, cb);
+
+		verify(cb).isNull(assignee);
+		verify(cb, never()).equal(any(Expression.class), eq(0L));
+	}
+
+	@Test
+	void givenMalformedCursor_whenFindTaskPage_thenInvalidRequestBeforeQuery() {
+		assertThatThrownBy(() -> taskService.findTaskPage(pageRequest(null, 2, "not-a-cursor")))
+				.isInstanceOf(InvalidRequestException.class);
+		verifyNoInteractions(taskRepository);
 	}
 
 	// findTaskById
 	@Test
 	void givenExistingTask_whenFindTaskById_thenReturnDto() {
-		Task t = new Task(); t.setId(7L);
 		TaskResponseDto dto = new TaskResponseDto(7L, "X", "dx", 0L, TaskStatus.TODO, BASE_TIME, BASE_TIME.plusDays(2));
 
-		when(taskRepository.findByIdAndCompany_Id(7L, TENANT_ID)).thenReturn(Optional.of(t));
-		when(taskMapper.toResponseDto(t)).thenReturn(dto);
+		when(taskRepository.findResponseByIdAndCompanyId(7L, TENANT_ID)).thenReturn(Optional.of(dto));
 
 		assertThat(taskService.findTaskById(7L)).isEqualTo(dto);
+		verifyNoInteractions(taskMapper);
 	}
 
 	@Test
 	void givenMissingTask_whenFindTaskById_thenThrowNotFound() {
-		when(taskRepository.findByIdAndCompany_Id(404L, TENANT_ID)).thenReturn(Optional.empty());
+		when(taskRepository.findResponseByIdAndCompanyId(404L, TENANT_ID)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> taskService.findTaskById(404L))
 				.isInstanceOf(ResourceNotFoundException.class)
 				.hasMessageContaining("Task not found");
+		verify(notFoundGuard).recordMissing(EntityKind.TASK, TENANT_ID, 404L);
+	}
+
+	@Test
+	void givenKnownMissingTask_whenFindTaskById_thenRejectedWithoutQuery() {
+		doThrow(new ResourceNotFoundException("Task not found"))
+				.when(notFoundGuard).check(EntityKind.TASK, TENANT_ID, 404L);
+
+		assertThatThrownBy(() -> taskService.findTaskById(404L))
+				.isInstanceOf(ResourceNotFoundException.class);
+		verifyNoInteractions(taskRepository);
 	}
 
 	// updateTaskById
@@ -209,7 +430,7 @@ class TaskServiceTest {
 	void givenExistingTaskAndDto_whenUpdateTaskById_thenMapperAppliesAndSaves() {
 		long id = 12L;
 		TaskUpdateDto dto = mock(TaskUpdateDto.class);
-		Task existing = new Task(); existing.setId(id);
+		Task existing = new Task(); existing.setId(id); existing.setProject(project);
 		Task saved = new Task(); saved.setId(id);
 		TaskResponseDto resp = new TaskResponseDto(id, "Upd", "du", 0L, TaskStatus.IN_PROGRESS, BASE_TIME, BASE_TIME.plusDays(4));
 
@@ -223,6 +444,7 @@ class TaskServiceTest {
 		assertThat(result).isEqualTo(resp);
 		verify(taskMapper).updateFromDto(existing, dto);
 		verify(taskRepository).save(existing);
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, project.getId());
 	}
 
 	@Test
@@ -237,12 +459,14 @@ class TaskServiceTest {
 	// deleteTaskById
 	@Test
 	void givenExistingTask_whenDeleteTaskById_thenRepositoryDeleteCalled() {
-		Task t = new Task(); t.setId(20L);
+		Task t = new Task(); t.setId(20L); t.setProject(project);
 		when(taskRepository.findByIdAndCompany_Id(20L, TENANT_ID)).thenReturn(Optional.of(t));
 
 		taskService.deleteTaskById(20L);
 
 		verify(taskRepository).delete(t);
+		verify(listCacheInvalidator).evictProjectTasks(TENANT_ID, project.getId());
+		verify(listCacheInvalidator).evictTaskComments(TENANT_ID, 20L);
 	}
 
 	@Test
@@ -0,0 +1,249 @@
+package com.example.maven.service;
+
+import com.example.maven.cache.RedisKeyLock;
+import com.example.maven.cache.TenantCachePurger;
+import com.example.maven.enums.TenantPurgeStatus;
+import com.example.maven.enums.TenantPurgeStep;
+import com.example.maven.exception.ResourceNotFoundException;
+import com.example.maven.persistence.entity.TenantPurge;
+import com.example.maven.persistence.repository.CommentRepository;
+import com.example.maven.persistence.repository.CompanyRepository;
+import com.example.maven.persistence.repository.InvitationRepository;
+import com.example.maven.persistence.repository.ProjectRepository;
+import com.example.maven.persistence.repository.RefreshTokenRepository;
+import com.example.maven.persistence.repository.TaskRepository;
+import com.example.maven.persistence.repository.TenantPurgeRepository;
+import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.TokenRevocationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TenantPurgeServiceTest {
+	private static final long COMPANY_ID = 7L;
+	private static final String LOCK_KEY = "lock:tenant-purge:7";
+
+	@Mock private TenantPurgeRepository tenantPurgeRepository;
+	@Mock private CompanyRepository companyRepository;
+	@Mock private CommentRepository commentRepository;
+	@Mock private TaskRepository taskRepository;
+	@Mock private ProjectRepository projectRepository;
+	@Mock private InvitationRepository invitationRepository;
+	@Mock private RefreshTokenRepository refreshTokenRepository;
+	@Mock private UserRepository userRepository;
+	@Mock private TokenRevocationService tokenRevocationService;
+	@Mock private TenantCachePurger tenantCachePurger;
+	@Mock private RedisKeyLock redisKeyLock;
+	@Mock private PlatformTransactionManager transactionManager;
+
+	private SimpleMeterRegistry meterRegistry;
+	private TenantPurgeService tenantPurgeService;
+
+	@BeforeEach
+	void setUp() {
+		var properties = new TenantPurgeProperties();
+		properties.setChunkSize(2);
+		properties.setPauseBetweenChunks(Duration.ZERO);
+		meterRegistry = new SimpleMeterRegistry();
+		tenantPurgeService = new TenantPurgeService(tenantPurgeRepository, companyRepository, commentRepository,
+				taskRepository, projectRepository, invitationRepository, refreshTokenRepository, userRepository,
+				tokenRevocationService, tenantCachePurger, redisKeyLock, properties, meterRegistry, transactionManager);
+	}
+
+	@Test
+	void givenCompanyWithoutPurge_whenRequestPurge_thenQueuedPurgeSavedAndTenantBlocked() {
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.empty());
+		when(companyRepository.existsById(COMPANY_ID)).thenReturn(true);
+		when(tenantPurgeRepository.save(any(TenantPurge.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(userRepository.findIdsByCompanyId(COMPANY_ID)).thenReturn(List.of(5L, 6L));
+
+		TenantPurge purge = tenantPurgeService.requestPurge(COMPANY_ID);
+
+		assertThat(purge.getCompanyId()).isEqualTo(COMPANY_ID);
+		assertThat(purge.getPublicId()).hasSize(36);
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.QUEUED);
+		assertThat(purge.getStep()).isEqualTo(TenantPurgeStep.COMMENTS);
+		verify(refreshTokenRepository).revokeAllByCompanyId(COMPANY_ID);
+		verify(tokenRevocationService).revokeUser(5L, TokenRevocationService.DELETED_USER_VERSION);
+		verify(tokenRevocationService).revokeUser(6L, TokenRevocationService.DELETED_USER_VERSION);
+		// Started by the scan once the start delay has passed, never from the request
+		verifyNoInteractions(commentRepository, redisKeyLock);
+	}
+
+	@Test
+	void givenUnknownCompany_whenRequestPurge_thenResourceNotFound() {
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.empty());
+		when(companyRepository.existsById(COMPANY_ID)).thenReturn(false);
+
+		assertThatThrownBy(() -> tenantPurgeService.requestPurge(COMPANY_ID))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Company not found");
+		verify(tenantPurgeRepository, never()).save(any());
+	}
+
+	@Test
+	void givenRequestedPurge_whenRequestPurgeAgain_thenExistingPurgeReturnedAndNothingRevokedAgain() {
+		var purge = purge(TenantPurgeStatus.RUNNING, TenantPurgeStep.USERS);
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+
+		assertThat(tenantPurgeService.requestPurge(COMPANY_ID)).isSameAs(purge);
+
+		verify(tenantPurgeRepository, never()).save(any());
+		verifyNoInteractions(companyRepository, refreshTokenRepository, tokenRevocationService);
+	}
+
+	@Test
+	void givenPurgeId_whenFindPurge_thenPurgeReturned() {
+		var purge = purge(TenantPurgeStatus.RUNNING, TenantPurgeStep.TASKS);
+		when(tenantPurgeRepository.findByPublicId(purge.getPublicId())).thenReturn(Optional.of(purge));
+
+		assertThat(tenantPurgeService.findPurge(purge.getPublicId())).isSameAs(purge);
+	}
+
+	@Test
+	void givenUnknownPurgeId_whenFindPurge_thenResourceNotFound() {
+		when(tenantPurgeRepository.findByPublicId("unknown")).thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> tenantPurgeService.findPurge("unknown"))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessage("Company deletion not found");
+	}
+
+	@Test
+	void givenQueuedPurge_whenRun_thenEveryStepDeletedInChunksInOrderAndCachesPurged() {
+		var purge = purge(TenantPurgeStatus.QUEUED, TenantPurgeStep.COMMENTS);
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.of("token"));
+		when(redisKeyLock.extend(eq(LOCK_KEY), eq("token"), any(Duration.class))).thenReturn(true);
+		when(commentRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class)))
+				.thenReturn(List.of(1L, 2L), List.of(3L), List.of());
+		when(taskRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of(10L), List.of());
+		when(projectRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of());
+		when(invitationRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of());
+		when(refreshTokenRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of());
+		when(userRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of(5L), List.of());
+		when(companyRepository.existsById(COMPANY_ID)).thenReturn(true, false);
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		InOrder inOrder = inOrder(commentRepository, taskRepository, userRepository, companyRepository, tenantCachePurger, redisKeyLock);
+		inOrder.verify(commentRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		inOrder.verify(commentRepository).deleteAllByIdInBatch(List.of(3L));
+		inOrder.verify(taskRepository).deleteAllByIdInBatch(List.of(10L));
+		inOrder.verify(userRepository).deleteAllByIdInBatch(List.of(5L));
+		inOrder.verify(companyRepository).deleteAllByIdInBatch(List.of(COMPANY_ID));
+		inOrder.verify(tenantCachePurger).purge(COMPANY_ID);
+		inOrder.verify(redisKeyLock).unlock(LOCK_KEY, "token");
+		verify(projectRepository, never()).deleteAllByIdInBatch(anyList());
+		verify(tokenRevocationService).revokeUser(5L, TokenRevocationService.DELETED_USER_VERSION);
+
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.COMPLETED);
+		assertThat(purge.getStep()).isEqualTo(TenantPurgeStep.CACHES);
+		assertThat(purge.getDeletedRows()).isEqualTo(6);
+		assertThat(purge.getFinishedAt()).isNotNull();
+		assertThat(meterRegistry.counter("tenant.purge.rows", "step", "comments").count()).isEqualTo(3);
+	}
+
+	@Test
+	void givenPurgeStoppedAtUsers_whenRun_thenResumedFromThatStep() {
+		var purge = purge(TenantPurgeStatus.RUNNING, TenantPurgeStep.USERS);
+		purge.setDeletedRows(40);
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.of("token"));
+		when(redisKeyLock.extend(eq(LOCK_KEY), eq("token"), any(Duration.class))).thenReturn(true);
+		when(userRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of());
+		when(companyRepository.existsById(COMPANY_ID)).thenReturn(false);
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		verifyNoInteractions(commentRepository, taskRepository, projectRepository, invitationRepository, refreshTokenRepository);
+		verify(tenantCachePurger).purge(COMPANY_ID);
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.COMPLETED);
+		assertThat(purge.getDeletedRows()).isEqualTo(40);
+	}
+
+	@Test
+	void givenFailedPurge_whenRun_thenRetriedFromItsStep() {
+		var purge = purge(TenantPurgeStatus.FAILED, TenantPurgeStep.USERS);
+		purge.setLastError("connection reset");
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.of("token"));
+		when(redisKeyLock.extend(eq(LOCK_KEY), eq("token"), any(Duration.class))).thenReturn(true);
+		when(userRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of());
+		when(companyRepository.existsById(COMPANY_ID)).thenReturn(false);
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		verifyNoInteractions(commentRepository, taskRepository);
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.COMPLETED);
+		assertThat(purge.getLastError()).isNull();
+	}
+
+	@Test
+	void givenStepBlockedByForeignKey_whenRun_thenFailedAtThatStepWithoutStartingOver() {
+		var purge = purge(TenantPurgeStatus.QUEUED, TenantPurgeStep.TASKS);
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.of("token"));
+		when(taskRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of(10L));
+		doThrow(new DataIntegrityViolationException("comments_task_id_fkey")).when(taskRepository).deleteAllByIdInBatch(List.of(10L));
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		verifyNoInteractions(commentRepository);
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.FAILED);
+		assertThat(purge.getStep()).isEqualTo(TenantPurgeStep.TASKS);
+		verify(redisKeyLock).unlock(LOCK_KEY, "token");
+	}
+
+	@Test
+	void givenDeleteFails_whenRun_thenPurgeFailedWithErrorAndLockReleased() {
+		var purge = purge(TenantPurgeStatus.QUEUED, TenantPurgeStep.PROJECTS);
+		when(tenantPurgeRepository.findByCompanyId(COMPANY_ID)).thenReturn(Optional.of(purge));
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.of("token"));
+		when(projectRepository.findIdsByCompanyId(eq(COMPANY_ID), any(Pageable.class))).thenReturn(List.of(4L));
+		doThrow(new IllegalStateException("connection reset")).when(projectRepository).deleteAllByIdInBatch(List.of(4L));
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		assertThat(purge.getStatus()).isEqualTo(TenantPurgeStatus.FAILED);
+		assertThat(purge.getStep()).isEqualTo(TenantPurgeStep.PROJECTS);
+		assertThat(purge.getLastError()).isEqualTo("connection reset");
+		verify(redisKeyLock).unlock(LOCK_KEY, "token");
+		verifyNoInteractions(tenantCachePurger);
+	}
+
+	@Test
+	void givenLockHeldByOtherNode_whenRun_thenNothingDeleted() {
+		when(redisKeyLock.tryLock(eq(LOCK_KEY), any(Duration.class), eq(Duration.ZERO))).thenReturn(Optional.empty());
+
+		tenantPurgeService.run(COMPANY_ID);
+
+		verifyNoInteractions(tenantPurgeRepository, commentRepository, tenantCachePurger);
+		verify(redisKeyLock, never()).unlock(anyString(), anyString());
+	}
+
+	private static TenantPurge purge(TenantPurgeStatus status, TenantPurgeStep step) {
+		var purge = new TenantPurge();
+		purge.setId(1L);
+		purge.setCompanyId(COMPANY_ID);
+		purge.setStatus(status);
+		purge.setStep(step);
+		return purge;
+	}
+}
@@ -5,12 +5,15 @@ import com.example.maven.api.dto.request.user.UserUpdateDto;
 import com.example.maven.api.dto.request.user.UserUpdateRolesDto;
 import com.example.maven.api.dto.response.UserResponseDto;
 import com.example.maven.api.mapper.UserMapper;
+import com.example.maven.cache.CachedListPatcher;
+import com.example.maven.cache.NotFoundGuard;
 import com.example.maven.enums.Role;
 import com.example.maven.exception.ResourceNotFoundException;
 import com.example.maven.persistence.entity.Company;
 import com.example.maven.persistence.entity.User;
 import com.example.maven.persistence.repository.CompanyRepository;
 import com.example.maven.persistence.repository.UserRepository;
+import com.example.maven.security.TokenRevocationService;
 import com.example.maven.utils.SecurityUtils;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,6 +35,9 @@ class UserServiceTest {
 	@Mock private CompanyRepository companyRepository;
 	@Mock private PasswordEncoder passwordEncoder;
 	@Mock private SecurityUtils securityUtils;
+	@Mock private TokenRevocationService tokenRevocationService;
+	@Mock private CachedListPatcher cachedListPatcher;
+	@Mock private NotFoundGuard notFoundGuard;
 
 	@InjectMocks
 	private UserService userService;
@@ -42,9 +48,6 @@ class UserServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		// Mock instance methods instead of static
-		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
-
 		company = new Company();
 		company.setId(TENANT_ID);
 	}
@@ -54,6 +57,7 @@ class UserServiceTest {
 	// createUser
 	@Test
 	void givenValidDtoAndTenant_whenCreateUser_thenSavesWithEncodedPassword_andReturnsDto() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		UserCreateDto dto = new UserCreateDto("u1","User One","u1@mail.com","pass123");
 		User mapped = new User();
 		User saved = new User();
@@ -76,6 +80,7 @@ class UserServiceTest {
 
 	@Test
 	void givenNoCompanyForTenant_whenCreateUser_thenThrowsAccessDenied() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		UserCreateDto dto = new UserCreateDto("u1","User One","u1@mail.com","pass123");
 		when(userMapper.fromCreateDto(dto)).thenReturn(new User());
 		when(companyRepository.findById(TENANT_ID)).thenReturn(Optional.empty());
@@ -87,12 +92,17 @@ class UserServiceTest {
 
 	@Test
 	void givenCreateUser_whenSaveCalled_thenEncodedPasswordActuallyPersisted() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		UserCreateDto dto = new UserCreateDto("u1","User One","u1@mail.com","pass123");
 		User mapped = new User();
 		when(userMapper.fromCreateDto(dto)).thenReturn(mapped);
 		when(passwordEncoder.encode("pass123")).thenReturn("$2b$enc");
 		when(companyRepository.findById(TENANT_ID)).thenReturn(Optional.of(company));
-		when(userRepository.save(any(User.class))).thenAnswer(inv -> inv.getArgument(0));
+		when(userRepository.save(any(User.class))).thenAnswer(inv -> {
+			User saved = inv.getArgument(0);
+			saved.setId(1L);
+			return saved;
+		});
 		when(userMapper.toResponseDto(any())).thenReturn(
 				new UserResponseDto(1L,"u1","User One","u1@mail.com", Set.of())
 		);
@@ -130,17 +140,17 @@ class UserServiceTest {
 	// findById
 	@Test
 	void givenExistingUser_whenFindById_thenReturnsDto() {
-		User u = new User(); u.setId(10L);
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		UserResponseDto dto = new UserResponseDto(10L,"u","U","u@x", Set.of());
-		when(userRepository.findByIdAndCompany_Id(10L, TENANT_ID)).thenReturn(Optional.of(u));
-		when(userMapper.toResponseDto(u)).thenReturn(dto);
+		when(userRepository.findResponseByIdAndCompanyId(10L, TENANT_ID)).thenReturn(Optional.of(dto));
 
 		assertThat(userService.findById(10L)).isEqualTo(dto);
 	}
 
 	@Test
 	void givenMissingUser_whenFindById_thenThrowsNotFound() {
-		when(userRepository.findByIdAndCompany_Id(99L, TENANT_ID)).thenReturn(Optional.empty());
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
+		when(userRepository.findResponseByIdAndCompanyId(99L, TENANT_ID)).thenReturn(Optional.empty());
 		assertThatThrownBy(() -> userService.findById(99L))
 				.isInstanceOf(ResourceNotFoundException.class)
 				.hasMessageContaining("User not found");
@@ -148,22 +158,22 @@ class UserServiceTest {
 
 	// findCompanyUsers
 	@Test
-	void givenTenant_whenFindCompanyUsers_thenMapsAll() {
-		User u1 = new User(); u1.setId(1L);
-		User u2 = new User(); u2.setId(2L);
-		when(userRepository.findAllByCompany_Id(TENANT_ID)).thenReturn(List.of(u1, u2));
-		when(userMapper.toResponseDto(u1)).thenReturn(new UserResponseDto(1L,"a","A","a@x", Set.of()));
-		when(userMapper.toResponseDto(u2)).thenReturn(new UserResponseDto(2L,"b","B","b@x", Set.of()));
+	void givenTenant_whenFindCompanyUsers_thenReturnsProjectedRows() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
+		when(userRepository.findResponsesByCompanyId(TENANT_ID)).thenReturn(List.of(
+				new UserResponseDto(1L,"a","A","a@x", Set.of()),
+				new UserResponseDto(2L,"b","B","b@x", Set.of())));
 
 		List<UserResponseDto> result = userService.findCompanyUsers();
 
 		assertThat(result).hasSize(2);
-		verify(userRepository).findAllByCompany_Id(TENANT_ID);
+		verifyNoInteractions(userMapper);
 	}
 
 	// updateUser
 	@Test
 	void givenExistingUserAndUpdateDto_whenUpdateUser_thenSaves_andReturnsDto() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		long id = 5L;
 		UserUpdateDto dto = mock(UserUpdateDto.class);
 		User existing = new User(); existing.setId(id);
@@ -185,6 +195,7 @@ class UserServiceTest {
 	// updateUserRolesById
 	@Test
 	void givenExistingUserAndRolesDto_whenUpdateUserRolesById_thenRolesUpdated_andDtoReturned() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		long id = 9L;
 		User existing = new User(); existing.setId(id);
 		User saved = new User(); saved.setId(id);
@@ -201,14 +212,16 @@ class UserServiceTest {
 
 		assertThat(result).isEqualTo(response);
 		assertThat(existing.getRoles()).containsExactlyInAnyOrder(Role.ROLE_MEMBER, Role.ROLE_ADMIN);
+		assertThat(existing.getSecurityVersion()).isEqualTo(1);
 		verify(userRepository).save(existing);
+		verify(tokenRevocationService).revokeUser(id, 1);
 	}
 
 	// updateUserRolesByIdWithoutSecurity
 	@Test
 	void givenExistingUser_whenUpdateUserRolesByIdWithoutSecurity_thenPersistsRoles() {
 		long userId = 11L;
-		User existing = new User(); existing.setId(userId);
+		User existing = new User(); existing.setId(userId); existing.setCompany(company);
 		UserUpdateRolesDto rolesDto = new UserUpdateRolesDto(Set.of(Role.ROLE_OWNER));
 
 		when(userRepository.findById(userId)).thenReturn(Optional.of(existing));
@@ -233,6 +246,7 @@ class UserServiceTest {
 	// deleteUser
 	@Test
 	void givenExistingUser_whenDeleteUser_thenRepositoryDeleteCalled() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		long id = 15L;
 		User existing = new User(); existing.setId(id);
 		when(userRepository.findByIdAndCompany_Id(id, TENANT_ID)).thenReturn(Optional.of(existing));
@@ -240,10 +254,13 @@ class UserServiceTest {
 		userService.deleteUser(id);
 
 		verify(userRepository).delete(existing);
+		verify(tokenRevocationService).revokeUser(id, TokenRevocationService.DELETED_USER_VERSION);
+		verify(cachedListPatcher).remove(eq("companyUsers"), eq(TENANT_ID), eq(id), any());
 	}
 
 	@Test
 	void givenMissingUser_whenDeleteUser_thenThrowsNotFound() {
+		when(securityUtils.getCurrentTenantId()).thenReturn(TENANT_ID);
 		when(userRepository.findByIdAndCompany_Id(123L, TENANT_ID)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> userService.deleteUser(123L))